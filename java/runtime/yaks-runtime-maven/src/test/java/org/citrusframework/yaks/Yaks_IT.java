@@ -23,7 +23,11 @@ import org.junit.runner.RunWith;
 
 @RunWith(Cucumber.class)
 @CucumberOptions(
-        plugin = { "pretty", "org.citrusframework.yaks.report.TestReporter" }
+        plugin = {
+            "pretty",
+            "org.citrusframework.yaks.report.TestReporter",
+            "org.citrusframework.yaks.groovy.GroovyScriptPreloader"
+        }
 )
 public class Yaks_IT {
 }
@@ -38,11 +38,11 @@ import io.cucumber.java.en.Then;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.yaks.camelk.actions.integration.CreateIntegrationAction;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.actions.CleanupResourcesAction;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
 import static com.consol.citrus.container.Assert.Builder.assertException;
-import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.camelk.actions.CamelKActionBuilder.camelk;
 
 public class CamelKSteps {
@@ -155,8 +155,7 @@ public class CamelKSteps {
                     .source(source));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(name)));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteIntegration(name));
         }
 	}
 
@@ -238,8 +237,7 @@ public class CamelKSteps {
         runner.run(create);
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(configuration.getOrDefault("name", name))));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteIntegration(configuration.getOrDefault("name", name)));
         }
     }
 }
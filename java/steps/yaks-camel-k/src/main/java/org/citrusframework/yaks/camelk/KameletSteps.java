@@ -37,11 +37,11 @@ import org.citrusframework.yaks.camelk.model.KameletSpec;
 import org.citrusframework.yaks.kafka.KafkaSettings;
 import org.citrusframework.yaks.knative.KnativeSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.actions.CleanupResourcesAction;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.camelk.actions.CamelKActionBuilder.camelk;
 
 
@@ -201,8 +201,7 @@ public class KameletSteps {
                 .resource(resource));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKamelet(fileName)));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteKamelet(fileName));
         }
     }
 
@@ -215,8 +214,7 @@ public class KameletSteps {
                 .resource(resource));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKameletBinding(fileName)));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteKameletBinding(fileName));
         }
     }
 
@@ -239,8 +237,7 @@ public class KameletSteps {
         initializeKameletBuilder();
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKamelet(name)));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteKamelet(name));
         }
 	}
 
@@ -268,8 +265,7 @@ public class KameletSteps {
         initializeKameletBindingBuilder();
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKameletBinding(name)));
+            CleanupResourcesAction.register(runner, camelk().client(k8sClient).deleteKameletBinding(name));
         }
     }
 
@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.camelk.actions.integration;
 
 import com.consol.citrus.context.TestContext;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.camelk.CamelKSettings;
 import org.citrusframework.yaks.camelk.CamelKSupport;
@@ -44,6 +45,7 @@ public class DeleteIntegrationAction extends AbstractCamelKAction {
         getKubernetesClient().customResources(ctx, Integration.class, IntegrationList.class)
                 .inNamespace(CamelKSettings.getNamespace())
                 .withName(integrationName)
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
                 .delete();
     }
 
@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.camelk.actions.kamelet;
 
 import com.consol.citrus.context.TestContext;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.camelk.CamelKSettings;
 import org.citrusframework.yaks.camelk.CamelKSupport;
@@ -45,6 +46,7 @@ public class DeleteKameletAction extends AbstractCamelKAction {
         getKubernetesClient().customResources(ctx, Kamelet.class, KameletList.class)
                 .inNamespace(CamelKSettings.getNamespace())
                 .withName(kameletName)
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
                 .delete();
     }
 
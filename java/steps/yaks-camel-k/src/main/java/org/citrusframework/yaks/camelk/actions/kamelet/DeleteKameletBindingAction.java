@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.camelk.actions.kamelet;
 
 import com.consol.citrus.context.TestContext;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.camelk.CamelKSettings;
 import org.citrusframework.yaks.camelk.CamelKSupport;
@@ -45,6 +46,7 @@ public class DeleteKameletBindingAction extends AbstractCamelKAction {
         getKubernetesClient().customResources(ctx, KameletBinding.class, KameletBindingList.class)
                 .inNamespace(CamelKSettings.getNamespace())
                 .withName(bindingName)
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
                 .delete();
     }
 
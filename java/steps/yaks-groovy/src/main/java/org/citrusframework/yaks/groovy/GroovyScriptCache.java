@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import groovy.util.DelegatingScript;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ImportCustomizer;
+
+/**
+ * Bounded least recently used cache of compiled Groovy script classes. Scripts are compiled once per normalized source
+ * code, imports and class loader. Callers create a new script instance from the cached class for each execution so
+ * script state is never shared.
+ *
+ * Hit and miss counters help to verify the cache efficiency in long running test suites.
+ *
+ * @author Christoph Deppisch
+ */
+public final class GroovyScriptCache {
+
+    /** Shared cache instance */
+    private static final GroovyScriptCache INSTANCE = new GroovyScriptCache(GroovySettings.getScriptCacheSize());
+
+    private final int maxSize;
+    private final Map<CacheKey, Class<? extends Script>> scripts;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public GroovyScriptCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.scripts = new LinkedHashMap<CacheKey, Class<? extends Script>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Class<? extends Script>> eldest) {
+                return size() > GroovyScriptCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared cache instance.
+     * @return
+     */
+    public static GroovyScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets compiled script class for given source code and imports. Compiles the script on a cache miss.
+     * Compilation is performed outside of the cache lock so different scripts compile in parallel.
+     * @param scriptCode
+     * @param imports
+     * @return
+     */
+    public Class<? extends Script> getOrCompile(String scriptCode, Collection<String> imports) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        CacheKey key = new CacheKey(normalize(scriptCode), imports, cl);
+
+        synchronized (scripts) {
+            Class<? extends Script> cached = scripts.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        Class<? extends Script> compiled = compile(key.source, key.imports, cl);
+
+        if (maxSize > 0) {
+            synchronized (scripts) {
+                Class<? extends Script> existing = scripts.putIfAbsent(key, compiled);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Creates new script instance from given compiled script class and runs it with optional delegate.
+     * @param scriptClass
+     * @param delegate
+     * @param <T>
+     * @return
+     */
+    public static <T> T run(Class<? extends Script> scriptClass, Object delegate) {
+        Script script;
+        try {
+            script = scriptClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Failed to instantiate Groovy script %s", scriptClass.getName()), e);
+        }
+
+        script.setBinding(new Binding());
+        if (delegate != null && script instanceof DelegatingScript) {
+            // set the delegate target
+            ((DelegatingScript) script).setDelegate(delegate);
+        }
+        return (T) script.run();
+    }
+
+    private static Class<? extends Script> compile(String scriptCode, List<String> imports, ClassLoader cl) {
+        ImportCustomizer ic = new ImportCustomizer();
+        if (!imports.isEmpty()) {
+            ic.addImports(imports.toArray(new String[0]));
+        }
+
+        CompilerConfiguration cc = new CompilerConfiguration();
+        cc.addCompilationCustomizers(ic);
+        cc.setScriptBaseClass(DelegatingScript.class.getName());
+
+        GroovyShell sh = new GroovyShell(cl, new Binding(), cc);
+        return sh.parse(scriptCode).getClass();
+    }
+
+    /**
+     * Normalizes line endings and surrounding whitespace so equivalent sources share the same compiled class.
+     * @param scriptCode
+     * @return
+     */
+    private static String normalize(String scriptCode) {
+        return scriptCode.replace("\r\n", "\n").trim();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (scripts) {
+            return scripts.size();
+        }
+    }
+
+    /**
+     * Removes all cached script classes and resets the counters.
+     */
+    public void clear() {
+        synchronized (scripts) {
+            scripts.clear();
+        }
+        hits.set(0L);
+        misses.set(0L);
+    }
+
+    /**
+     * Cache key combining normalized source code, sorted imports and the class loader used to compile the script.
+     */
+    private static final class CacheKey {
+        private final String source;
+        private final List<String> imports;
+        private final ClassLoader classLoader;
+
+        private CacheKey(String source, Collection<String> imports, ClassLoader classLoader) {
+            this.source = source;
+            List<String> sorted = new ArrayList<>(imports);
+            Collections.sort(sorted);
+            this.imports = sorted;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return source.equals(cacheKey.source) &&
+                    imports.equals(cacheKey.imports) &&
+                    classLoader == cacheKey.classLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, imports, System.identityHashCode(classLoader));
+        }
+    }
+}
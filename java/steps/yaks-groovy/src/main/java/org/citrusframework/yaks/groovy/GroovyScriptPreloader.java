@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestSourceRead;
+import org.citrusframework.yaks.groovy.dsl.actions.ActionScript;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+/**
+ * Cucumber plugin that scans feature sources for referenced Groovy script files (actions, endpoints, components and
+ * configurations) as soon as the feature is read. Each referenced script file is loaded once per test run and compiled
+ * into the shared {@link GroovyScriptCache} using a thread pool that spans all available cores. Scenarios then only
+ * create new instances of the ready compiled classes.
+ *
+ * Compile errors are recorded per feature and reported by the Groovy steps before the first scenario of the feature runs.
+ *
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptPreloader implements ConcurrentEventListener {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(GroovyScriptPreloader.class);
+
+    private static final Pattern SCRIPT_REFERENCE = Pattern.compile(
+            "^\\s*(?:Given|When|Then|And|But|\\*)\\s+(load actions|load endpoint|load component|load configuration|apply|verify) ([^\"\\s]+)\\.groovy\\s*$",
+            Pattern.MULTILINE);
+
+    /** Loaded script sources by script file path */
+    private static final Map<String, String> SOURCES = new ConcurrentHashMap<>();
+
+    /** Compile tasks by script file path */
+    private static final Map<String, Future<?>> COMPILATIONS = new ConcurrentHashMap<>();
+
+    /** Referenced script file paths by feature uri */
+    private static final Map<URI, Set<String>> REFERENCES = new ConcurrentHashMap<>();
+
+    /** Compile errors by script file path */
+    private static final Map<String, Throwable> ERRORS = new ConcurrentHashMap<>();
+
+    private static ExecutorService executor;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestSourceRead.class, this::preload);
+    }
+
+    /**
+     * Scans feature source for Groovy script references and submits compile tasks for all scripts not seen before.
+     * @param event
+     */
+    private void preload(TestSourceRead event) {
+        Matcher matcher = SCRIPT_REFERENCE.matcher(event.getSource());
+        while (matcher.find()) {
+            String filePath = matcher.group(2) + ".groovy";
+            boolean actions = !matcher.group(1).startsWith("load ") || matcher.group(1).equals("load actions");
+
+            REFERENCES.computeIfAbsent(event.getUri(), uri -> ConcurrentHashMap.newKeySet()).add(filePath);
+            COMPILATIONS.computeIfAbsent(filePath, path -> getExecutor().submit(() -> compile(path, actions)));
+        }
+    }
+
+    private void compile(String filePath, boolean actions) {
+        Optional<String> script = readScript(filePath);
+        if (!script.isPresent()) {
+            // script may be created inline in the feature
+            return;
+        }
+
+        try {
+            if (actions) {
+                new ActionScript(script.get()).compile();
+            } else if (!script.get().contains("${") && !script.get().contains("citrus:")) {
+                // scripts using test variables get compiled after variables are resolved
+                GroovyScriptCache.getInstance().getOrCompile(script.get(), Collections.emptyList());
+            }
+
+            LOG.debug(String.format("Preloaded Groovy script %s", filePath));
+        } catch (RuntimeException | LinkageError e) {
+            ERRORS.put(filePath, e);
+            LOG.warn(String.format("Failed to compile Groovy script %s", filePath), e);
+        }
+    }
+
+    private static Optional<String> readScript(String filePath) {
+        try {
+            Resource scriptFile = FileUtils.getFileResource(filePath);
+            if (!scriptFile.exists()) {
+                return Optional.empty();
+            }
+
+            String source = FileUtils.readToString(scriptFile);
+            SOURCES.put(filePath, source);
+            return Optional.of(source);
+        } catch (IOException | CitrusRuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets script source for given file path. Uses the preloaded source when available and loads the file otherwise.
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    public static String getSource(String filePath) throws IOException {
+        String source = SOURCES.get(filePath);
+        if (source != null) {
+            return source;
+        }
+
+        source = FileUtils.readToString(FileUtils.getFileResource(filePath));
+        SOURCES.put(filePath, source);
+        return source;
+    }
+
+    /**
+     * Waits for all scripts referenced by given feature to be compiled and fails on compile errors.
+     * @param featureUri
+     */
+    public static void verify(URI featureUri) {
+        Set<String> references = REFERENCES.getOrDefault(featureUri, Collections.emptySet());
+
+        List<String> errors = new ArrayList<>();
+        for (String filePath : references) {
+            Future<?> compilation = COMPILATIONS.get(filePath);
+            if (compilation == null) {
+                continue;
+            }
+
+            try {
+                compilation.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for Groovy scripts to compile", e);
+            } catch (ExecutionException e) {
+                ERRORS.putIfAbsent(filePath, e.getCause());
+            }
+
+            if (ERRORS.containsKey(filePath)) {
+                errors.add(String.format("%s: %s", filePath, ERRORS.get(filePath).getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to compile Groovy scripts referenced in %s:%n%s",
+                    featureUri, String.join(System.lineSeparator(), errors)));
+        }
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "yaks-groovy-preload-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                // compile with the class loader used by the steps so cached classes match
+                thread.setContextClassLoader(cl);
+                return thread;
+            });
+        }
+
+        return executor;
+    }
+}
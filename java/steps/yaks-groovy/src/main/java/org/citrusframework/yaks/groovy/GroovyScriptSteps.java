@@ -39,7 +39,6 @@ import io.cucumber.java.en.Then;
 import org.citrusframework.yaks.groovy.dsl.ConfigurationScript;
 import org.citrusframework.yaks.groovy.dsl.actions.ActionScript;
 import org.citrusframework.yaks.groovy.dsl.endpoints.EndpointConfigurationScript;
-import org.codehaus.groovy.control.customizers.ImportCustomizer;
 import org.springframework.core.io.Resource;
 
 /**
@@ -61,26 +60,23 @@ public class GroovyScriptSteps {
     @Before
     public void before(Scenario scenario) {
         this.scripts = new HashMap<>();
+        GroovyScriptPreloader.verify(scenario.getUri());
     }
 
     @Given("^(?:create|new) configuration$")
     public void createConfiguration(String config) {
-        GroovyShellUtils.run(new ImportCustomizer(),
-                new ConfigurationScript(citrus),
+        GroovyShellUtils.runCached(new ConfigurationScript(citrus),
                 context.replaceDynamicContentInString(config));
     }
 
     @Given("^load configuration ([^\"\\s]+)\\.groovy$")
     public void loadConfiguration(String filePath) throws IOException {
-        Resource scriptFile = FileUtils.getFileResource(filePath + ".groovy");
-        String script = FileUtils.readToString(scriptFile);
-        createConfiguration(script);
+        createConfiguration(GroovyScriptPreloader.getSource(filePath + ".groovy"));
     }
 
     @Given("^(?:create|new) endpoint ([^\"\\s]+)\\.groovy$")
     public void createEndpoint(String name, String configurationScript) {
-        EndpointBuilder<?> builder = GroovyShellUtils.run(new ImportCustomizer(),
-                new EndpointConfigurationScript(),
+        EndpointBuilder<?> builder = GroovyShellUtils.runCached(new EndpointConfigurationScript(),
                 context.replaceDynamicContentInString(configurationScript));
         Endpoint endpoint = builder.build();
 
@@ -94,7 +90,7 @@ public class GroovyScriptSteps {
     @Given("^load endpoint ([^\"\\s]+)\\.groovy$")
     public void loadEndpoint(String filePath) throws IOException {
         Resource scriptFile = FileUtils.getFileResource(filePath + ".groovy");
-        String script = FileUtils.readToString(scriptFile);
+        String script = GroovyScriptPreloader.getSource(filePath + ".groovy");
         final String fileName = scriptFile.getFilename();
         final String baseName = Optional.ofNullable(fileName)
                 .map(f -> f.lastIndexOf("."))
@@ -106,8 +102,7 @@ public class GroovyScriptSteps {
 
     @Given("^(?:create|new|bind) component ([^\"\\s]+)\\.groovy$")
     public void createComponent(String name, String configurationScript) {
-        Object component = GroovyShellUtils.run(new ImportCustomizer(),
-                context.replaceDynamicContentInString(configurationScript));
+        Object component = GroovyShellUtils.runCached(context.replaceDynamicContentInString(configurationScript));
 
         if (component instanceof InitializingPhase) {
             ((InitializingPhase) component).initialize();
@@ -119,7 +114,7 @@ public class GroovyScriptSteps {
     @Given("^load component ([^\"\\s]+)\\.groovy$")
     public void loadComponent(String filePath) throws IOException {
         Resource scriptFile = FileUtils.getFileResource(filePath + ".groovy");
-        String script = FileUtils.readToString(scriptFile);
+        String script = GroovyScriptPreloader.getSource(filePath + ".groovy");
         final String fileName = scriptFile.getFilename();
         final String baseName = Optional.ofNullable(fileName)
                 .map(f -> f.lastIndexOf("."))
@@ -137,7 +132,7 @@ public class GroovyScriptSteps {
     @Given("^load actions ([^\"\\s]+)\\.groovy$")
     public void loadActionScript(String filePath) throws IOException {
         Resource scriptFile = FileUtils.getFileResource(filePath + ".groovy");
-        String script = FileUtils.readToString(scriptFile);
+        String script = GroovyScriptPreloader.getSource(filePath + ".groovy");
         final String fileName = scriptFile.getFilename();
         final String baseName = Optional.ofNullable(fileName)
                 .map(f -> f.lastIndexOf("."))
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy;
+
+/**
+ * @author Christoph Deppisch
+ */
+public final class GroovySettings {
+
+    private static final String GROOVY_PROPERTY_PREFIX = "yaks.groovy.";
+    private static final String GROOVY_ENV_PREFIX = "YAKS_GROOVY_";
+
+    private static final String SCRIPT_CACHE_SIZE_PROPERTY = GROOVY_PROPERTY_PREFIX + "script.cache.size";
+    private static final String SCRIPT_CACHE_SIZE_ENV = GROOVY_ENV_PREFIX + "SCRIPT_CACHE_SIZE";
+    private static final String SCRIPT_CACHE_SIZE_DEFAULT = "256";
+
+    private GroovySettings() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Maximum number of compiled script classes kept in the script cache. Zero disables the cache.
+     * @return
+     */
+    public static int getScriptCacheSize() {
+        return Integer.parseInt(System.getProperty(SCRIPT_CACHE_SIZE_PROPERTY,
+                System.getenv(SCRIPT_CACHE_SIZE_ENV) != null ? System.getenv(SCRIPT_CACHE_SIZE_ENV) : SCRIPT_CACHE_SIZE_DEFAULT));
+    }
+}
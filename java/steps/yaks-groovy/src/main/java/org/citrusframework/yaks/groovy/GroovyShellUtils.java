@@ -17,6 +17,9 @@
 
 package org.citrusframework.yaks.groovy;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import groovy.lang.Binding;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
@@ -68,4 +71,38 @@ public final class GroovyShellUtils {
         }
         return (T) script.run();
     }
+
+    /**
+     * Run given scriptCode with cached compiled script class.
+     * @param scriptCode code to evaluate
+     * @param <T> return type
+     * @return script result
+     */
+    public static <T> T runCached(String scriptCode) {
+        return runCached(null, scriptCode);
+    }
+
+    /**
+     * Run given scriptCode with cached compiled script class and delegate execution to given instance.
+     * @param delegate instance providing methods and properties
+     * @param scriptCode code to evaluate
+     * @param <T> return type
+     * @return script result
+     */
+    public static <T> T runCached(Object delegate, String scriptCode) {
+        return runCached(Collections.emptyList(), delegate, scriptCode);
+    }
+
+    /**
+     * Run given scriptCode with cached compiled script class and delegate execution to given instance. The script
+     * gets compiled once per source code and imports, each execution uses a new script instance.
+     * @param imports fully qualified class names to import
+     * @param delegate instance providing methods and properties
+     * @param scriptCode code to evaluate
+     * @param <T> return type
+     * @return script result
+     */
+    public static <T> T runCached(Collection<String> imports, Object delegate, String scriptCode) {
+        return GroovyScriptCache.run(GroovyScriptCache.getInstance().getOrCompile(scriptCode, imports), delegate);
+    }
 }
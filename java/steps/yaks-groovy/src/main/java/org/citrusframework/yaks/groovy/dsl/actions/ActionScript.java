@@ -17,12 +17,13 @@
 
 package org.citrusframework.yaks.groovy.dsl.actions;
 
+import java.util.Collections;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.consol.citrus.TestActionRunner;
+import org.citrusframework.yaks.groovy.GroovyScriptCache;
 import org.citrusframework.yaks.groovy.GroovyShellUtils;
-import org.codehaus.groovy.control.customizers.ImportCustomizer;
 
 /**
  * @author Christoph Deppisch
@@ -38,8 +39,14 @@ public class ActionScript {
     }
 
     public void execute(TestActionRunner runner) {
-        ImportCustomizer ic = new ImportCustomizer();
-        GroovyShellUtils.run(ic, new ActionsConfiguration(runner), normalize(script));
+        GroovyShellUtils.runCached(new ActionsConfiguration(runner), normalize(script));
+    }
+
+    /**
+     * Compiles the script into the shared script cache without running it.
+     */
+    public void compile() {
+        GroovyScriptCache.getInstance().getOrCompile(normalize(script), Collections.emptyList());
     }
 
     private String normalize(String script) {
@@ -30,7 +30,11 @@ import org.junit.runner.RunWith;
             "org.citrusframework.yaks.standard",
             "org.citrusframework.yaks.http"
         },
-        plugin = { "pretty", "com.consol.citrus.cucumber.CitrusReporter" }
+        plugin = {
+            "pretty",
+            "com.consol.citrus.cucumber.CitrusReporter",
+            "org.citrusframework.yaks.groovy.GroovyScriptPreloader"
+        }
 )
 public class GroovyFeature_IT {
 }
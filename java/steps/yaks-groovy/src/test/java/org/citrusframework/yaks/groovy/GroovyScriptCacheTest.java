@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy;
+
+import java.util.Collections;
+
+import groovy.lang.Script;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void shouldCacheCompiledScript() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<? extends Script> scriptClass = cache.getOrCompile("return 'Hello'", Collections.emptyList());
+        Assertions.assertThat(cache.getOrCompile("  return 'Hello'\r\n", Collections.emptyList())).isSameAs(scriptClass);
+        Assertions.assertThat(cache.getOrCompile("return 'Hello'", Collections.singletonList(Foo.class.getName()))).isNotSameAs(scriptClass);
+
+        Assertions.assertThat(cache.getHits()).isEqualTo(1L);
+        Assertions.assertThat(cache.getMisses()).isEqualTo(2L);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat((String) GroovyScriptCache.run(scriptClass, null)).isEqualTo("Hello");
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        Class<? extends Script> first = cache.getOrCompile("return 1", Collections.emptyList());
+        cache.getOrCompile("return 2", Collections.emptyList());
+        cache.getOrCompile("return 1", Collections.emptyList());
+        cache.getOrCompile("return 3", Collections.emptyList());
+
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat(cache.getOrCompile("return 1", Collections.emptyList())).isSameAs(first);
+        cache.getOrCompile("return 2", Collections.emptyList());
+        Assertions.assertThat(cache.getMisses()).isEqualTo(4L);
+    }
+}
@@ -17,20 +17,21 @@
 
 package org.citrusframework.yaks.http;
 
-import javax.net.ssl.SSLContext;
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.http.actions.HttpClientActionBuilder;
 import com.consol.citrus.http.actions.HttpClientRequestActionBuilder;
 import com.consol.citrus.http.actions.HttpClientResponseActionBuilder;
@@ -45,14 +46,10 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustAllStrategy;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContexts;
+import org.citrusframework.yaks.http.actions.HttpLoadAction;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.util.StringUtils;
 
 import static com.consol.citrus.container.Wait.Builder.waitFor;
@@ -92,6 +89,7 @@ public class HttpClientSteps implements HttpSteps {
     private long timeout;
 
     private boolean forkMode = HttpSettings.getForkMode();
+    private boolean http2 = HttpSettings.isClientHttp2();
 
     @Before
     public void before(Scenario scenario) {
@@ -101,6 +99,7 @@ public class HttpClientSteps implements HttpSteps {
             } else {
                 httpClient = new HttpClientBuilder()
                         .timeout(HttpSettings.getTimeout())
+                        .requestFactory(HttpClientSupport.requestFactory(false, http2))
                         .build();
             }
         }
@@ -130,8 +129,8 @@ public class HttpClientSteps implements HttpSteps {
 
     @Given("^(?:URL|url): ([^\\s]+)$")
     public void setUrl(String url) {
-        if (url.startsWith("https")) {
-            httpClient.getEndpointConfiguration().setRequestFactory(sslRequestFactory());
+        if (url.startsWith("https") || http2) {
+            setRequestFactory(HttpClientSupport.requestFactory(url.startsWith("https"), http2));
         }
 
         this.requestUrl = url;
@@ -147,6 +146,12 @@ public class HttpClientSteps implements HttpSteps {
         this.forkMode = "enabled".equals(mode);
     }
 
+    @Given("^HTTP/2 client transport is (enabled|disabled)$")
+    public void configureHttp2(String mode) {
+        this.http2 = "enabled".equals(mode);
+        setRequestFactory(HttpClientSupport.requestFactory(StringUtils.hasText(requestUrl) && requestUrl.startsWith("https"), http2));
+    }
+
     @Given("^(?:URL|url) is healthy$")
     public void healthCheck() {
         waitForHttpUrl(requestUrl);
@@ -300,6 +305,75 @@ public class HttpClientSteps implements HttpSteps {
         responseHeaders.clear();
     }
 
+    @When("^send (\\d+) (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests(?: to ([^\"\\s]+))?(?: with concurrency (\\d+))?$")
+    public void sendLoadRequests(int requests, String method, String path, Integer concurrency) {
+        sendLoadRequests(new HttpLoadAction.Builder()
+                .method(method)
+                .url(getRequestUrl(path))
+                .requests(requests)
+                .concurrency(Optional.ofNullable(concurrency).orElse(1)));
+    }
+
+    @When("^send (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests(?: to ([^\"\\s]+))? for (\\d+) (ms|milliseconds|s|seconds)(?: at rate (\\d+)(?:/s| per second))?(?: with concurrency (\\d+))?$")
+    public void sendLoadRequestsForDuration(String method, String path, long duration, String unit, Integer rate, Integer concurrency) {
+        sendLoadRequests(new HttpLoadAction.Builder()
+                .method(method)
+                .url(getRequestUrl(path))
+                .duration(unit.startsWith("s") ? TimeUnit.SECONDS.toMillis(duration) : duration)
+                .rate(Optional.ofNullable(rate).orElse(0))
+                .concurrency(Optional.ofNullable(concurrency).orElse(1)));
+    }
+
+    @Then("^HTTP load (p50|p95|p99|max) latency should be below (\\d+(?:\\.\\d+)?)(?: ms| milliseconds)$")
+    public void verifyLoadLatency(String metric, double maxLatency) {
+        LoadVariableNames variable = LoadVariableNames.valueOf("LOAD_LATENCY_" + metric.toUpperCase(Locale.US));
+        verifyLoadResult(variable, String.format("%s latency", metric), maxLatency, true);
+    }
+
+    @Then("^HTTP load error rate should be below (\\d+(?:\\.\\d+)?) ?%$")
+    public void verifyLoadErrorRate(double maxErrorRate) {
+        verifyLoadResult(LoadVariableNames.LOAD_ERROR_RATE, "error rate", maxErrorRate, true);
+    }
+
+    @Then("^HTTP load throughput should be (?:above|at least) (\\d+(?:\\.\\d+)?) requests per second$")
+    public void verifyLoadThroughput(double minThroughput) {
+        verifyLoadResult(LoadVariableNames.LOAD_THROUGHPUT, "throughput", minThroughput, false);
+    }
+
+    /**
+     * Sends load requests with the current request headers, query parameters and body.
+     * @param loadBuilder
+     */
+    private void sendLoadRequests(HttpLoadAction.Builder loadBuilder) {
+        loadBuilder.client(httpClient)
+                .headers(requestHeaders)
+                .queryParams(requestParams)
+                .body(requestBody);
+
+        runner.run(loadBuilder);
+
+        requestBody = null;
+        requestHeaders.clear();
+        requestParams.clear();
+    }
+
+    /**
+     * Verifies load test result stored in given test variable against given limit.
+     * @param variable
+     * @param description
+     * @param limit
+     * @param upperLimit
+     */
+    private void verifyLoadResult(LoadVariableNames variable, String description, double limit, boolean upperLimit) {
+        runner.run((TestAction) context -> {
+            double value = Double.parseDouble(context.getVariable(variable.value(HttpLoadAction.VARIABLE_PREFIX)));
+            if (upperLimit ? value >= limit : value < limit) {
+                throw new ValidationException(String.format("Http load %s validation failed - expected %s %s but was %s",
+                        description, upperLimit ? "below" : "at least", limit, value));
+            }
+        });
+    }
+
     /**
      * Sends client request.
      * @param request
@@ -366,35 +440,12 @@ public class HttpClientSteps implements HttpSteps {
     }
 
     /**
-     * Get secure request factory.
-     * @return
+     * Sets the request factory on the Http client. Also updates the rest template in case it has already been initialized.
+     * @param requestFactory
      */
-    private HttpComponentsClientHttpRequestFactory sslRequestFactory() {
-        return new HttpComponentsClientHttpRequestFactory(sslClient());
-    }
-
-    /**
-     * Get secure http client implementation with trust all strategy and noop host name verifier.
-     * @return
-     */
-    private org.apache.http.client.HttpClient sslClient() {
-        try {
-            SSLContext sslcontext = SSLContexts
-                    .custom()
-                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
-                    .build();
-
-            SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
-                    sslcontext, NoopHostnameVerifier.INSTANCE);
-
-            return HttpClients
-                    .custom()
-                    .setSSLSocketFactory(sslSocketFactory)
-                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
-                    .build();
-        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
-            throw new CitrusRuntimeException("Failed to create http client for ssl connection", e);
-        }
+    private void setRequestFactory(ClientHttpRequestFactory requestFactory) {
+        httpClient.getEndpointConfiguration().setRequestFactory(requestFactory);
+        httpClient.getEndpointConfiguration().getRestTemplate().setRequestFactory(requestFactory);
     }
 
     /**
@@ -438,4 +489,13 @@ public class HttpClientSteps implements HttpSteps {
     public void setOutboundDictionary(DataDictionary<?> outboundDictionary) {
         this.outboundDictionary = outboundDictionary;
     }
+
+    /**
+     * Obtains the Http client used to send requests.
+     *
+     * @return
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.ssl.SSLContexts;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Provides shared Http client request factories backed by pooled keep-alive connections. Clients using the same
+ * TLS configuration share the same connection pool across all test scenarios so connections to the same host are reused
+ * and TLS handshakes are not repeated for each scenario. Pool limits, keep-alive and idle eviction are configured via
+ * {@link HttpSettings}.
+ *
+ * @author Christoph Deppisch
+ */
+public final class HttpClientSupport {
+
+    /** Shared request factories per TLS configuration */
+    private static final Map<String, ClientHttpRequestFactory> REQUEST_FACTORIES = new ConcurrentHashMap<>();
+
+    private static final String PLAIN = "plain";
+    private static final String TRUST_ALL = "trust-all";
+    private static final String HTTP2 = "http2";
+    private static final String HTTP2_TRUST_ALL = "http2-trust-all";
+
+    private HttpClientSupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Get shared request factory using pooled connections.
+     * @return
+     */
+    public static ClientHttpRequestFactory requestFactory() {
+        return REQUEST_FACTORIES.computeIfAbsent(PLAIN,
+                key -> new HttpComponentsClientHttpRequestFactory(pooledClient().build()));
+    }
+
+    /**
+     * Get shared secure request factory using pooled connections with trust all strategy and noop host name verifier.
+     * @return
+     */
+    public static ClientHttpRequestFactory sslRequestFactory() {
+        return REQUEST_FACTORIES.computeIfAbsent(TRUST_ALL,
+                key -> new HttpComponentsClientHttpRequestFactory(sslClient()));
+    }
+
+    /**
+     * Get shared request factory using the JDK Http client with HTTP/2 support.
+     * @return
+     */
+    public static ClientHttpRequestFactory http2RequestFactory() {
+        return REQUEST_FACTORIES.computeIfAbsent(HTTP2,
+                key -> new JdkClientHttpRequestFactory(http2Client().build(),
+                        Duration.ofMillis(HttpSettings.getClientRequestTimeout())));
+    }
+
+    /**
+     * Get shared secure request factory using the JDK Http client with HTTP/2 support and trust all strategy.
+     * @return
+     */
+    public static ClientHttpRequestFactory http2SslRequestFactory() {
+        return REQUEST_FACTORIES.computeIfAbsent(HTTP2_TRUST_ALL,
+                key -> new JdkClientHttpRequestFactory(http2Client().sslContext(trustAllSslContext()).build(),
+                        Duration.ofMillis(HttpSettings.getClientRequestTimeout())));
+    }
+
+    /**
+     * Get shared request factory for given transport options.
+     * @param secure
+     * @param http2
+     * @return
+     */
+    public static ClientHttpRequestFactory requestFactory(boolean secure, boolean http2) {
+        if (http2) {
+            return secure ? http2SslRequestFactory() : http2RequestFactory();
+        }
+
+        return secure ? sslRequestFactory() : requestFactory();
+    }
+
+    /**
+     * Get secure http client implementation with trust all strategy and noop host name verifier.
+     * @return
+     */
+    private static org.apache.http.client.HttpClient sslClient() {
+        try {
+            SSLContext sslcontext = SSLContexts
+                    .custom()
+                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                    .build();
+
+            SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+                    sslcontext, NoopHostnameVerifier.INSTANCE);
+
+            return pooledClient()
+                    .setSSLSocketFactory(sslSocketFactory)
+                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                    .build();
+        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
+            throw new CitrusRuntimeException("Failed to create http client for ssl connection", e);
+        }
+    }
+
+    /**
+     * Creates client builder with connection pool limits, keep-alive strategy and idle connection eviction.
+     * @return
+     */
+    private static HttpClientBuilder pooledClient() {
+        long keepAlive = HttpSettings.getClientKeepAlive();
+
+        return HttpClients
+                .custom()
+                .setMaxConnPerRoute(HttpSettings.getClientMaxConnectionsPerRoute())
+                .setMaxConnTotal(HttpSettings.getClientMaxConnections())
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return duration > 0 ? duration : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(HttpSettings.getClientIdleTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates JDK client builder preferring HTTP/2 with fallback to HTTP/1.1 using the client connect timeout.
+     * @return
+     */
+    private static java.net.http.HttpClient.Builder http2Client() {
+        return java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(HttpSettings.getClientConnectTimeout()))
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL);
+    }
+
+    /**
+     * SSL context trusting all certificates. Uses an extended trust manager so that the JDK client
+     * does not add host name verification.
+     * @return
+     */
+    private static SSLContext trustAllSslContext() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] { new TrustAllManager() }, null);
+            return sslContext;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new CitrusRuntimeException("Failed to create http client for ssl connection", e);
+        }
+    }
+
+    /**
+     * Trust manager accepting all certificates.
+     */
+    private static class TrustAllManager extends X509ExtendedTrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
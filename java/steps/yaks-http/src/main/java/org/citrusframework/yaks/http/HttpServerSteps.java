@@ -22,17 +22,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.http.actions.HttpServerActionBuilder;
 import com.consol.citrus.http.actions.HttpServerRequestActionBuilder;
 import com.consol.citrus.http.actions.HttpServerResponseActionBuilder;
@@ -47,6 +52,9 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.citrusframework.yaks.http.stub.HttpRequestJournal;
+import org.citrusframework.yaks.http.stub.HttpStubEndpointAdapter;
+import org.citrusframework.yaks.http.stub.HttpStubRule;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -56,7 +64,9 @@ import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
 
+import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static com.consol.citrus.http.actions.HttpActionBuilder.http;
 import static com.consol.citrus.validation.PathExpressionValidationContext.Builder.pathExpression;
 
@@ -97,6 +107,8 @@ public class HttpServerSteps implements HttpSteps {
 
     private long timeout = HttpSettings.getTimeout();
 
+    private List<HttpStubRule> stubRules = new ArrayList<>();
+
     @Before
     public void before(Scenario scenario) {
         if (httpServer == null) {
@@ -123,6 +135,11 @@ public class HttpServerSteps implements HttpSteps {
         bodyValidationExpressions = new HashMap<>();
         outboundDictionary = null;
         inboundDictionary = null;
+        stubRules = new ArrayList<>();
+
+        if (httpServer.getEndpointAdapter() instanceof HttpStubEndpointAdapter) {
+            ((HttpStubEndpointAdapter) httpServer.getEndpointAdapter()).getJournal().clear();
+        }
     }
 
     @Given("^HTTP server \"([^\"\\s]+)\"$")
@@ -326,6 +343,161 @@ public class HttpServerSteps implements HttpSteps {
         responseHeaders.clear();
     }
 
+    @Given("^HTTP server stub (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) ([^\"\\s]+) responds with (\\d+)(?: [^\\s]+)?(?: after (\\d+)(?: ms| milliseconds))?$")
+    public void addStubRule(String method, String path, Integer status, Long delay) {
+        HttpStubRule rule = new HttpStubRule.Builder()
+                .method(method)
+                .path(path)
+                .headers(requestHeaders)
+                .status(status)
+                .responseHeaders(responseHeaders)
+                .body(responseBody)
+                .delay(Optional.ofNullable(delay).orElse(0L))
+                .build();
+
+        requestHeaders.clear();
+        responseHeaders.clear();
+        responseBody = null;
+
+        HttpStubEndpointAdapter stubAdapter = getStubAdapter();
+        if (stubRules.isEmpty()) {
+            runner.then(doFinally().actions(context -> {
+                stubRules.forEach(stubAdapter::removeRule);
+                stubAdapter.getJournal().clear();
+            }));
+        }
+
+        runner.run((TestAction) context -> {
+            HttpStubRule resolved = rule.resolve(context);
+            stubRules.add(resolved);
+            stubAdapter.addRule(resolved);
+        });
+
+        if (!httpServer.isRunning()) {
+            httpServer.start();
+        }
+    }
+
+    @Then("^(?:expect|verify) HTTP server received (\\d+) (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests? on ([^\"\\s]+)$")
+    public void verifyRequestCount(int count, String method, String path) {
+        verifyRequestCount(count, method, path, Collections.emptyMap());
+    }
+
+    @Then("^(?:expect|verify) HTTP server received (\\d+) (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests? on ([^\"\\s]+) with header ([^\\s]+)(?:=| is )\"(.+)\"$")
+    public void verifyRequestCount(int count, String method, String path, String header, String value) {
+        verifyRequestCount(count, method, path, Collections.singletonMap(header, value));
+    }
+
+    @Then("^(?:expect|verify) HTTP server received (\\d+) (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests? on ([^\"\\s]+) with headers$")
+    public void verifyRequestCount(int count, String method, String path, DataTable headers) {
+        verifyRequestCount(count, method, path, headers.asMap(String.class, String.class));
+    }
+
+    @Then("^(?:expect|verify) HTTP server received (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) ([^\"\\s]+) with body$")
+    public void verifyStubRequestBodyMultiline(String method, String path, String body) {
+        verifyStubRequestBody(method, path, body);
+    }
+
+    @Then("^(?:expect|verify) HTTP server received (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) ([^\"\\s]+) with body: (.+)$")
+    public void verifyStubRequestBody(String method, String path, String body) {
+        HttpRequestJournal journal = getStubAdapter().getJournal();
+        runner.run((TestAction) context -> {
+            String resolvedPath = context.replaceDynamicContentInString(path);
+            String expected = StringUtils.trimAllWhitespace(context.replaceDynamicContentInString(body));
+
+            awaitRequestCount(journal, method, resolvedPath, Collections.emptyMap(), 1);
+            boolean found = journal.find(method, resolvedPath, Collections.emptyMap()).stream()
+                    .anyMatch(entry -> expected.equals(StringUtils.trimAllWhitespace(entry.getBody())));
+            if (!found) {
+                throw new ValidationException(String.format("Http server did not receive %s request on %s with body: %s",
+                        method, resolvedPath, body));
+            }
+        });
+    }
+
+    /**
+     * Verifies the number of requests in the request journal matching given method, path and headers.
+     * @param count
+     * @param method
+     * @param path
+     * @param headers
+     */
+    private void verifyRequestCount(int count, String method, String path, Map<String, String> headers) {
+        HttpRequestJournal journal = getStubAdapter().getJournal();
+        runner.run((TestAction) context -> {
+            String resolvedPath = context.replaceDynamicContentInString(path);
+            Map<String, String> resolvedHeaders = new HashMap<>();
+            headers.forEach((name, value) -> resolvedHeaders.put(name, context.replaceDynamicContentInString(value)));
+
+            int received = awaitRequestCount(journal, method, resolvedPath, resolvedHeaders, count);
+            if (received != count) {
+                throw new ValidationException(String.format("Http server received %d %s requests on %s%s, expected %d",
+                        received, method, resolvedPath, resolvedHeaders.isEmpty() ? "" : " with headers " + resolvedHeaders, count));
+            }
+        });
+    }
+
+    /**
+     * Waits for the journal to contain given number of matching requests and returns the actual number of matching requests.
+     * Returns early when the expected number is reached or exceeded, otherwise waits until the server timeout is reached.
+     * @param journal
+     * @param method
+     * @param path
+     * @param headers
+     * @param expected
+     * @return
+     */
+    private int awaitRequestCount(HttpRequestJournal journal, String method, String path, Map<String, String> headers, int expected) {
+        long deadline = System.currentTimeMillis() + timeout;
+        int received = journal.count(method, path, headers);
+        while (received < expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(Math.min(100L, timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for Http server stub requests", e);
+            }
+
+            received = journal.count(method, path, headers);
+        }
+
+        return received;
+    }
+
+    /**
+     * Gets the stub endpoint adapter of the current server. Installs the stub adapter in case the server
+     * uses a different endpoint adapter.
+     * @return
+     */
+    public HttpStubEndpointAdapter getStubAdapter() {
+        if (httpServer.getEndpointAdapter() instanceof HttpStubEndpointAdapter) {
+            return (HttpStubEndpointAdapter) httpServer.getEndpointAdapter();
+        }
+
+        if (httpServer.isRunning()) {
+            throw new CitrusRuntimeException(String.format("Unable to enable stub mode on running Http server '%s' - " +
+                    "please define stub rules before the server is started", httpServer.getName()));
+        }
+
+        if (httpServer.getEndpointAdapter() == null) {
+            httpServer.initialize();
+        }
+
+        HttpStubEndpointAdapter stubAdapter = createStubAdapter(httpServer.getEndpointAdapter());
+        httpServer.setEndpointAdapter(stubAdapter);
+        return stubAdapter;
+    }
+
+    /**
+     * Creates stub endpoint adapter with request journal delegating to given endpoint adapter.
+     * @param delegate
+     * @return
+     */
+    private static HttpStubEndpointAdapter createStubAdapter(EndpointAdapter delegate) {
+        return new HttpStubEndpointAdapter(delegate, new HttpRequestJournal(HttpSettings.getServerJournalCapacity(),
+                HttpSettings.getServerJournalIndexedHeaders()));
+    }
+
     /**
      * Receives server request.
      * @param request
@@ -385,6 +557,7 @@ public class HttpServerSteps implements HttpSteps {
 
         citrus.getCitrusContext().getReferenceResolver().bind(serverName, httpServer);
         httpServer.initialize();
+        httpServer.setEndpointAdapter(createStubAdapter(httpServer.getEndpointAdapter()));
 
         return httpServer;
     }
@@ -491,4 +664,13 @@ public class HttpServerSteps implements HttpSteps {
     public void setOutboundDictionary(DataDictionary<?> outboundDictionary) {
         this.outboundDictionary = outboundDictionary;
     }
+
+    /**
+     * Obtains the Http server receiving requests.
+     *
+     * @return
+     */
+    public HttpServer getHttpServer() {
+        return httpServer;
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.citrusframework.yaks.http;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * @author Christoph Deppisch
  */
@@ -53,6 +56,42 @@ public class HttpSettings {
     private static final String SECURE_KEYSTORE_PASSWORD_ENV = HTTP_ENV_PREFIX + "SECURE_KEYSTORE_PASSWORD";
     private static final String SECURE_KEYSTORE_PASSWORD_DEFAULT = "secret";
 
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_PROPERTY = HTTP_PROPERTY_PREFIX + "client.max.connections.per.route";
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV = HTTP_ENV_PREFIX + "CLIENT_MAX_CONNECTIONS_PER_ROUTE";
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT = "20";
+
+    private static final String CLIENT_MAX_CONNECTIONS_PROPERTY = HTTP_PROPERTY_PREFIX + "client.max.connections";
+    private static final String CLIENT_MAX_CONNECTIONS_ENV = HTTP_ENV_PREFIX + "CLIENT_MAX_CONNECTIONS";
+    private static final String CLIENT_MAX_CONNECTIONS_DEFAULT = "100";
+
+    private static final String CLIENT_KEEP_ALIVE_PROPERTY = HTTP_PROPERTY_PREFIX + "client.keep.alive";
+    private static final String CLIENT_KEEP_ALIVE_ENV = HTTP_ENV_PREFIX + "CLIENT_KEEP_ALIVE";
+    private static final String CLIENT_KEEP_ALIVE_DEFAULT = "30000";
+
+    private static final String CLIENT_IDLE_TIMEOUT_PROPERTY = HTTP_PROPERTY_PREFIX + "client.idle.timeout";
+    private static final String CLIENT_IDLE_TIMEOUT_ENV = HTTP_ENV_PREFIX + "CLIENT_IDLE_TIMEOUT";
+    private static final String CLIENT_IDLE_TIMEOUT_DEFAULT = "60000";
+
+    private static final String CLIENT_CONNECT_TIMEOUT_PROPERTY = HTTP_PROPERTY_PREFIX + "client.connect.timeout";
+    private static final String CLIENT_CONNECT_TIMEOUT_ENV = HTTP_ENV_PREFIX + "CLIENT_CONNECT_TIMEOUT";
+    private static final String CLIENT_CONNECT_TIMEOUT_DEFAULT = "10000";
+
+    private static final String CLIENT_REQUEST_TIMEOUT_PROPERTY = HTTP_PROPERTY_PREFIX + "client.request.timeout";
+    private static final String CLIENT_REQUEST_TIMEOUT_ENV = HTTP_ENV_PREFIX + "CLIENT_REQUEST_TIMEOUT";
+    private static final String CLIENT_REQUEST_TIMEOUT_DEFAULT = "60000";
+
+    private static final String CLIENT_HTTP2_PROPERTY = HTTP_PROPERTY_PREFIX + "client.http2";
+    private static final String CLIENT_HTTP2_ENV = HTTP_ENV_PREFIX + "CLIENT_HTTP2";
+    private static final String CLIENT_HTTP2_DEFAULT = "false";
+
+    private static final String SERVER_JOURNAL_CAPACITY_PROPERTY = HTTP_PROPERTY_PREFIX + "server.journal.capacity";
+    private static final String SERVER_JOURNAL_CAPACITY_ENV = HTTP_ENV_PREFIX + "SERVER_JOURNAL_CAPACITY";
+    private static final String SERVER_JOURNAL_CAPACITY_DEFAULT = "1000";
+
+    private static final String SERVER_JOURNAL_INDEXED_HEADERS_PROPERTY = HTTP_PROPERTY_PREFIX + "server.journal.indexed.headers";
+    private static final String SERVER_JOURNAL_INDEXED_HEADERS_ENV = HTTP_ENV_PREFIX + "SERVER_JOURNAL_INDEXED_HEADERS";
+    private static final String SERVER_JOURNAL_INDEXED_HEADERS_DEFAULT = "";
+
     private HttpSettings() {
         // prevent instantiation of utility class
     }
@@ -121,4 +160,90 @@ public class HttpSettings {
                 System.getenv(SECURE_KEYSTORE_PASSWORD_ENV) != null ? System.getenv(SECURE_KEYSTORE_PASSWORD_ENV) :
                         SECURE_KEYSTORE_PASSWORD_DEFAULT);
     }
+
+    /**
+     * Maximum number of pooled client connections per target host.
+     * @return
+     */
+    public static int getClientMaxConnectionsPerRoute() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONNECTIONS_PER_ROUTE_PROPERTY,
+                System.getenv(CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV) != null ? System.getenv(CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV) :
+                        CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT));
+    }
+
+    /**
+     * Maximum number of pooled client connections in total.
+     * @return
+     */
+    public static int getClientMaxConnections() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONNECTIONS_PROPERTY,
+                System.getenv(CLIENT_MAX_CONNECTIONS_ENV) != null ? System.getenv(CLIENT_MAX_CONNECTIONS_ENV) :
+                        CLIENT_MAX_CONNECTIONS_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds to keep pooled client connections alive when the server does not specify a keep alive timeout.
+     * @return
+     */
+    public static long getClientKeepAlive() {
+        return Long.parseLong(System.getProperty(CLIENT_KEEP_ALIVE_PROPERTY,
+                System.getenv(CLIENT_KEEP_ALIVE_ENV) != null ? System.getenv(CLIENT_KEEP_ALIVE_ENV) : CLIENT_KEEP_ALIVE_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds after that idle pooled client connections get evicted.
+     * @return
+     */
+    public static long getClientIdleTimeout() {
+        return Long.parseLong(System.getProperty(CLIENT_IDLE_TIMEOUT_PROPERTY,
+                System.getenv(CLIENT_IDLE_TIMEOUT_ENV) != null ? System.getenv(CLIENT_IDLE_TIMEOUT_ENV) : CLIENT_IDLE_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds to wait for the client to establish a connection.
+     * @return
+     */
+    public static long getClientConnectTimeout() {
+        return Long.parseLong(System.getProperty(CLIENT_CONNECT_TIMEOUT_PROPERTY,
+                System.getenv(CLIENT_CONNECT_TIMEOUT_ENV) != null ? System.getenv(CLIENT_CONNECT_TIMEOUT_ENV) : CLIENT_CONNECT_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds to wait for the response of a single client request.
+     * @return
+     */
+    public static long getClientRequestTimeout() {
+        return Long.parseLong(System.getProperty(CLIENT_REQUEST_TIMEOUT_PROPERTY,
+                System.getenv(CLIENT_REQUEST_TIMEOUT_ENV) != null ? System.getenv(CLIENT_REQUEST_TIMEOUT_ENV) : CLIENT_REQUEST_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * When enabled the Http client uses the JDK Http client transport with HTTP/2 support.
+     * @return
+     */
+    public static boolean isClientHttp2() {
+        return Boolean.parseBoolean(System.getProperty(CLIENT_HTTP2_PROPERTY,
+                System.getenv(CLIENT_HTTP2_ENV) != null ? System.getenv(CLIENT_HTTP2_ENV) : CLIENT_HTTP2_DEFAULT));
+    }
+
+    /**
+     * Maximum number of requests kept in the Http server stub request journal.
+     * @return
+     */
+    public static int getServerJournalCapacity() {
+        return Integer.parseInt(System.getProperty(SERVER_JOURNAL_CAPACITY_PROPERTY,
+                System.getenv(SERVER_JOURNAL_CAPACITY_ENV) != null ? System.getenv(SERVER_JOURNAL_CAPACITY_ENV) :
+                        SERVER_JOURNAL_CAPACITY_DEFAULT));
+    }
+
+    /**
+     * Comma separated list of request header names that the Http server request journal indexes for fast lookup.
+     * @return
+     */
+    public static List<String> getServerJournalIndexedHeaders() {
+        String headers = System.getProperty(SERVER_JOURNAL_INDEXED_HEADERS_PROPERTY,
+                System.getenv(SERVER_JOURNAL_INDEXED_HEADERS_ENV) != null ? System.getenv(SERVER_JOURNAL_INDEXED_HEADERS_ENV) :
+                        SERVER_JOURNAL_INDEXED_HEADERS_DEFAULT);
+        return Arrays.asList(headers.split(","));
+    }
 }
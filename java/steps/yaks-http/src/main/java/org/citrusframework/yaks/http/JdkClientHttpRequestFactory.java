@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.AbstractClientHttpResponse;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Request factory using the JDK Http client as transport. The JDK client negotiates HTTP/2 with the server and
+ * multiplexes concurrent requests to the same host over a single connection. Servers that do not support HTTP/2
+ * are accessed with HTTP/1.1. Each request fails with a timeout when the response is not received within the request timeout.
+ *
+ * @author Christoph Deppisch
+ */
+public class JdkClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    /** Headers that are set by the JDK client itself and must not be set on the request */
+    private static final List<String> RESTRICTED_HEADERS = Arrays.asList("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public JdkClientHttpRequestFactory(HttpClient httpClient) {
+        this(httpClient, Duration.ofMillis(HttpSettings.getClientRequestTimeout()));
+    }
+
+    public JdkClientHttpRequestFactory(HttpClient httpClient, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new JdkClientHttpRequest(httpClient, uri, httpMethod, requestTimeout);
+    }
+
+    /**
+     * Gets the JDK Http client.
+     * @return
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Request buffers the body and sends the request with the JDK Http client on execute.
+     */
+    private static class JdkClientHttpRequest extends AbstractClientHttpRequest {
+
+        private final HttpClient httpClient;
+        private final URI uri;
+        private final HttpMethod method;
+        private final Duration timeout;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        JdkClientHttpRequest(HttpClient httpClient, URI uri, HttpMethod method, Duration timeout) {
+            this.httpClient = httpClient;
+            this.uri = uri;
+            this.method = method;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            byte[] content = body.toByteArray();
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .method(method.name(), content.length > 0 ?
+                            HttpRequest.BodyPublishers.ofByteArray(content) : HttpRequest.BodyPublishers.noBody());
+
+            headers.forEach((name, values) -> {
+                if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.US))) {
+                    values.forEach(value -> request.header(name, value));
+                }
+            });
+
+            try {
+                return new JdkClientHttpResponse(httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for Http response", e);
+            }
+        }
+    }
+
+    /**
+     * Response wraps the JDK Http client response.
+     */
+    private static class JdkClientHttpResponse extends AbstractClientHttpResponse {
+
+        private final HttpResponse<InputStream> response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        JdkClientHttpResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                // skip HTTP/2 pseudo headers such as :status
+                if (!header.getKey().startsWith(":")) {
+                    headers.addAll(header.getKey(), header.getValue());
+                }
+            }
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            HttpStatus status = HttpStatus.resolve(response.statusCode());
+            return status != null ? status.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.body();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                // ignore errors when closing the response body
+            }
+        }
+    }
+}
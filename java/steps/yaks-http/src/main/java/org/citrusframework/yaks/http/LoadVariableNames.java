@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+/**
+ * Load test result variables. Each load action uses its own prefix (e.g. HTTP_LOAD_REQUESTS, OPENAPI_LOAD_REQUESTS)
+ * and optionally a group suffix for results of a single request group (e.g. OPENAPI_LOAD_REQUESTS_addPet).
+ *
+ * @author Christoph Deppisch
+ */
+public enum LoadVariableNames {
+
+    LOAD_REQUESTS("LOAD_REQUESTS"),
+    LOAD_ERRORS("LOAD_ERRORS"),
+    LOAD_ERROR_RATE("LOAD_ERROR_RATE"),
+    LOAD_THROUGHPUT("LOAD_THROUGHPUT"),
+    LOAD_LATENCY_P50("LOAD_LATENCY_P50"),
+    LOAD_LATENCY_P95("LOAD_LATENCY_P95"),
+    LOAD_LATENCY_P99("LOAD_LATENCY_P99"),
+    LOAD_LATENCY_MAX("LOAD_LATENCY_MAX");
+
+    private final String variableName;
+
+    LoadVariableNames(String variableName) {
+        this.variableName = variableName;
+    }
+
+    /**
+     * Variable name for the whole load with given prefix.
+     * @param prefix
+     * @return
+     */
+    public String value(String prefix) {
+        return prefix + "_" + variableName;
+    }
+
+    /**
+     * Variable name for a single request group with given prefix. Falls back to the variable name for the whole load
+     * when no group is given.
+     * @param prefix
+     * @param group
+     * @return
+     */
+    public String value(String prefix, String group) {
+        return group != null ? value(prefix) + "_" + group : value(prefix);
+    }
+
+    @Override
+    public String toString() {
+        return variableName;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.actions;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.http.client.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Sends a series of Http requests with a given concurrency in order to measure throughput, error rate and latency of
+ * the target service. Either sends a fixed number of requests or sends requests for a given duration, optionally limited
+ * to a maximum request rate. The results are stored as test variables so following steps can verify them.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpLoadAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(HttpLoadAction.class);
+
+    /** Prefix of load result variables */
+    public static final String VARIABLE_PREFIX = "HTTP";
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final HttpMethod method;
+    private final Map<String, String> headers;
+    private final Map<String, String> queryParams;
+    private final String body;
+    private final int requests;
+    private final long duration;
+    private final int rate;
+    private final int concurrency;
+
+    public HttpLoadAction(Builder builder) {
+        super("http-load", builder);
+
+        this.httpClient = builder.httpClient;
+        this.url = builder.url;
+        this.method = builder.method;
+        this.headers = builder.headers;
+        this.queryParams = builder.queryParams;
+        this.body = builder.body;
+        this.requests = builder.requests;
+        this.duration = builder.duration;
+        this.rate = builder.rate;
+        this.concurrency = builder.concurrency;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        HttpLoadRunner loadRunner = new HttpLoadRunner("Http", VARIABLE_PREFIX, requests, duration, rate, concurrency);
+
+        URI requestUri = getRequestUri(context);
+        HttpEntity<String> requestEntity = getRequestEntity(context);
+        RestTemplate restTemplate = httpClient.getEndpointConfiguration().getRestTemplate();
+
+        HttpLoadRunner.Request request = new HttpLoadRunner.Request(() -> {
+            try {
+                ResponseEntity<String> response = restTemplate.exchange(requestUri, method, requestEntity, String.class);
+                return response.getStatusCode().isError();
+            } catch (RestClientException e) {
+                LOG.debug("Http load request failed", e);
+                return true;
+            }
+        });
+
+        loadRunner.report(context, loadRunner.run(1, () -> request));
+    }
+
+    private URI getRequestUri(TestContext context) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(context.replaceDynamicContentInString(url));
+        queryParams.forEach((name, value) -> uriBuilder.queryParam(context.replaceDynamicContentInString(name),
+                context.replaceDynamicContentInString(value)));
+        return uriBuilder.build().encode().toUri();
+    }
+
+    private HttpEntity<String> getRequestEntity(TestContext context) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        headers.forEach((name, value) -> httpHeaders.add(context.replaceDynamicContentInString(name),
+                context.replaceDynamicContentInString(value)));
+
+        return new HttpEntity<>(body != null ? context.replaceDynamicContentInString(body) : null, httpHeaders);
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<HttpLoadAction, Builder> {
+
+        private HttpClient httpClient;
+        private String url;
+        private HttpMethod method = HttpMethod.GET;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final Map<String, String> queryParams = new LinkedHashMap<>();
+        private String body;
+        private int requests;
+        private long duration;
+        private int rate;
+        private int concurrency = 1;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @return
+         */
+        public static Builder load() {
+            return new Builder();
+        }
+
+        public Builder client(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder method(HttpMethod method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder method(String method) {
+            return method(HttpMethod.valueOf(method));
+        }
+
+        public Builder header(String name, String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.headers.putAll(headers);
+            return this;
+        }
+
+        public Builder queryParam(String name, String value) {
+            this.queryParams.put(name, value);
+            return this;
+        }
+
+        public Builder queryParams(Map<String, String> queryParams) {
+            this.queryParams.putAll(queryParams);
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder requests(int requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        public Builder duration(long duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder rate(int rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        @Override
+        public HttpLoadAction build() {
+            if (httpClient == null) {
+                throw new CitrusRuntimeException("Missing Http client for load action");
+            }
+
+            return new HttpLoadAction(this);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.http.LoadVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.percentile;
+import static org.citrusframework.yaks.util.StatisticsUtils.throughput;
+
+/**
+ * Runs load requests with a given concurrency. Either runs a fixed number of requests or runs requests for a given
+ * duration, optionally limited to a maximum request rate. Requests may belong to different groups (e.g. Open API operations)
+ * so results are recorded per group. Used by the Http and the Open API load actions.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpLoadRunner {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(HttpLoadRunner.class);
+
+    private final String name;
+    private final String variablePrefix;
+    private final int requests;
+    private final long duration;
+    private final int rate;
+    private final int concurrency;
+
+    /**
+     * Constructor using load name used in log messages and prefix used for result variables.
+     * @param name
+     * @param variablePrefix
+     * @param requests
+     * @param duration
+     * @param rate
+     * @param concurrency
+     */
+    public HttpLoadRunner(String name, String variablePrefix, int requests, long duration, int rate, int concurrency) {
+        if (requests <= 0 && duration <= 0) {
+            throw new CitrusRuntimeException(String.format("Must specify either number of requests or duration for %s load", name));
+        }
+
+        this.name = name;
+        this.variablePrefix = variablePrefix;
+        this.requests = requests;
+        this.duration = duration;
+        this.rate = rate;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Runs load requests provided by given supplier. The supplier gets called before the request is scheduled
+     * so preparing the request does not count as latency.
+     * @param groups number of request groups
+     * @param requestSupplier
+     * @return
+     */
+    public Results run(int groups, Supplier<Request> requestSupplier) {
+        long start = System.nanoTime();
+        long end = duration > 0 ? start + TimeUnit.MILLISECONDS.toNanos(duration) : Long.MAX_VALUE;
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0L;
+
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicLong nextSlot = new AtomicLong(start);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        Results results = new Results(groups);
+        try {
+            List<Future<Results>> workers = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, concurrency); i++) {
+                workers.add(executor.submit(() -> {
+                    Results workerResults = new Results(groups);
+                    while (requests <= 0 || remaining.getAndDecrement() > 0) {
+                        Request request = requestSupplier.get();
+
+                        long requestStart;
+                        if (interval > 0) {
+                            // measure latency from the scheduled start so that a slow service does not hide queued requests
+                            requestStart = nextSlot.getAndAdd(interval);
+                            if (requestStart >= end) {
+                                break;
+                            }
+
+                            long delay = requestStart - System.nanoTime();
+                            if (delay > 0) {
+                                TimeUnit.NANOSECONDS.sleep(delay);
+                            }
+                        } else {
+                            requestStart = System.nanoTime();
+                            if (requestStart >= end) {
+                                break;
+                            }
+                        }
+
+                        boolean error = request.send.getAsBoolean();
+                        workerResults.add(request.group, System.nanoTime() - requestStart, error);
+                    }
+
+                    return workerResults;
+                }));
+            }
+
+            for (Future<Results> worker : workers) {
+                results.addAll(worker.get());
+            }
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(String.format("Failed to send %s load requests", name), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while sending %s load requests", name), e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        results.elapsed = System.nanoTime() - start;
+        return results;
+    }
+
+    /**
+     * Saves results of the whole load as test variables.
+     * @param context
+     * @param results
+     */
+    public void report(TestContext context, Results results) {
+        report(context, results, Collections.emptyList());
+    }
+
+    /**
+     * Saves results for each named request group and for the whole load as test variables.
+     * @param context
+     * @param results
+     * @param groupNames
+     */
+    public void report(TestContext context, Results results, List<String> groupNames) {
+        List<Long> allLatencies = new ArrayList<>();
+        int allErrors = 0;
+        for (int i = 0; i < results.errors.length; i++) {
+            if (i < groupNames.size()) {
+                reportResults(context, groupNames.get(i), results.latencies.get(i), results.errors[i], results.elapsed);
+            }
+            allLatencies.addAll(results.latencies.get(i));
+            allErrors += results.errors[i];
+        }
+
+        reportResults(context, null, allLatencies, allErrors, results.elapsed);
+    }
+
+    /**
+     * Computes throughput, error rate and latency percentiles and saves them as test variables. When group is
+     * given the variables get the group name as suffix.
+     * @param context
+     * @param group
+     * @param latencies
+     * @param errors
+     * @param elapsed
+     */
+    private void reportResults(TestContext context, String group, List<Long> latencies, int errors, long elapsed) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        int total = sorted.length;
+
+        double throughput = throughput(total, elapsed);
+        double errorRate = total > 0 ? errors * 100.0D / total : 0.0D;
+
+        context.setVariable(LoadVariableNames.LOAD_REQUESTS.value(variablePrefix, group), String.valueOf(total));
+        context.setVariable(LoadVariableNames.LOAD_ERRORS.value(variablePrefix, group), String.valueOf(errors));
+        context.setVariable(LoadVariableNames.LOAD_ERROR_RATE.value(variablePrefix, group), format(errorRate));
+        context.setVariable(LoadVariableNames.LOAD_THROUGHPUT.value(variablePrefix, group), format(throughput));
+        context.setVariable(LoadVariableNames.LOAD_LATENCY_P50.value(variablePrefix, group), format(percentile(sorted, 50)));
+        context.setVariable(LoadVariableNames.LOAD_LATENCY_P95.value(variablePrefix, group), format(percentile(sorted, 95)));
+        context.setVariable(LoadVariableNames.LOAD_LATENCY_P99.value(variablePrefix, group), format(percentile(sorted, 99)));
+        context.setVariable(LoadVariableNames.LOAD_LATENCY_MAX.value(variablePrefix, group), format(percentile(sorted, 100)));
+
+        LOG.info(String.format("Sent %d %s requests%s in %d ms - throughput: %s req/s, errors: %s%%, " +
+                        "latency p50: %s ms, p95: %s ms, p99: %s ms", total, name,
+                group != null ? String.format(" for '%s'", group) : "",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), format(throughput), format(errorRate),
+                format(percentile(sorted, 50)), format(percentile(sorted, 95)), format(percentile(sorted, 99))));
+    }
+
+    /**
+     * Prepared load request. Sends the request and returns true when the request counts as error.
+     */
+    public static final class Request {
+        private final int group;
+        private final BooleanSupplier send;
+
+        public Request(BooleanSupplier send) {
+            this(0, send);
+        }
+
+        public Request(int group, BooleanSupplier send) {
+            this.group = group;
+            this.send = send;
+        }
+    }
+
+    /**
+     * Latencies and errors per request group.
+     */
+    public static final class Results {
+        private final List<List<Long>> latencies = new ArrayList<>();
+        private final int[] errors;
+        private long elapsed;
+
+        Results(int groups) {
+            for (int i = 0; i < groups; i++) {
+                latencies.add(new ArrayList<>());
+            }
+            this.errors = new int[groups];
+        }
+
+        void add(int group, long latency, boolean error) {
+            latencies.get(group).add(latency);
+            if (error) {
+                errors[group]++;
+            }
+        }
+
+        void addAll(Results other) {
+            for (int i = 0; i < errors.length; i++) {
+                latencies.get(i).addAll(other.latencies.get(i));
+                errors[i] += other.errors[i];
+            }
+        }
+
+        public int getRequests(int group) {
+            return latencies.get(group).size();
+        }
+
+        public int getErrors(int group) {
+            return errors[group];
+        }
+
+        public long getElapsed() {
+            return elapsed;
+        }
+    }
+}
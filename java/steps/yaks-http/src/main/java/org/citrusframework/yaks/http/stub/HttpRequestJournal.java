@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.stub;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded in-memory journal of requests received by the Http server. Requests are kept in a ring buffer, so when the
+ * capacity is reached the oldest requests get evicted and memory stays bounded under load.
+ *
+ * Requests are indexed by path and method and optionally by the values of selected headers. Lookups for a concrete path
+ * and method resolve the matching requests directly from the index. Ant style path patterns are resolved against the
+ * distinct request paths in the index.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpRequestJournal {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final Entry[] buffer;
+    private int head;
+    private int size;
+    private long sequence;
+
+    /** Requests by path and method */
+    private final Map<String, Map<String, Deque<Entry>>> pathIndex = new HashMap<>();
+
+    /** Requests by path, method and header value of indexed headers */
+    private final Map<String, Deque<Entry>> headerIndex = new HashMap<>();
+    private final Set<String> indexedHeaders;
+
+    public HttpRequestJournal(int capacity) {
+        this(capacity, Collections.emptySet());
+    }
+
+    public HttpRequestJournal(int capacity, Collection<String> indexedHeaders) {
+        this.buffer = new Entry[Math.max(1, capacity)];
+        this.indexedHeaders = indexedHeaders.stream()
+                .map(name -> name.trim().toLowerCase(Locale.US))
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Adds request to the journal and evicts the oldest request in case the capacity is exceeded.
+     * @param method
+     * @param path
+     * @param headers
+     * @param body
+     */
+    public synchronized void record(String method, String path, Map<String, Object> headers, String body) {
+        Entry entry = new Entry(sequence++, method, path, headers, body);
+
+        if (size == buffer.length) {
+            evict(buffer[head]);
+            buffer[head] = entry;
+            head = (head + 1) % buffer.length;
+        } else {
+            buffer[(head + size) % buffer.length] = entry;
+            size++;
+        }
+
+        pathIndex.computeIfAbsent(entry.getPath(), key -> new HashMap<>())
+                .computeIfAbsent(entry.getMethod(), key -> new ArrayDeque<>())
+                .addLast(entry);
+
+        for (String header : indexedHeaders) {
+            String value = entry.getHeader(header);
+            if (value != null) {
+                headerIndex.computeIfAbsent(headerKey(entry.getMethod(), entry.getPath(), header, value), key -> new ArrayDeque<>())
+                        .addLast(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest entry from all indices. The oldest entry is always the first element in its index buckets.
+     * @param entry
+     */
+    private void evict(Entry entry) {
+        Map<String, Deque<Entry>> methods = pathIndex.get(entry.getPath());
+        Deque<Entry> requests = methods.get(entry.getMethod());
+        requests.pollFirst();
+        if (requests.isEmpty()) {
+            methods.remove(entry.getMethod());
+            if (methods.isEmpty()) {
+                pathIndex.remove(entry.getPath());
+            }
+        }
+
+        for (String header : indexedHeaders) {
+            String value = entry.getHeader(header);
+            if (value != null) {
+                String key = headerKey(entry.getMethod(), entry.getPath(), header, value);
+                Deque<Entry> matching = headerIndex.get(key);
+                matching.pollFirst();
+                if (matching.isEmpty()) {
+                    headerIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds all requests matching given method, path pattern and header values in arrival order.
+     * Method, path pattern and headers are optional.
+     * @param method
+     * @param pathPattern
+     * @param headers
+     * @return
+     */
+    public synchronized List<Entry> find(String method, String pathPattern, Map<String, String> headers) {
+        List<Entry> result = new ArrayList<>();
+        for (Deque<Entry> candidates : lookup(method, pathPattern, headers)) {
+            candidates.stream()
+                    .filter(entry -> matchesHeaders(entry, headers))
+                    .forEach(result::add);
+        }
+
+        result.sort(Comparator.comparingLong(Entry::getSequence));
+        return result;
+    }
+
+    /**
+     * Counts requests matching given method, path pattern and header values.
+     * @param method
+     * @param pathPattern
+     * @param headers
+     * @return
+     */
+    public synchronized int count(String method, String pathPattern, Map<String, String> headers) {
+        int count = 0;
+        for (Deque<Entry> candidates : lookup(method, pathPattern, headers)) {
+            if (headers.isEmpty() || (headers.size() == 1 && isIndexed(headers.keySet().iterator().next()))) {
+                count += candidates.size();
+            } else {
+                count += (int) candidates.stream().filter(entry -> matchesHeaders(entry, headers)).count();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Resolves index buckets holding candidate requests for given method, path pattern and headers. Uses the header
+     * index when an indexed header is part of the query.
+     * @param method
+     * @param pathPattern
+     * @param headers
+     * @return
+     */
+    private List<Deque<Entry>> lookup(String method, String pathPattern, Map<String, String> headers) {
+        List<String> paths;
+        if (!StringUtils.hasText(pathPattern)) {
+            paths = new ArrayList<>(pathIndex.keySet());
+        } else if (PATH_MATCHER.isPattern(pathPattern)) {
+            paths = pathIndex.keySet().stream()
+                    .filter(path -> path != null && PATH_MATCHER.match(pathPattern, path))
+                    .collect(Collectors.toList());
+        } else {
+            paths = Collections.singletonList(pathPattern);
+        }
+
+        Map.Entry<String, String> indexedHeader = headers.entrySet().stream()
+                .filter(header -> isIndexed(header.getKey()))
+                .findFirst()
+                .orElse(null);
+
+        List<Deque<Entry>> buckets = new ArrayList<>();
+        for (String path : paths) {
+            Map<String, Deque<Entry>> methods = pathIndex.getOrDefault(path, Collections.emptyMap());
+            Collection<String> requestMethods = StringUtils.hasText(method) ?
+                    Collections.singletonList(method.toUpperCase(Locale.US)) : new ArrayList<>(methods.keySet());
+
+            for (String requestMethod : requestMethods) {
+                Deque<Entry> bucket;
+                if (indexedHeader != null) {
+                    bucket = headerIndex.get(headerKey(requestMethod, path, indexedHeader.getKey(), indexedHeader.getValue()));
+                } else {
+                    bucket = methods.get(requestMethod);
+                }
+
+                if (bucket != null) {
+                    buckets.add(bucket);
+                }
+            }
+        }
+
+        return buckets;
+    }
+
+    private boolean isIndexed(String header) {
+        return indexedHeaders.contains(header.toLowerCase(Locale.US));
+    }
+
+    private static boolean matchesHeaders(Entry entry, Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .allMatch(header -> header.getValue().equals(entry.getHeader(header.getKey())));
+    }
+
+    private static String headerKey(String method, String path, String header, String value) {
+        return method + " " + path + " " + header.toLowerCase(Locale.US) + "=" + value;
+    }
+
+    /**
+     * Removes all requests from the journal.
+     */
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        head = 0;
+        size = 0;
+        pathIndex.clear();
+        headerIndex.clear();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    public Set<String> getIndexedHeaders() {
+        return indexedHeaders;
+    }
+
+    /**
+     * Recorded request.
+     */
+    public static class Entry {
+        private final long sequence;
+        private final String method;
+        private final String path;
+        private final Map<String, String> headers;
+        private final String body;
+        private final long timestamp = System.currentTimeMillis();
+
+        Entry(long sequence, String method, String path, Map<String, Object> headers, String body) {
+            this.sequence = sequence;
+            this.method = method != null ? method.toUpperCase(Locale.US) : null;
+            this.path = path;
+            this.body = body;
+
+            Map<String, String> headerValues = new LinkedHashMap<>();
+            headers.forEach((name, value) -> headerValues.put(name.toLowerCase(Locale.US), value != null ? value.toString() : null));
+            this.headers = Collections.unmodifiableMap(headerValues);
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Gets header value by case-insensitive header name.
+         * @param name
+         * @return
+         */
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.US));
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.stub;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.EndpointAdapter;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.http.message.HttpMessageHeaders;
+import com.consol.citrus.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Endpoint adapter answering Http server requests with static stub responses. Incoming requests are matched against
+ * the configured stub rules and answered directly on the server thread, so the server handles many requests concurrently
+ * without any receive/send steps. Requests that do not match any rule are offered to the registered stub responders and
+ * then passed to the delegate endpoint adapter, so the usual receive and send steps keep working. All requests are recorded in the request journal for later verification.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpStubEndpointAdapter implements EndpointAdapter {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(HttpStubEndpointAdapter.class);
+
+    private final EndpointAdapter delegate;
+    private final List<HttpStubRule> rules = new CopyOnWriteArrayList<>();
+    private final List<HttpStubResponder> responders = new CopyOnWriteArrayList<>();
+    private final HttpRequestJournal journal;
+
+    public HttpStubEndpointAdapter(EndpointAdapter delegate, HttpRequestJournal journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public Message handleMessage(Message message) {
+        HttpMessage request = message instanceof HttpMessage ? (HttpMessage) message : new HttpMessage(message);
+        String method = Optional.ofNullable(request.getHeader(HttpMessageHeaders.HTTP_REQUEST_METHOD))
+                .map(Object::toString)
+                .orElse(null);
+        String path = Optional.ofNullable(request.getHeader(HttpMessageHeaders.HTTP_REQUEST_URI))
+                .map(Object::toString)
+                .orElse(null);
+
+        journal.record(method, path, request.getHeaders(), request.getPayload(String.class));
+
+        Optional<HttpStubRule> rule = rules.stream()
+                .filter(candidate -> candidate.matches(method, path, request.getHeaders()))
+                .findFirst();
+
+        if (rule.isPresent()) {
+            return createResponse(rule.get());
+        }
+
+        for (HttpStubResponder responder : responders) {
+            Message response = responder.respond(method, path, request);
+            if (response != null) {
+                return response;
+            }
+        }
+
+        return delegate.handleMessage(message);
+    }
+
+    /**
+     * Creates the stub response for given rule and applies the optional response delay.
+     * @param rule
+     * @return
+     */
+    private Message createResponse(HttpStubRule rule) {
+        if (rule.getDelay() > 0) {
+            try {
+                Thread.sleep(rule.getDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted while delaying Http stub response", e);
+            }
+        }
+
+        HttpMessage response = new HttpMessage(Optional.ofNullable(rule.getResponseBody()).orElse(""))
+                .status(HttpStatus.valueOf(rule.getStatus()));
+        rule.getResponseHeaders().forEach(response::setHeader);
+        return response;
+    }
+
+    /**
+     * Adds new stub rule. Rules are evaluated in the order they have been added.
+     * @param rule
+     */
+    public void addRule(HttpStubRule rule) {
+        rules.add(rule);
+    }
+
+    /**
+     * Removes given stub rule.
+     * @param rule
+     */
+    public void removeRule(HttpStubRule rule) {
+        rules.remove(rule);
+    }
+
+    /**
+     * Adds new stub responder. Responders are asked in the order they have been added.
+     * @param responder
+     */
+    public void addResponder(HttpStubResponder responder) {
+        responders.add(responder);
+    }
+
+    /**
+     * Removes given stub responder.
+     * @param responder
+     */
+    public void removeResponder(HttpStubResponder responder) {
+        responders.remove(responder);
+    }
+
+    public List<HttpStubResponder> getResponders() {
+        return responders;
+    }
+
+    public List<HttpStubRule> getRules() {
+        return rules;
+    }
+
+    public HttpRequestJournal getJournal() {
+        return journal;
+    }
+
+    public EndpointAdapter getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Endpoint getEndpoint() {
+        return delegate.getEndpoint();
+    }
+
+    @Override
+    public EndpointConfiguration getEndpointConfiguration() {
+        return delegate.getEndpointConfiguration();
+    }
+}
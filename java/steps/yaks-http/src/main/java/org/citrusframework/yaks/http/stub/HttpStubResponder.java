@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.stub;
+
+import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.message.Message;
+
+/**
+ * Responder that answers Http server stub requests with a dynamically created response. Responders are asked after the
+ * static stub rules and before the request is passed to the delegate endpoint adapter. Responders are called concurrently
+ * from the Http server threads and must be thread safe.
+ *
+ * @author Christoph Deppisch
+ */
+@FunctionalInterface
+public interface HttpStubResponder {
+
+    /**
+     * Creates the response for given request.
+     * @param method the request method
+     * @param path the request path
+     * @param request the request message
+     * @return the response or null if this responder does not handle the request
+     */
+    Message respond(String method, String path, HttpMessage request);
+}
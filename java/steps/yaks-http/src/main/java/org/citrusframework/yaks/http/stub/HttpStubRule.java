@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.stub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.consol.citrus.context.TestContext;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * Response rule of the Http server stub. Matches incoming requests by method, path pattern and header values and
+ * defines the response status, headers and body that the stub sends for all matching requests.
+ *
+ * Path patterns use Ant style syntax such as <code>/todo/*</code> or <code>/todo/**</code>.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpStubRule {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String method;
+    private final String pathPattern;
+    private final Map<String, String> requestHeaders;
+
+    private final int status;
+    private final Map<String, String> responseHeaders;
+    private final String responseBody;
+    private final long delay;
+
+    public HttpStubRule(Builder builder) {
+        this.method = builder.method;
+        this.pathPattern = builder.pathPattern;
+        this.requestHeaders = builder.requestHeaders;
+        this.status = builder.status;
+        this.responseHeaders = builder.responseHeaders;
+        this.responseBody = builder.responseBody;
+        this.delay = builder.delay;
+    }
+
+    /**
+     * Checks if this rule applies to given request method, path and headers. Header names are compared case-insensitive.
+     * @param requestMethod
+     * @param requestPath
+     * @param headers
+     * @return
+     */
+    public boolean matches(String requestMethod, String requestPath, Map<String, Object> headers) {
+        if (StringUtils.hasText(method) && !method.equalsIgnoreCase(requestMethod)) {
+            return false;
+        }
+
+        if (StringUtils.hasText(pathPattern) && (requestPath == null || !PATH_MATCHER.match(pathPattern, requestPath))) {
+            return false;
+        }
+
+        for (Map.Entry<String, String> expected : requestHeaders.entrySet()) {
+            Object actual = headers.entrySet().stream()
+                    .filter(header -> header.getKey().equalsIgnoreCase(expected.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+
+            if (actual == null || !expected.getValue().equals(actual.toString())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a copy of this rule with all test variables and functions resolved in given context.
+     * @param context
+     * @return
+     */
+    public HttpStubRule resolve(TestContext context) {
+        Builder builder = new Builder()
+                .method(method)
+                .path(context.replaceDynamicContentInString(pathPattern))
+                .status(status)
+                .delay(delay);
+
+        requestHeaders.forEach((name, value) -> builder.header(name, context.replaceDynamicContentInString(value)));
+        responseHeaders.forEach((name, value) -> builder.responseHeader(name, context.replaceDynamicContentInString(value)));
+
+        if (responseBody != null) {
+            builder.body(context.replaceDynamicContentInString(responseBody));
+        }
+
+        return builder.build();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathPattern() {
+        return pathPattern;
+    }
+
+    public Map<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public long getDelay() {
+        return delay;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s -> %d", StringUtils.hasText(method) ? method : "*",
+                StringUtils.hasText(pathPattern) ? pathPattern : "/**", status);
+    }
+
+    /**
+     * Rule builder.
+     */
+    public static final class Builder {
+
+        private String method;
+        private String pathPattern;
+        private final Map<String, String> requestHeaders = new LinkedHashMap<>();
+
+        private int status = 200;
+        private final Map<String, String> responseHeaders = new LinkedHashMap<>();
+        private String responseBody;
+        private long delay;
+
+        public Builder method(String method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder path(String pathPattern) {
+            this.pathPattern = pathPattern;
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            this.requestHeaders.put(name, value);
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.requestHeaders.putAll(headers);
+            return this;
+        }
+
+        public Builder status(int status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder responseHeader(String name, String value) {
+            this.responseHeaders.put(name, value);
+            return this;
+        }
+
+        public Builder responseHeaders(Map<String, String> headers) {
+            this.responseHeaders.putAll(headers);
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.responseBody = body;
+            return this;
+        }
+
+        public Builder delay(long delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        public HttpStubRule build() {
+            return new HttpStubRule(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.actions;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.assertj.core.api.Assertions;
+import org.citrusframework.yaks.http.LoadVariableNames;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HttpLoadRunnerTest {
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    @Test
+    public void shouldRunRequestsPerGroup() {
+        HttpLoadRunner loadRunner = new HttpLoadRunner("Test", "TEST", 10, 0L, 0, 3);
+
+        AtomicInteger counter = new AtomicInteger();
+        HttpLoadRunner.Results results = loadRunner.run(2, () -> {
+            int group = counter.getAndIncrement() % 2;
+            return new HttpLoadRunner.Request(group, () -> group == 1);
+        });
+
+        Assertions.assertThat(results.getRequests(0) + results.getRequests(1)).isEqualTo(10);
+        Assertions.assertThat(results.getErrors(0)).isZero();
+        Assertions.assertThat(results.getErrors(1)).isEqualTo(results.getRequests(1));
+
+        loadRunner.report(context, results, Arrays.asList("foo", "bar"));
+
+        Assertions.assertThat(context.getVariable(LoadVariableNames.LOAD_REQUESTS.value("TEST"))).isEqualTo("10");
+        Assertions.assertThat(context.getVariable(LoadVariableNames.LOAD_ERRORS.value("TEST")))
+                .isEqualTo(String.valueOf(results.getRequests(1)));
+        Assertions.assertThat(context.getVariable(LoadVariableNames.LOAD_ERROR_RATE.value("TEST", "foo"))).isEqualTo("0.00");
+        Assertions.assertThat(context.getVariable(LoadVariableNames.LOAD_ERROR_RATE.value("TEST", "bar"))).isEqualTo("100.00");
+    }
+
+    @Test
+    public void shouldRunRequestsForDuration() {
+        HttpLoadRunner loadRunner = new HttpLoadRunner("Test", "TEST", 0, 200L, 50, 2);
+
+        HttpLoadRunner.Results results = loadRunner.run(1, () -> new HttpLoadRunner.Request(() -> false));
+
+        // 50 requests per second for 200 ms are 10 scheduled requests
+        Assertions.assertThat(results.getRequests(0)).isEqualTo(10);
+        Assertions.assertThat(results.getElapsed()).isGreaterThan(0L);
+    }
+
+    @Test(expected = CitrusRuntimeException.class)
+    public void shouldRequireRequestsOrDuration() {
+        new HttpLoadRunner("Test", "TEST", 0, 0L, 0, 1);
+    }
+}
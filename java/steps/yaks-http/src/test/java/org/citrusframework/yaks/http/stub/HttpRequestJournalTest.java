@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.stub;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HttpRequestJournalTest {
+
+    private final HttpRequestJournal journal = new HttpRequestJournal(5, Collections.singletonList("X-Tenant"));
+
+    @Test
+    public void shouldFindByMethodAndPath() {
+        journal.record("POST", "/orders", tenant("a"), "1");
+        journal.record("GET", "/orders", tenant("a"), null);
+        journal.record("POST", "/orders", tenant("b"), "2");
+        journal.record("POST", "/orders/1", tenant("a"), "3");
+
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.emptyMap())).isEqualTo(2);
+        Assertions.assertThat(journal.count("GET", "/orders", Collections.emptyMap())).isEqualTo(1);
+        Assertions.assertThat(journal.count(null, "/orders", Collections.emptyMap())).isEqualTo(3);
+        Assertions.assertThat(journal.count("POST", "/orders/**", Collections.emptyMap())).isEqualTo(3);
+        Assertions.assertThat(journal.count("PUT", "/orders", Collections.emptyMap())).isEqualTo(0);
+
+        List<HttpRequestJournal.Entry> entries = journal.find("POST", "/orders/**", Collections.emptyMap());
+        Assertions.assertThat(entries).extracting(HttpRequestJournal.Entry::getBody).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    public void shouldFindByHeader() {
+        journal.record("POST", "/orders", tenant("a"), "1");
+        journal.record("POST", "/orders", tenant("b"), "2");
+        journal.record("POST", "/orders", Collections.singletonMap("Accept", "application/json"), "3");
+
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.singletonMap("x-tenant", "a"))).isEqualTo(1);
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.singletonMap("X-Tenant", "c"))).isEqualTo(0);
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.singletonMap("Accept", "application/json"))).isEqualTo(1);
+        Assertions.assertThat(journal.find("POST", "/orders", Collections.singletonMap("X-Tenant", "b")))
+                .extracting(HttpRequestJournal.Entry::getBody)
+                .containsExactly("2");
+    }
+
+    @Test
+    public void shouldEvictOldestRequests() {
+        for (int i = 0; i < 8; i++) {
+            journal.record("POST", "/orders", tenant(i % 2 == 0 ? "a" : "b"), String.valueOf(i));
+        }
+
+        Assertions.assertThat(journal.size()).isEqualTo(5);
+        Assertions.assertThat(journal.find("POST", "/orders", Collections.emptyMap()))
+                .extracting(HttpRequestJournal.Entry::getBody)
+                .containsExactly("3", "4", "5", "6", "7");
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.singletonMap("X-Tenant", "a"))).isEqualTo(2);
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.singletonMap("X-Tenant", "b"))).isEqualTo(3);
+
+        journal.clear();
+        Assertions.assertThat(journal.size()).isEqualTo(0);
+        Assertions.assertThat(journal.count("POST", "/orders", Collections.emptyMap())).isEqualTo(0);
+    }
+
+    private static Map<String, Object> tenant(String tenant) {
+        return Collections.singletonMap("X-Tenant", tenant);
+    }
+}
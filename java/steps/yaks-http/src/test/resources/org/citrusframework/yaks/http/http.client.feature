@@ -129,3 +129,38 @@ Date: @ignore@
       | $.task      | Sample task |
       | $.completed | 0 |
     And receive HTTP 200 OK
+
+  Scenario: Load requests
+    When send 50 GET requests to /todo with concurrency 5
+    Then HTTP load error rate should be below 1 %
+    And HTTP load p99 latency should be below 5000 ms
+    And print 'Sent ${HTTP_LOAD_REQUESTS} requests with throughput ${HTTP_LOAD_THROUGHPUT} req/s'
+
+  Scenario: Load requests for duration
+    Given HTTP request header Accept="application/json"
+    When send GET requests to /todo for 1 seconds at rate 20 per second with concurrency 2
+    Then HTTP load error rate should be below 1 %
+    And HTTP load p95 latency should be below 5000 milliseconds
+    And HTTP load throughput should be above 5 requests per second
+
+  Scenario: HTTP/2 client transport
+    Given HTTP/2 client transport is enabled
+    When send GET /todo
+    Then verify HTTP response body: {"id": "@ignore@", "task": "Sample task", "completed": 0}
+    And receive HTTP 200 OK
+    Given variable id is "citrus:randomNumber(5)"
+    Given HTTP request body
+    """
+    {"id": "${id}", "task": "Task update", "completed": 0}
+    """
+    When send PUT /todo/${id}
+    And verify HTTP response body
+    """
+    {"id": "${id}", "task": "Task update", "completed": 0}
+    """
+    Then receive HTTP 200 OK
+
+  Scenario: HTTP/2 client transport concurrent requests
+    Given HTTP/2 client transport is enabled
+    When send 20 GET requests to /todo with concurrency 5
+    Then HTTP load error rate should be below 1 %
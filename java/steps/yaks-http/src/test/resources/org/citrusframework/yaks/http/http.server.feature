@@ -29,3 +29,43 @@ Feature: Http server
     Then receive POST /message/${id}
     And send HTTP 201 CREATED
     Then receive HTTP 201 CREATED
+
+  Scenario: Http server stub
+    Given HTTP request fork mode is disabled
+    And HTTP response body: {"status": "ok"}
+    And HTTP response header: Content-Type="application/json"
+    And HTTP server stub GET /stub/** responds with 200 OK
+    And HTTP server stub POST /stub/orders responds with 201 CREATED after 10 ms
+    When send GET /stub/status
+    Then expect HTTP response body: {"status": "ok"}
+    And receive HTTP 200 OK
+    Given HTTP request body: {"order": "1"}
+    When send POST /stub/orders
+    Then receive HTTP 201 CREATED
+    When send 20 POST requests to /stub/orders with concurrency 5
+    Then HTTP load error rate should be below 1 %
+    And verify HTTP server received 21 POST requests on /stub/orders
+    And verify HTTP server received 1 GET request on /stub/status
+    And verify HTTP server received POST /stub/orders with body: {"order": "1"}
+
+  Scenario: Http server stub with request headers
+    Given expect HTTP request header: X-Tenant="yaks"
+    And HTTP server stub GET /tenant responds with 204 NO_CONTENT
+    And HTTP request header X-Tenant="yaks"
+    When send GET /tenant
+    Then receive HTTP 204 NO_CONTENT
+    When send GET /tenant
+    Then receive GET /tenant
+    And send HTTP 403 FORBIDDEN
+    Then receive HTTP 403 FORBIDDEN
+
+  Scenario: Http server request journal
+    Given HTTP server stub POST /journal/orders responds with 201 CREATED
+    And HTTP request header X-Tenant="yaks"
+    When send 3 POST requests to /journal/orders
+    And HTTP request header X-Tenant="citrus"
+    When send 2 POST requests to /journal/orders
+    Then verify HTTP server received 5 POST requests on /journal/orders
+    And verify HTTP server received 3 POST requests on /journal/orders with header X-Tenant="yaks"
+    And verify HTTP server received 2 POST requests on /journal/** with headers
+      | X-Tenant | citrus |
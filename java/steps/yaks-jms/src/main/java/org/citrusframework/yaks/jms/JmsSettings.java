@@ -35,6 +35,26 @@ public class JmsSettings {
     private static final String TIMEOUT_PROPERTY = JMS_PROPERTY_PREFIX + "timeout";
     private static final String TIMEOUT_ENV = JMS_ENV_PREFIX + "TIMEOUT";
 
+    private static final String CONNECTION_CACHE_ENABLED_PROPERTY = JMS_PROPERTY_PREFIX + "connection.cache.enabled";
+    private static final String CONNECTION_CACHE_ENABLED_ENV = JMS_ENV_PREFIX + "CONNECTION_CACHE_ENABLED";
+    private static final String CONNECTION_CACHE_ENABLED_DEFAULT = "true";
+
+    private static final String SESSION_CACHE_SIZE_PROPERTY = JMS_PROPERTY_PREFIX + "session.cache.size";
+    private static final String SESSION_CACHE_SIZE_ENV = JMS_ENV_PREFIX + "SESSION_CACHE_SIZE";
+    private static final String SESSION_CACHE_SIZE_DEFAULT = "10";
+
+    private static final String CACHE_PRODUCERS_PROPERTY = JMS_PROPERTY_PREFIX + "cache.producers";
+    private static final String CACHE_PRODUCERS_ENV = JMS_ENV_PREFIX + "CACHE_PRODUCERS";
+    private static final String CACHE_PRODUCERS_DEFAULT = "true";
+
+    private static final String CACHE_CONSUMERS_PROPERTY = JMS_PROPERTY_PREFIX + "cache.consumers";
+    private static final String CACHE_CONSUMERS_ENV = JMS_ENV_PREFIX + "CACHE_CONSUMERS";
+    private static final String CACHE_CONSUMERS_DEFAULT = "false";
+
+    private static final String BATCH_SIZE_PROPERTY = JMS_PROPERTY_PREFIX + "batch.size";
+    private static final String BATCH_SIZE_ENV = JMS_ENV_PREFIX + "BATCH_SIZE";
+    private static final String BATCH_SIZE_DEFAULT = "100";
+
     private JmsSettings() {
         // prevent instantiation of utility class
     }
@@ -57,4 +77,50 @@ public class JmsSettings {
         return System.getProperty(ENDPOINT_NAME_PROPERTY,
                 System.getenv(ENDPOINT_NAME_ENV) != null ? System.getenv(ENDPOINT_NAME_ENV) : ENDPOINT_NAME_DEFAULT);
     }
+
+    /**
+     * When enabled connection factories created from connection settings are wrapped with a caching connection factory
+     * that is shared by all scenarios using the same settings.
+     * @return
+     */
+    public static boolean isConnectionCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(CONNECTION_CACHE_ENABLED_PROPERTY,
+                System.getenv(CONNECTION_CACHE_ENABLED_ENV) != null ? System.getenv(CONNECTION_CACHE_ENABLED_ENV) : CONNECTION_CACHE_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Number of sessions cached per session acknowledge mode on the shared connection.
+     * @return
+     */
+    public static int getSessionCacheSize() {
+        return Integer.parseInt(System.getProperty(SESSION_CACHE_SIZE_PROPERTY,
+                System.getenv(SESSION_CACHE_SIZE_ENV) != null ? System.getenv(SESSION_CACHE_SIZE_ENV) : SESSION_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * When enabled message producers are cached per session and destination.
+     * @return
+     */
+    public static boolean isCacheProducers() {
+        return Boolean.parseBoolean(System.getProperty(CACHE_PRODUCERS_PROPERTY,
+                System.getenv(CACHE_PRODUCERS_ENV) != null ? System.getenv(CACHE_PRODUCERS_ENV) : CACHE_PRODUCERS_DEFAULT));
+    }
+
+    /**
+     * When enabled message consumers are cached per session, destination and selector.
+     * @return
+     */
+    public static boolean isCacheConsumers() {
+        return Boolean.parseBoolean(System.getProperty(CACHE_CONSUMERS_PROPERTY,
+                System.getenv(CACHE_CONSUMERS_ENV) != null ? System.getenv(CACHE_CONSUMERS_ENV) : CACHE_CONSUMERS_DEFAULT));
+    }
+
+    /**
+     * Number of messages sent or received in one transaction by bulk steps.
+     * @return
+     */
+    public static int getBatchSize() {
+        return Integer.parseInt(System.getProperty(BATCH_SIZE_PROPERTY,
+                System.getenv(BATCH_SIZE_ENV) != null ? System.getenv(BATCH_SIZE_ENV) : BATCH_SIZE_DEFAULT));
+    }
 }
@@ -22,14 +22,18 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
 import com.consol.citrus.jms.endpoint.JmsEndpointBuilder;
 import com.consol.citrus.util.FileUtils;
@@ -39,6 +43,9 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.citrusframework.yaks.jms.actions.JmsBulkConsumerAction;
+import org.citrusframework.yaks.jms.actions.JmsBulkProducerAction;
+import org.citrusframework.yaks.jms.connection.ConnectionFactoryCache;
 import org.citrusframework.yaks.jms.connection.ConnectionFactoryCreator;
 
 import static com.consol.citrus.actions.ReceiveMessageAction.Builder.receive;
@@ -112,8 +119,12 @@ public class JmsSteps {
         Map<String, String> connectionSettings = new LinkedHashMap<>();
         cells.forEach(row -> connectionSettings.put(row.get(0), context.replaceDynamicContentInString(row.get(1))));
 
-        connectionFactory = ConnectionFactoryCreator.lookup(connectionSettings.get("type"))
-                                                    .create(connectionSettings);
+        ConnectionFactoryCreator creator = ConnectionFactoryCreator.lookup(connectionSettings.get("type"));
+        if (JmsSettings.isConnectionCacheEnabled()) {
+            connectionFactory = ConnectionFactoryCache.getOrCreate(connectionSettings, creator);
+        } else {
+            connectionFactory = creator.create(connectionSettings);
+        }
 
         citrus.getCitrusContext().getReferenceResolver().bind("connectionFactory", connectionFactory);
         jmsEndpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
@@ -253,4 +264,63 @@ public class JmsSteps {
         setDestination(destination);
         receiveMessage();
     }
+
+    @When("^send (\\d+) (?:JMS|jms) messages(?: to destination ([^\\s]+))?(?: in batches of (\\d+))?$")
+    public void sendMessages(int messages, String destination, Integer batchSize) {
+        if (destination != null) {
+            setDestination(destination);
+        }
+
+        runner.run(new JmsBulkProducerAction.Builder()
+                .endpoint(jmsEndpoint)
+                .body(body)
+                .headers(headers)
+                .messages(messages)
+                .batchSize(Optional.ofNullable(batchSize).orElse(JmsSettings.getBatchSize())));
+
+        body = null;
+        headers.clear();
+    }
+
+    @Then("^receive (\\d+) (?:JMS|jms) messages(?: on destination ([^\\s]+))?(?: in batches of (\\d+))?$")
+    public void receiveMessages(int messages, String destination, Integer batchSize) {
+        if (destination != null) {
+            setDestination(destination);
+        }
+
+        runner.run(new JmsBulkConsumerAction.Builder()
+                .endpoint(jmsEndpoint)
+                .selector(selector)
+                .body(body)
+                .messages(messages)
+                .batchSize(Optional.ofNullable(batchSize).orElse(JmsSettings.getBatchSize()))
+                .timeout(timeout));
+
+        body = null;
+        headers.clear();
+    }
+
+    @Then("^(?:JMS|jms) (producer|consumer) (p50|p95|p99|max) latency should be below (\\d+(?:\\.\\d+)?)(?: ms| milliseconds)$")
+    public void verifyLatency(String role, String metric, double maxLatency) {
+        JmsVariableNames variable = JmsVariableNames.valueOf(role.toUpperCase(Locale.US) + "_LATENCY_" + metric.toUpperCase(Locale.US));
+        runner.run((TestAction) context -> {
+            double latency = Double.parseDouble(context.getVariable(variable.value()));
+            if (latency >= maxLatency) {
+                throw new ValidationException(String.format("JMS %s %s latency validation failed - " +
+                        "expected below %s but was %s", role, metric, maxLatency, latency));
+            }
+        });
+    }
+
+    @Then("^(?:JMS|jms) (producer|consumer) throughput should be (?:above|at least) (\\d+(?:\\.\\d+)?) messages per second$")
+    public void verifyThroughput(String role, double minThroughput) {
+        JmsVariableNames variable = JmsVariableNames.valueOf(role.toUpperCase(Locale.US) + "_THROUGHPUT");
+        runner.run((TestAction) context -> {
+            double throughput = Double.parseDouble(context.getVariable(variable.value()));
+            if (throughput < minThroughput) {
+                throw new ValidationException(String.format("JMS %s throughput validation failed - " +
+                        "expected at least %s but was %s", role, minThroughput, throughput));
+            }
+        });
+    }
 }
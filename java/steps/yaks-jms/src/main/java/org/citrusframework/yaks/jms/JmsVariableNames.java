@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms;
+
+/**
+ * @author Christoph Deppisch
+ */
+public enum JmsVariableNames {
+
+    PRODUCER_MESSAGES("JMS_PRODUCER_MESSAGES"),
+    PRODUCER_THROUGHPUT("JMS_PRODUCER_THROUGHPUT"),
+    PRODUCER_LATENCY_P50("JMS_PRODUCER_LATENCY_P50"),
+    PRODUCER_LATENCY_P95("JMS_PRODUCER_LATENCY_P95"),
+    PRODUCER_LATENCY_P99("JMS_PRODUCER_LATENCY_P99"),
+    PRODUCER_LATENCY_MAX("JMS_PRODUCER_LATENCY_MAX"),
+    CONSUMER_MESSAGES("JMS_CONSUMER_MESSAGES"),
+    CONSUMER_THROUGHPUT("JMS_CONSUMER_THROUGHPUT"),
+    CONSUMER_MATCHED("JMS_CONSUMER_MATCHED"),
+    CONSUMER_UNMATCHED("JMS_CONSUMER_UNMATCHED"),
+    CONSUMER_MISSING("JMS_CONSUMER_MISSING"),
+    CONSUMER_LATENCY_P50("JMS_CONSUMER_LATENCY_P50"),
+    CONSUMER_LATENCY_P95("JMS_CONSUMER_LATENCY_P95"),
+    CONSUMER_LATENCY_P99("JMS_CONSUMER_LATENCY_P99"),
+    CONSUMER_LATENCY_MAX("JMS_CONSUMER_LATENCY_MAX");
+
+    private final String variableName;
+
+    JmsVariableNames(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public String value() {
+        return variableName;
+    }
+
+    @Override
+    public String toString() {
+        return variableName;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms.actions;
+
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Session;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.jms.endpoint.JmsEndpointConfiguration;
+
+/**
+ * Helper methods shared by bulk JMS actions to resolve destinations.
+ *
+ * @author Christoph Deppisch
+ */
+final class JmsActionSupport {
+
+    private JmsActionSupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Resolves the destination to use. Explicit destination name overwrites the destination of the endpoint.
+     * @param session
+     * @param endpoint
+     * @param destinationName
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    static Destination resolveDestination(Session session, JmsEndpoint endpoint, String destinationName, TestContext context) throws JMSException {
+        JmsEndpointConfiguration configuration = endpoint.getEndpointConfiguration();
+        if (destinationName == null && configuration.getDestination() != null) {
+            return configuration.getDestination();
+        }
+
+        String name = context.replaceDynamicContentInString(destinationName != null ? destinationName : configuration.getDestinationName());
+        return configuration.isPubSubDomain() ? session.createTopic(name) : session.createQueue(name);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms.actions;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import org.citrusframework.yaks.jms.JmsSettings;
+import org.citrusframework.yaks.jms.JmsVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import static org.citrusframework.yaks.jms.actions.JmsActionSupport.resolveDestination;
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.percentile;
+import static org.citrusframework.yaks.util.StatisticsUtils.throughput;
+import static org.citrusframework.yaks.util.TemplateUtils.isDynamic;
+
+/**
+ * Drains a number of messages from a JMS destination with a transacted session and an optional message selector.
+ * The session is committed after each batch of messages so consumed messages are removed from the destination.
+ *
+ * When a body template is given each received text message is verified against the set of expected bodies. The template
+ * is resolved for each message index (available as test variable <code>JMS_MESSAGE_INDEX</code>). Matching uses a hash
+ * based lookup so the order of messages does not matter.
+ *
+ * The latency of a message is measured from the message timestamp until receipt. Throughput, matched and unmatched
+ * counts as well as latency percentiles are saved as test variables.
+ *
+ * @author Christoph Deppisch
+ */
+public class JmsBulkConsumerAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JmsBulkConsumerAction.class);
+
+    /** Maximum number of unmatched messages listed in validation errors */
+    private static final int MAX_REPORTED_UNMATCHED = 5;
+
+    private final JmsEndpoint endpoint;
+    private final String destination;
+    private final String selector;
+    private final String body;
+    private final int messages;
+    private final int batchSize;
+    private final long timeout;
+
+    public JmsBulkConsumerAction(Builder builder) {
+        super("jms-bulk-consumer", builder);
+
+        this.endpoint = builder.endpoint;
+        this.destination = builder.destination;
+        this.selector = builder.selector;
+        this.body = builder.body;
+        this.messages = builder.messages;
+        this.batchSize = builder.batchSize;
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        ConnectionFactory connectionFactory = endpoint.getEndpointConfiguration().getConnectionFactory();
+        if (connectionFactory == null) {
+            throw new CitrusRuntimeException("Missing JMS connection factory for bulk consumer");
+        }
+
+        Map<String, Integer> pending = getExpectedBodies(context);
+        boolean verify = body != null;
+        String messageSelector = StringUtils.hasText(selector) ? context.replaceDynamicContentInString(selector) : null;
+
+        long[] latencies = new long[messages];
+        int received = 0;
+        int matched = 0;
+        List<String> unmatched = new ArrayList<>();
+
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + timeout;
+        try (Connection connection = connectionFactory.createConnection();
+             Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+             MessageConsumer consumer = session.createConsumer(resolveDestination(session, endpoint, destination, context), messageSelector)) {
+            connection.start();
+
+            int uncommitted = 0;
+            while (received < messages && System.currentTimeMillis() < deadline) {
+                Message message = consumer.receive(Math.max(1L, deadline - System.currentTimeMillis()));
+                if (message == null) {
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                latencies[received++] = TimeUnit.MILLISECONDS.toNanos(message.getJMSTimestamp() > 0 ? Math.max(0L, now - message.getJMSTimestamp()) : 0L);
+
+                if (verify) {
+                    String payload = message instanceof TextMessage ? ((TextMessage) message).getText() : String.valueOf(message);
+                    Integer count = pending.get(payload);
+                    if (count == null) {
+                        unmatched.add(payload);
+                    } else {
+                        matched++;
+                        if (count == 1) {
+                            pending.remove(payload);
+                        } else {
+                            pending.put(payload, count - 1);
+                        }
+                    }
+                }
+
+                if (++uncommitted == batchSize) {
+                    session.commit();
+                    uncommitted = 0;
+                }
+            }
+
+            if (uncommitted > 0) {
+                session.commit();
+            }
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException("Failed to receive JMS messages", e);
+        }
+
+        int missing = pending.values().stream().mapToInt(Integer::intValue).sum();
+        reportResults(context, Arrays.copyOf(latencies, received), System.nanoTime() - start, matched, unmatched.size(), missing);
+
+        if (received < messages) {
+            throw new CitrusRuntimeException(String.format("Timed out after %d ms - received %d of %d JMS messages",
+                    timeout, received, messages));
+        }
+
+        if (!unmatched.isEmpty() || missing > 0) {
+            throw new ValidationException(String.format("JMS bulk message validation failed - matched %d, unmatched %d, " +
+                    "missing %d of %d expected messages%s", matched, unmatched.size(), missing, matched + missing,
+                    unmatched.isEmpty() ? "" : unmatched.stream().limit(MAX_REPORTED_UNMATCHED)
+                            .collect(Collectors.joining("], [", ", unmatched: [", "]"))));
+        }
+    }
+
+    /**
+     * Builds the multiset of expected message bodies from the body template.
+     * @param context
+     * @return
+     */
+    private Map<String, Integer> getExpectedBodies(TestContext context) {
+        Map<String, Integer> pending = new HashMap<>();
+        if (body == null) {
+            return pending;
+        }
+
+        if (!isDynamic(body)) {
+            pending.put(context.replaceDynamicContentInString(body), messages);
+            return pending;
+        }
+
+        for (int i = 0; i < messages; i++) {
+            context.setVariable(JmsBulkProducerAction.MESSAGE_INDEX_VARIABLE, i);
+            pending.merge(context.replaceDynamicContentInString(body), 1, Integer::sum);
+        }
+
+        return pending;
+    }
+
+    /**
+     * Computes throughput, matched and unmatched counts as well as latency percentiles and saves them as test variables.
+     * @param context
+     * @param latencies
+     * @param elapsed
+     * @param matched
+     * @param unmatched
+     * @param missing
+     */
+    private void reportResults(TestContext context, long[] latencies, long elapsed, int matched, int unmatched, int missing) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        double throughput = throughput(latencies.length, elapsed);
+
+        context.setVariable(JmsVariableNames.CONSUMER_MESSAGES.value(), String.valueOf(latencies.length));
+        context.setVariable(JmsVariableNames.CONSUMER_THROUGHPUT.value(), format(throughput));
+        context.setVariable(JmsVariableNames.CONSUMER_MATCHED.value(), String.valueOf(matched));
+        context.setVariable(JmsVariableNames.CONSUMER_UNMATCHED.value(), String.valueOf(unmatched));
+        context.setVariable(JmsVariableNames.CONSUMER_MISSING.value(), String.valueOf(missing));
+        context.setVariable(JmsVariableNames.CONSUMER_LATENCY_P50.value(), format(percentile(sorted, 50)));
+        context.setVariable(JmsVariableNames.CONSUMER_LATENCY_P95.value(), format(percentile(sorted, 95)));
+        context.setVariable(JmsVariableNames.CONSUMER_LATENCY_P99.value(), format(percentile(sorted, 99)));
+        context.setVariable(JmsVariableNames.CONSUMER_LATENCY_MAX.value(), format(percentile(sorted, 100)));
+
+        LOG.info(String.format("Received %d JMS messages in %d ms - throughput: %s msg/s, matched: %d, unmatched: %d, missing: %d, " +
+                        "latency p50: %s ms, p95: %s ms, p99: %s ms", latencies.length, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                format(throughput), matched, unmatched, missing,
+                format(percentile(sorted, 50)), format(percentile(sorted, 95)), format(percentile(sorted, 99))));
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<JmsBulkConsumerAction, Builder> {
+
+        private JmsEndpoint endpoint;
+        private String destination;
+        private String selector;
+        private String body;
+        private int messages;
+        private int batchSize = JmsSettings.getBatchSize();
+        private long timeout = JmsSettings.getTimeout();
+
+        public Builder endpoint(JmsEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder destination(String destination) {
+            this.destination = destination;
+            return this;
+        }
+
+        public Builder selector(String selector) {
+            this.selector = selector;
+            return this;
+        }
+
+        /**
+         * Expected message body template resolved for each message index.
+         * @param body
+         * @return
+         */
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder messages(int messages) {
+            this.messages = messages;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public JmsBulkConsumerAction build() {
+            if (endpoint == null) {
+                throw new CitrusRuntimeException("Missing JMS endpoint for bulk consumer");
+            }
+
+            if (messages <= 0) {
+                throw new CitrusRuntimeException("Missing number of messages for bulk consumer");
+            }
+
+            if (batchSize <= 0) {
+                throw new CitrusRuntimeException(String.format("Invalid JMS batch size %d - must be greater than zero", batchSize));
+            }
+
+            return new JmsBulkConsumerAction(this);
+        }
+    }
+}
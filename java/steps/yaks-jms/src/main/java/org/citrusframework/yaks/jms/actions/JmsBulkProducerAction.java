@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms.actions;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import org.citrusframework.yaks.jms.JmsSettings;
+import org.citrusframework.yaks.jms.JmsVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.yaks.jms.actions.JmsActionSupport.resolveDestination;
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.percentile;
+import static org.citrusframework.yaks.util.StatisticsUtils.throughput;
+import static org.citrusframework.yaks.util.TemplateUtils.isDynamic;
+
+/**
+ * Sends a number of text messages to a JMS destination using a transacted session. The session is committed after each
+ * batch of messages. Message body and headers are templates that may use test variables and functions, these are resolved
+ * for each message. The current message index is available as test variable <code>JMS_MESSAGE_INDEX</code>.
+ *
+ * The latency of a message is measured from the send call until the commit of its batch has finished. Throughput and
+ * latency percentiles are saved as test variables.
+ *
+ * @author Christoph Deppisch
+ */
+public class JmsBulkProducerAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JmsBulkProducerAction.class);
+
+    /** Test variable holding the index of the message currently sent */
+    public static final String MESSAGE_INDEX_VARIABLE = "JMS_MESSAGE_INDEX";
+
+    private final JmsEndpoint endpoint;
+    private final String destination;
+    private final String body;
+    private final Map<String, Object> headers;
+    private final int messages;
+    private final int batchSize;
+
+    public JmsBulkProducerAction(Builder builder) {
+        super("jms-bulk-producer", builder);
+
+        this.endpoint = builder.endpoint;
+        this.destination = builder.destination;
+        this.body = builder.body;
+        this.headers = builder.headers;
+        this.messages = builder.messages;
+        this.batchSize = builder.batchSize;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        ConnectionFactory connectionFactory = endpoint.getEndpointConfiguration().getConnectionFactory();
+        if (connectionFactory == null) {
+            throw new CitrusRuntimeException("Missing JMS connection factory for bulk producer");
+        }
+
+        boolean dynamicBody = isDynamic(body);
+        String resolvedBody = body != null && !dynamicBody ? context.replaceDynamicContentInString(body) : body;
+
+        long[] latencies = new long[messages];
+        long[] sendStarts = new long[batchSize];
+        long start = System.nanoTime();
+
+        try (Connection connection = connectionFactory.createConnection();
+             Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+             MessageProducer producer = session.createProducer(resolveDestination(session, endpoint, destination, context))) {
+            int batchStart = 0;
+            for (int i = 0; i < messages; i++) {
+                context.setVariable(MESSAGE_INDEX_VARIABLE, i);
+
+                TextMessage message = session.createTextMessage(dynamicBody ? context.replaceDynamicContentInString(body) : resolvedBody);
+                for (Map.Entry<String, Object> header : headers.entrySet()) {
+                    message.setObjectProperty(context.replaceDynamicContentInString(header.getKey()),
+                            context.replaceDynamicContentInString(String.valueOf(header.getValue())));
+                }
+
+                sendStarts[i - batchStart] = System.nanoTime();
+                producer.send(message);
+
+                if (i - batchStart + 1 == batchSize || i == messages - 1) {
+                    session.commit();
+                    long committed = System.nanoTime();
+                    for (int j = batchStart; j <= i; j++) {
+                        latencies[j] = committed - sendStarts[j - batchStart];
+                    }
+                    batchStart = i + 1;
+                }
+            }
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException("Failed to send JMS messages", e);
+        }
+
+        reportResults(context, latencies, System.nanoTime() - start);
+    }
+
+    /**
+     * Computes throughput and latency percentiles and saves them as test variables.
+     * @param context
+     * @param latencies
+     * @param elapsed
+     */
+    private void reportResults(TestContext context, long[] latencies, long elapsed) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        double throughput = throughput(messages, elapsed);
+
+        context.setVariable(JmsVariableNames.PRODUCER_MESSAGES.value(), String.valueOf(messages));
+        context.setVariable(JmsVariableNames.PRODUCER_THROUGHPUT.value(), format(throughput));
+        context.setVariable(JmsVariableNames.PRODUCER_LATENCY_P50.value(), format(percentile(sorted, 50)));
+        context.setVariable(JmsVariableNames.PRODUCER_LATENCY_P95.value(), format(percentile(sorted, 95)));
+        context.setVariable(JmsVariableNames.PRODUCER_LATENCY_P99.value(), format(percentile(sorted, 99)));
+        context.setVariable(JmsVariableNames.PRODUCER_LATENCY_MAX.value(), format(percentile(sorted, 100)));
+
+        LOG.info(String.format("Sent %d JMS messages in batches of %d in %d ms - throughput: %s msg/s, " +
+                        "latency p50: %s ms, p95: %s ms, p99: %s ms", messages, batchSize, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                format(throughput), format(percentile(sorted, 50)), format(percentile(sorted, 95)), format(percentile(sorted, 99))));
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<JmsBulkProducerAction, Builder> {
+
+        private JmsEndpoint endpoint;
+        private String destination;
+        private String body;
+        private final Map<String, Object> headers = new LinkedHashMap<>();
+        private int messages;
+        private int batchSize = JmsSettings.getBatchSize();
+
+        public Builder endpoint(JmsEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder destination(String destination) {
+            this.destination = destination;
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder headers(Map<String, Object> headers) {
+            this.headers.putAll(headers);
+            return this;
+        }
+
+        public Builder messages(int messages) {
+            this.messages = messages;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        @Override
+        public JmsBulkProducerAction build() {
+            if (endpoint == null) {
+                throw new CitrusRuntimeException("Missing JMS endpoint for bulk producer");
+            }
+
+            if (messages <= 0) {
+                throw new CitrusRuntimeException("Missing number of messages for bulk producer");
+            }
+
+            if (batchSize <= 0) {
+                throw new CitrusRuntimeException(String.format("Invalid JMS batch size %d - must be greater than zero", batchSize));
+            }
+
+            return new JmsBulkProducerAction(this);
+        }
+    }
+}
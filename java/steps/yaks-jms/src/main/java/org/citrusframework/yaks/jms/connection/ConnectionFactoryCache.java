@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms.connection;
+
+import javax.jms.ConnectionFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.citrusframework.yaks.jms.JmsSettings;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+/**
+ * Keeps caching connection factories for connection settings. Each connection factory created by a
+ * {@link ConnectionFactoryCreator} gets wrapped with a {@link CachingConnectionFactory} that shares a single connection
+ * and caches sessions and producers. Scenarios using the same connection settings reuse the cached connection factory
+ * so messages are sent and received without opening new broker connections.
+ *
+ * All cached connection factories are destroyed on JVM shutdown.
+ *
+ * @author Christoph Deppisch
+ */
+public final class ConnectionFactoryCache {
+
+    private static final Map<Map<String, String>, CachingConnectionFactory> CONNECTION_FACTORIES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConnectionFactoryCache::clear, "yaks-jms-connection-cache-shutdown"));
+    }
+
+    private ConnectionFactoryCache() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets cached connection factory for given connection settings or creates a new one with given creator.
+     * @param properties
+     * @param creator
+     * @return
+     */
+    public static ConnectionFactory getOrCreate(Map<String, String> properties, ConnectionFactoryCreator creator) {
+        // creators may modify the given settings so use a copy as key
+        Map<String, String> key = new LinkedHashMap<>(properties);
+        return CONNECTION_FACTORIES.computeIfAbsent(key, settings -> wrap(creator.create(new LinkedHashMap<>(settings))));
+    }
+
+    /**
+     * Wraps given connection factory with a caching connection factory using the cache settings.
+     * @param connectionFactory
+     * @return
+     */
+    public static CachingConnectionFactory wrap(ConnectionFactory connectionFactory) {
+        CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory(connectionFactory);
+        cachingConnectionFactory.setSessionCacheSize(JmsSettings.getSessionCacheSize());
+        cachingConnectionFactory.setCacheProducers(JmsSettings.isCacheProducers());
+        cachingConnectionFactory.setCacheConsumers(JmsSettings.isCacheConsumers());
+        cachingConnectionFactory.setReconnectOnException(true);
+        return cachingConnectionFactory;
+    }
+
+    /**
+     * Destroys all cached connection factories and closes the shared connections.
+     */
+    public static void clear() {
+        CONNECTION_FACTORIES.values().forEach(CachingConnectionFactory::destroy);
+        CONNECTION_FACTORIES.clear();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jms.connection;
+
+import javax.jms.ConnectionFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ConnectionFactoryCacheTest {
+
+    private DefaultConnectionFactoryCreator connectionFactoryCreator = new DefaultConnectionFactoryCreator();
+
+    @After
+    public void cleanup() {
+        ConnectionFactoryCache.clear();
+    }
+
+    @Test
+    public void shouldWrapConnectionFactory() {
+        ConnectionFactory connectionFactory = ConnectionFactoryCache.getOrCreate(connectionSettings("tcp://localhost:61617"), connectionFactoryCreator);
+
+        Assertions.assertThat(connectionFactory).isInstanceOf(CachingConnectionFactory.class);
+        CachingConnectionFactory cachingConnectionFactory = (CachingConnectionFactory) connectionFactory;
+        Assertions.assertThat(cachingConnectionFactory.getTargetConnectionFactory()).isInstanceOf(ActiveMQConnectionFactory.class);
+        Assertions.assertThat(((ActiveMQConnectionFactory) cachingConnectionFactory.getTargetConnectionFactory()).getBrokerURL()).isEqualTo("tcp://localhost:61617");
+        Assertions.assertThat(cachingConnectionFactory.getSessionCacheSize()).isEqualTo(10);
+        Assertions.assertThat(cachingConnectionFactory.isCacheProducers()).isTrue();
+        Assertions.assertThat(cachingConnectionFactory.isCacheConsumers()).isFalse();
+    }
+
+    @Test
+    public void shouldReuseConnectionFactory() {
+        Map<String, String> connectionSettings = connectionSettings("tcp://localhost:61617");
+        ConnectionFactory connectionFactory = ConnectionFactoryCache.getOrCreate(connectionSettings, connectionFactoryCreator);
+
+        Assertions.assertThat(connectionSettings).containsKey("type");
+        Assertions.assertThat(ConnectionFactoryCache.getOrCreate(connectionSettings("tcp://localhost:61617"), connectionFactoryCreator)).isSameAs(connectionFactory);
+        Assertions.assertThat(ConnectionFactoryCache.getOrCreate(connectionSettings("tcp://localhost:61618"), connectionFactoryCreator)).isNotSameAs(connectionFactory);
+    }
+
+    private static Map<String, String> connectionSettings(String brokerUrl) {
+        Map<String, String> connectionSettings = new LinkedHashMap<>();
+        connectionSettings.put("type", ActiveMQConnectionFactory.class.getName());
+        connectionSettings.put("brokerUrl", brokerUrl);
+        return connectionSettings;
+    }
+}
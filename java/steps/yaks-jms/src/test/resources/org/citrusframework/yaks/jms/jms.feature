@@ -49,3 +49,13 @@ Feature: JMS steps
       | tag | citrus:randomString(10) |
     Then expect JMS message with body and headers: ${correctBody}
       | tag | ${tag} |
+
+  Scenario: Send and receive bulk messages
+    Given JMS message header source="yaks"
+    And JMS message body: {"index": ${JMS_MESSAGE_INDEX}}
+    When send 100 JMS messages to destination bulk in batches of 20
+    Then JMS producer p99 latency should be below 10000 ms
+    Given JMS message body: {"index": ${JMS_MESSAGE_INDEX}}
+    Then receive 100 JMS messages on destination bulk in batches of 25
+    And JMS consumer throughput should be above 1 messages per second
+    And print 'Received ${JMS_CONSUMER_MESSAGES} messages with ${JMS_CONSUMER_THROUGHPUT} msg/s and ${JMS_CONSUMER_LATENCY_P95} ms p95 latency'
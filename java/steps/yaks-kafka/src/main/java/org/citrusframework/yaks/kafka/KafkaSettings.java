@@ -35,6 +35,30 @@ public class KafkaSettings {
     private static final String ENDPOINT_NAME_ENV = KAFKA_ENV_PREFIX + "ENDPOINT_NAME";
     private static final String ENDPOINT_NAME_DEFAULT = "yaks-kafka-endpoint";
 
+    private static final String PRODUCER_BATCH_SIZE_PROPERTY = KAFKA_PROPERTY_PREFIX + "producer.batch.size";
+    private static final String PRODUCER_BATCH_SIZE_ENV = KAFKA_ENV_PREFIX + "PRODUCER_BATCH_SIZE";
+    private static final String PRODUCER_BATCH_SIZE_DEFAULT = "65536";
+
+    private static final String PRODUCER_LINGER_MS_PROPERTY = KAFKA_PROPERTY_PREFIX + "producer.linger.ms";
+    private static final String PRODUCER_LINGER_MS_ENV = KAFKA_ENV_PREFIX + "PRODUCER_LINGER_MS";
+    private static final String PRODUCER_LINGER_MS_DEFAULT = "5";
+
+    private static final String PRODUCER_COMPRESSION_TYPE_PROPERTY = KAFKA_PROPERTY_PREFIX + "producer.compression.type";
+    private static final String PRODUCER_COMPRESSION_TYPE_ENV = KAFKA_ENV_PREFIX + "PRODUCER_COMPRESSION_TYPE";
+    private static final String PRODUCER_COMPRESSION_TYPE_DEFAULT = "none";
+
+    private static final String EMBEDDED_PROPERTY = KAFKA_PROPERTY_PREFIX + "embedded";
+    private static final String EMBEDDED_ENV = KAFKA_ENV_PREFIX + "EMBEDDED";
+    private static final String EMBEDDED_DEFAULT = "false";
+
+    private static final String EMBEDDED_PORT_PROPERTY = KAFKA_PROPERTY_PREFIX + "embedded.port";
+    private static final String EMBEDDED_PORT_ENV = KAFKA_ENV_PREFIX + "EMBEDDED_PORT";
+    private static final String EMBEDDED_PORT_DEFAULT = "0";
+
+    private static final String EMBEDDED_PARTITIONS_PROPERTY = KAFKA_PROPERTY_PREFIX + "embedded.partitions";
+    private static final String EMBEDDED_PARTITIONS_ENV = KAFKA_ENV_PREFIX + "EMBEDDED_PARTITIONS";
+    private static final String EMBEDDED_PARTITIONS_DEFAULT = "1";
+
     static final String NAMESPACE_PROPERTY = KAFKA_PROPERTY_PREFIX + "namespace";
     static final String NAMESPACE_ENV = KAFKA_ENV_PREFIX + "NAMESPACE";
 
@@ -60,6 +84,61 @@ public class KafkaSettings {
                 System.getenv(ENDPOINT_NAME_ENV) != null ? System.getenv(ENDPOINT_NAME_ENV) : ENDPOINT_NAME_DEFAULT);
     }
 
+    /**
+     * Batch size in bytes used by the bulk producer.
+     * @return
+     */
+    public static int getProducerBatchSize() {
+        return Integer.parseInt(System.getProperty(PRODUCER_BATCH_SIZE_PROPERTY,
+                System.getenv(PRODUCER_BATCH_SIZE_ENV) != null ? System.getenv(PRODUCER_BATCH_SIZE_ENV) : PRODUCER_BATCH_SIZE_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds the bulk producer waits for more messages before sending a batch.
+     * @return
+     */
+    public static long getProducerLingerMs() {
+        return Long.parseLong(System.getProperty(PRODUCER_LINGER_MS_PROPERTY,
+                System.getenv(PRODUCER_LINGER_MS_ENV) != null ? System.getenv(PRODUCER_LINGER_MS_ENV) : PRODUCER_LINGER_MS_DEFAULT));
+    }
+
+    /**
+     * Compression type used by the bulk producer (none, gzip, snappy, lz4, zstd).
+     * @return
+     */
+    public static String getProducerCompressionType() {
+        return System.getProperty(PRODUCER_COMPRESSION_TYPE_PROPERTY,
+                System.getenv(PRODUCER_COMPRESSION_TYPE_ENV) != null ? System.getenv(PRODUCER_COMPRESSION_TYPE_ENV) :
+                        PRODUCER_COMPRESSION_TYPE_DEFAULT);
+    }
+
+    /**
+     * When enabled the steps start an embedded in-process Kafka broker and connect to it.
+     * @return
+     */
+    public static boolean isEmbedded() {
+        return Boolean.parseBoolean(System.getProperty(EMBEDDED_PROPERTY,
+                System.getenv(EMBEDDED_ENV) != null ? System.getenv(EMBEDDED_ENV) : EMBEDDED_DEFAULT));
+    }
+
+    /**
+     * Port of the embedded Kafka broker. The default 0 selects a random free port.
+     * @return
+     */
+    public static int getEmbeddedPort() {
+        return Integer.parseInt(System.getProperty(EMBEDDED_PORT_PROPERTY,
+                System.getenv(EMBEDDED_PORT_ENV) != null ? System.getenv(EMBEDDED_PORT_ENV) : EMBEDDED_PORT_DEFAULT));
+    }
+
+    /**
+     * Number of partitions for topics auto created on the embedded Kafka broker.
+     * @return
+     */
+    public static int getEmbeddedPartitions() {
+        return Integer.parseInt(System.getProperty(EMBEDDED_PARTITIONS_PROPERTY,
+                System.getenv(EMBEDDED_PARTITIONS_ENV) != null ? System.getenv(EMBEDDED_PARTITIONS_ENV) : EMBEDDED_PARTITIONS_DEFAULT));
+    }
+
     /**
      * Namespace to work on when performing Kafka client operations such as creating brokers, topics and so on.
      * @return
@@ -18,17 +18,24 @@
 package org.citrusframework.yaks.kafka;
 
 import java.io.IOException;
+import java.net.ServerSocket;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
 import com.consol.citrus.kafka.endpoint.KafkaEndpointBuilder;
+import com.consol.citrus.kafka.embedded.EmbeddedKafkaServer;
+import com.consol.citrus.kafka.embedded.EmbeddedKafkaServerBuilder;
 import com.consol.citrus.kafka.message.KafkaMessage;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
@@ -39,12 +46,21 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.citrusframework.yaks.kafka.actions.KafkaBulkConsumerAction;
+import org.citrusframework.yaks.kafka.actions.KafkaBulkProducerAction;
+import org.citrusframework.yaks.kafka.actions.KafkaConsumerSeekAction;
 
 import static com.consol.citrus.actions.ReceiveMessageAction.Builder.receive;
 import static com.consol.citrus.actions.SendMessageAction.Builder.send;
 
 public class KafkaSteps {
 
+    /** Name of the dedicated endpoint connected to the embedded Kafka broker */
+    private static final String EMBEDDED_ENDPOINT_NAME = "yaks-kafka-embedded-endpoint";
+
+    /** Embedded Kafka broker shared by all scenarios in this JVM */
+    private static EmbeddedKafkaServer embeddedServer;
+
     @CitrusResource
     private TestCaseRunner runner;
 
@@ -85,13 +101,33 @@ public class KafkaSteps {
 
         messageKey = null;
         partition = null;
+
+        if (KafkaSettings.isEmbedded()) {
+            startEmbeddedServer();
+        }
+    }
+
+    @Given("^(?:start )?embedded (?:Kafka|kafka) (?:broker|server)$")
+    public void startEmbeddedServer() {
+        EmbeddedKafkaServer server = getOrCreateEmbeddedServer();
+
+        if (citrus.getCitrusContext().getReferenceResolver().isResolvable(EMBEDDED_ENDPOINT_NAME)) {
+            kafkaEndpoint = citrus.getCitrusContext().getReferenceResolver().resolve(EMBEDDED_ENDPOINT_NAME, KafkaEndpoint.class);
+        } else {
+            kafkaEndpoint = new KafkaEndpointBuilder().build();
+            kafkaEndpoint.getEndpointConfiguration().setServer(getEmbeddedServerUrl(server));
+            kafkaEndpoint.getEndpointConfiguration().setOffsetReset("earliest");
+            citrus.getCitrusContext().getReferenceResolver().bind(EMBEDDED_ENDPOINT_NAME, kafkaEndpoint);
+        }
+
+        setTopic(topic);
     }
 
     @Given("^(?:Kafka|kafka) connection$")
     public void setConnection(DataTable properties) {
         Map<String, String> connectionProps = properties.asMap(String.class, String.class);
 
-        String url = connectionProps.getOrDefault("url", "localhost:9092");
+        String url = connectionProps.getOrDefault("url", getDefaultServerUrl());
         String topicName = connectionProps.getOrDefault("topic", this.topic);
         String consumerGroup = connectionProps.getOrDefault("consumerGroup", KafkaMessageHeaders.KAFKA_PREFIX + "group");
         String offsetReset = connectionProps.getOrDefault("offsetReset", "earliest");
@@ -250,6 +286,197 @@ public class KafkaSteps {
         receiveMessageBody(body);
     }
 
+    @When("^send (\\d+) (?:Kafka|kafka) messages(?: to topic ([^\\s]+))?(?: at rate (\\d+)(?:/s| per second))?$")
+    public void sendMessages(int messages, String topicName, Integer rate) {
+        if (topicName != null) {
+            setTopic(topicName);
+        }
+
+        runner.run(new KafkaBulkProducerAction.Builder()
+                .endpoint(kafkaEndpoint)
+                .topic(topic)
+                .partition(partition)
+                .key(messageKey)
+                .body(body)
+                .headers(headers)
+                .messages(messages)
+                .rate(Optional.ofNullable(rate).orElse(0))
+                .timeout(timeout));
+
+        body = null;
+        headers.clear();
+    }
+
+    @Then("^(?:Kafka|kafka) producer (p50|p95|p99|max) latency should be below (\\d+(?:\\.\\d+)?)(?: ms| milliseconds)$")
+    public void verifyProducerLatency(String metric, double maxLatency) {
+        KafkaVariableNames variable = KafkaVariableNames.valueOf("PRODUCER_LATENCY_" + metric.toUpperCase(Locale.US));
+        runner.run((TestAction) context -> {
+            double latency = Double.parseDouble(context.getVariable(variable.value()));
+            if (latency >= maxLatency) {
+                throw new ValidationException(String.format("Kafka producer %s latency validation failed - " +
+                        "expected below %s but was %s", metric, maxLatency, latency));
+            }
+        });
+    }
+
+    @Then("^(?:Kafka|kafka) producer throughput should be (?:above|at least) (\\d+(?:\\.\\d+)?) messages per second$")
+    public void verifyProducerThroughput(double minThroughput) {
+        runner.run((TestAction) context -> {
+            double throughput = Double.parseDouble(context.getVariable(KafkaVariableNames.PRODUCER_THROUGHPUT.value()));
+            if (throughput < minThroughput) {
+                throw new ValidationException(String.format("Kafka producer throughput validation failed - " +
+                        "expected at least %s but was %s", minThroughput, throughput));
+            }
+        });
+    }
+
+    @Then("^receive (\\d+) (?:Kafka|kafka) messages(?: on topic ([^\\s]+))?$")
+    public void receiveMessages(int messages, String topicName) {
+        if (topicName != null) {
+            setTopic(topicName);
+        }
+
+        runner.run(new KafkaBulkConsumerAction.Builder()
+                .endpoint(kafkaEndpoint)
+                .topic(topic)
+                .partition(partition)
+                .key(messageKey)
+                .body(body)
+                .messages(messages)
+                .timeout(timeout));
+
+        body = null;
+        headers.clear();
+    }
+
+    @Then("^(?:receive|expect|verify) (?:Kafka|kafka) messages(?: on topic ([^\\s]+))?$")
+    public void receiveMessages(String topicName, DataTable expectedMessages) {
+        if (topicName != null) {
+            setTopic(topicName);
+        }
+
+        KafkaBulkConsumerAction.Builder consumer = new KafkaBulkConsumerAction.Builder()
+                .endpoint(kafkaEndpoint)
+                .topic(topic)
+                .partition(partition)
+                .timeout(timeout);
+
+        expectedMessages.asMaps().forEach(row -> consumer.expect(row.get("key"), row.get("body")));
+        runner.run(consumer);
+    }
+
+    @Then("^(?:Kafka|kafka) consumer (p50|p95|p99|max) lag should be below (\\d+(?:\\.\\d+)?)(?: ms| milliseconds)$")
+    public void verifyConsumerLag(String metric, double maxLag) {
+        KafkaVariableNames variable = KafkaVariableNames.valueOf("CONSUMER_LAG_" + metric.toUpperCase(Locale.US));
+        runner.run((TestAction) context -> {
+            double lag = Double.parseDouble(context.getVariable(variable.value()));
+            if (lag >= maxLag) {
+                throw new ValidationException(String.format("Kafka consumer %s lag validation failed - " +
+                        "expected below %s but was %s", metric, maxLag, lag));
+            }
+        });
+    }
+
+    @Given("^(?:Kafka|kafka) consumer seek to (beginning|end)(?: of topic ([^\\s]+))?$")
+    public void seekConsumer(String position, String topicName) {
+        KafkaConsumerSeekAction.Builder seek = createSeekAction(topicName);
+        if ("end".equals(position)) {
+            seek.seekToEnd();
+        } else {
+            seek.seekToBeginning();
+        }
+
+        runner.run(seek);
+    }
+
+    @Given("^(?:Kafka|kafka) consumer seek to timestamp ([^\\s]+)(?: on topic ([^\\s]+))?$")
+    public void seekConsumerToTimestamp(String timestamp, String topicName) {
+        runner.run(createSeekAction(topicName).seekToTimestamp(timestamp));
+    }
+
+    @Given("^(?:Kafka|kafka) consumer seek to offset (\\d+)(?: on topic ([^\\s]+))?$")
+    public void seekConsumerToOffset(long offset, String topicName) {
+        runner.run(createSeekAction(topicName).seekToOffset(offset));
+    }
+
+    @Given("^(?:Kafka|kafka) consumer offsets(?: on topic ([^\\s]+))?$")
+    public void seekConsumerToOffsets(String topicName, DataTable offsets) {
+        KafkaConsumerSeekAction.Builder seek = createSeekAction(topicName);
+        offsets.<Integer, Long>asMap(Integer.class, Long.class).forEach((partition, offset) -> seek.seekToOffset(partition, offset));
+        runner.run(seek);
+    }
+
+    @Then("^(?:Kafka|kafka) consumer offset lag should be (?:below|at most) (\\d+)(?: messages)?(?: on topic ([^\\s]+))?$")
+    public void verifyConsumerOffsetLag(long maxLag, String topicName) {
+        runner.run(createSeekAction(topicName));
+        runner.run((TestAction) context -> {
+            long lag = Long.parseLong(context.getVariable(KafkaVariableNames.CONSUMER_OFFSET_LAG.value()));
+            if (lag > maxLag) {
+                throw new ValidationException(String.format("Kafka consumer offset lag validation failed - " +
+                        "expected at most %d but was %d", maxLag, lag));
+            }
+        });
+    }
+
+    private KafkaConsumerSeekAction.Builder createSeekAction(String topicName) {
+        if (topicName != null) {
+            setTopic(topicName);
+        }
+
+        return new KafkaConsumerSeekAction.Builder()
+                .endpoint(kafkaEndpoint)
+                .topic(topic)
+                .partition(partition)
+                .timeout(timeout);
+    }
+
+    /**
+     * Starts the embedded Kafka broker on first use. The broker is shared by all following scenarios in the same JVM
+     * and is stopped on JVM shutdown. Topics get created on demand so each scenario is free to use its own topic.
+     * @return
+     */
+    private static EmbeddedKafkaServer getOrCreateEmbeddedServer() {
+        synchronized (KafkaSteps.class) {
+            if (embeddedServer == null) {
+                int port = KafkaSettings.getEmbeddedPort() > 0 ? KafkaSettings.getEmbeddedPort() : findFreePort();
+
+                Map<String, String> brokerProperties = new HashMap<>();
+                brokerProperties.put("auto.create.topics.enable", "true");
+                brokerProperties.put("num.partitions", String.valueOf(KafkaSettings.getEmbeddedPartitions()));
+
+                EmbeddedKafkaServer server = new EmbeddedKafkaServerBuilder()
+                        .kafkaServerPort(port)
+                        .zookeeperPort(findFreePort())
+                        .brokerProperties(brokerProperties)
+                        .build();
+
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "yaks-kafka-embedded-shutdown"));
+                embeddedServer = server;
+            }
+
+            return embeddedServer;
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to find free port for embedded Kafka broker", e);
+        }
+    }
+
+    private static String getDefaultServerUrl() {
+        synchronized (KafkaSteps.class) {
+            return embeddedServer != null ? getEmbeddedServerUrl(embeddedServer) : "localhost:9092";
+        }
+    }
+
+    private static String getEmbeddedServerUrl(EmbeddedKafkaServer server) {
+        return "localhost:" + server.getKafkaServerPort();
+    }
+
     private Message createKafkaMessage() {
         KafkaMessage message = new KafkaMessage(body, headers)
                 .topic(topic);
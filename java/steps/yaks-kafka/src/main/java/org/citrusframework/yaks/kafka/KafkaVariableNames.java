@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka;
+
+/**
+ * @author Christoph Deppisch
+ */
+public enum KafkaVariableNames {
+
+    PRODUCER_MESSAGES("KAFKA_PRODUCER_MESSAGES"),
+    PRODUCER_THROUGHPUT("KAFKA_PRODUCER_THROUGHPUT"),
+    PRODUCER_BYTES_PER_SECOND("KAFKA_PRODUCER_BYTES_PER_SECOND"),
+    PRODUCER_LATENCY_P50("KAFKA_PRODUCER_LATENCY_P50"),
+    PRODUCER_LATENCY_P95("KAFKA_PRODUCER_LATENCY_P95"),
+    PRODUCER_LATENCY_P99("KAFKA_PRODUCER_LATENCY_P99"),
+    PRODUCER_LATENCY_MAX("KAFKA_PRODUCER_LATENCY_MAX"),
+    CONSUMER_MESSAGES("KAFKA_CONSUMER_MESSAGES"),
+    CONSUMER_MATCHED("KAFKA_CONSUMER_MATCHED"),
+    CONSUMER_UNMATCHED("KAFKA_CONSUMER_UNMATCHED"),
+    CONSUMER_MISSING("KAFKA_CONSUMER_MISSING"),
+    CONSUMER_LAG_P50("KAFKA_CONSUMER_LAG_P50"),
+    CONSUMER_LAG_P95("KAFKA_CONSUMER_LAG_P95"),
+    CONSUMER_LAG_P99("KAFKA_CONSUMER_LAG_P99"),
+    CONSUMER_LAG_MAX("KAFKA_CONSUMER_LAG_MAX"),
+    CONSUMER_OFFSET_LAG("KAFKA_CONSUMER_OFFSET_LAG");
+
+    private final String variableName;
+
+    KafkaVariableNames(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public String value() {
+        return variableName;
+    }
+
+    @Override
+    public String toString() {
+        return variableName;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka.actions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.citrusframework.yaks.kafka.KafkaSettings;
+import org.citrusframework.yaks.kafka.KafkaVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.percentile;
+import static org.citrusframework.yaks.util.TemplateUtils.isDynamic;
+
+/**
+ * Consumes a number of records from a Kafka topic with a single consumer and verifies each record against a set of
+ * expected message keys and bodies. Matching uses a hash based lookup so the order of records does not matter.
+ *
+ * Expected messages are either given explicitly or as key and body templates that get resolved for each message index
+ * (available as test variable <code>KAFKA_MESSAGE_INDEX</code>). When no expectations are given the action just consumes
+ * the given number of records.
+ *
+ * The consumer gets assigned to all partitions of the topic (or the given partition) and uses its own consumer group
+ * so it does not interfere with the regular endpoint consumer. Offsets of consumed records are committed at the end.
+ *
+ * Matched and unmatched counts as well as end-to-end lag percentiles (record timestamp until receipt) are saved as
+ * test variables.
+ *
+ * @author Christoph Deppisch
+ */
+public class KafkaBulkConsumerAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaBulkConsumerAction.class);
+
+    /** Suffix added to the endpoint consumer group */
+    public static final String CONSUMER_GROUP_SUFFIX = "-bulk";
+
+    /** Maximum number of unmatched records listed in validation errors */
+    private static final int MAX_REPORTED_UNMATCHED = 5;
+
+    private final KafkaEndpoint endpoint;
+    private final String topic;
+    private final Integer partition;
+    private final String key;
+    private final String body;
+    private final List<List<String>> expected;
+    private final int messages;
+    private final long timeout;
+
+    public KafkaBulkConsumerAction(Builder builder) {
+        super("kafka-bulk-consumer", builder);
+
+        this.endpoint = builder.endpoint;
+        this.topic = builder.topic;
+        this.partition = builder.partition;
+        this.key = builder.key;
+        this.body = builder.body;
+        this.expected = builder.expected;
+        this.messages = builder.messages > 0 ? builder.messages : builder.expected.size();
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String topicName = context.replaceDynamicContentInString(topic != null ? topic : endpoint.getEndpointConfiguration().getTopic());
+
+        boolean matchKeys = key != null || expected.stream().anyMatch(entry -> entry.get(0) != null);
+        boolean matchBodies = body != null || expected.stream().anyMatch(entry -> entry.get(1) != null);
+        Map<List<String>, Integer> pending = getExpectedMessages(context, matchKeys, matchBodies);
+        boolean verify = matchKeys || matchBodies;
+
+        long[] lags = new long[messages];
+        int received = 0;
+        int matched = 0;
+        List<String> unmatched = new ArrayList<>();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+        long deadline = System.currentTimeMillis() + timeout;
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(getConsumerProperties(context))) {
+            consumer.assign(getPartitions(consumer, topicName));
+
+            while (received < messages && System.currentTimeMillis() < deadline) {
+                long remaining = Math.max(1L, deadline - System.currentTimeMillis());
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(remaining))) {
+                    long now = System.currentTimeMillis();
+                    lags[received++] = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, now - record.timestamp()));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+
+                    if (verify) {
+                        List<String> candidate = Arrays.asList(matchKeys ? record.key() : null, matchBodies ? record.value() : null);
+                        Integer count = pending.get(candidate);
+                        if (count == null) {
+                            unmatched.add(String.format("key=%s, body=%s", record.key(), record.value()));
+                        } else {
+                            matched++;
+                            if (count == 1) {
+                                pending.remove(candidate);
+                            } else {
+                                pending.put(candidate, count - 1);
+                            }
+                        }
+                    }
+
+                    if (received == messages) {
+                        break;
+                    }
+                }
+            }
+
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+        }
+
+        int missing = pending.values().stream().mapToInt(Integer::intValue).sum();
+        reportResults(context, Arrays.copyOf(lags, received), matched, unmatched.size(), missing);
+
+        if (received < messages) {
+            throw new CitrusRuntimeException(String.format("Timed out after %d ms - received %d of %d Kafka messages on topic '%s'",
+                    timeout, received, messages, topicName));
+        }
+
+        if (!unmatched.isEmpty() || missing > 0) {
+            throw new ValidationException(String.format("Kafka bulk message validation failed - matched %d, unmatched %d, " +
+                    "missing %d of %d expected messages%s", matched, unmatched.size(), missing, matched + missing,
+                    unmatched.isEmpty() ? "" : unmatched.stream().limit(MAX_REPORTED_UNMATCHED)
+                            .collect(Collectors.joining("], [", ", unmatched: [", "]"))));
+        }
+    }
+
+    /**
+     * Builds the multiset of expected messages from explicit expectations or key and body templates.
+     * Keys or bodies that should not be verified are set to null so they do not participate in the match.
+     * @param context
+     * @param matchKeys
+     * @param matchBodies
+     * @return
+     */
+    private Map<List<String>, Integer> getExpectedMessages(TestContext context, boolean matchKeys, boolean matchBodies) {
+        Map<List<String>, Integer> pending = new HashMap<>();
+        if (!matchKeys && !matchBodies) {
+            return pending;
+        }
+
+        if (!expected.isEmpty()) {
+            for (List<String> entry : expected) {
+                pending.merge(Arrays.asList(matchKeys ? resolve(context, entry.get(0)) : null,
+                        matchBodies ? resolve(context, entry.get(1)) : null), 1, Integer::sum);
+            }
+            return pending;
+        }
+
+        if (!isDynamic(key) && !isDynamic(body)) {
+            pending.put(Arrays.asList(resolve(context, key), resolve(context, body)), messages);
+            return pending;
+        }
+
+        for (int i = 0; i < messages; i++) {
+            context.setVariable(KafkaBulkProducerAction.MESSAGE_INDEX_VARIABLE, i);
+            pending.merge(Arrays.asList(resolve(context, key), resolve(context, body)), 1, Integer::sum);
+        }
+
+        return pending;
+    }
+
+    private static String resolve(TestContext context, String template) {
+        return template != null ? context.replaceDynamicContentInString(template) : null;
+    }
+
+    /**
+     * Computes matched and unmatched counts as well as end-to-end lag percentiles and saves them as test variables.
+     * @param context
+     * @param lags
+     * @param matched
+     * @param unmatched
+     * @param missing
+     */
+    private void reportResults(TestContext context, long[] lags, int matched, int unmatched, int missing) {
+        long[] sorted = lags.clone();
+        Arrays.sort(sorted);
+
+        context.setVariable(KafkaVariableNames.CONSUMER_MESSAGES.value(), String.valueOf(lags.length));
+        context.setVariable(KafkaVariableNames.CONSUMER_MATCHED.value(), String.valueOf(matched));
+        context.setVariable(KafkaVariableNames.CONSUMER_UNMATCHED.value(), String.valueOf(unmatched));
+        context.setVariable(KafkaVariableNames.CONSUMER_MISSING.value(), String.valueOf(missing));
+        context.setVariable(KafkaVariableNames.CONSUMER_LAG_P50.value(), format(percentile(sorted, 50)));
+        context.setVariable(KafkaVariableNames.CONSUMER_LAG_P95.value(), format(percentile(sorted, 95)));
+        context.setVariable(KafkaVariableNames.CONSUMER_LAG_P99.value(), format(percentile(sorted, 99)));
+        context.setVariable(KafkaVariableNames.CONSUMER_LAG_MAX.value(), format(percentile(sorted, 100)));
+
+        LOG.info(String.format("Received %d Kafka messages - matched: %d, unmatched: %d, missing: %d, " +
+                        "lag p50: %s ms, p95: %s ms, p99: %s ms", lags.length, matched, unmatched, missing,
+                format(percentile(sorted, 50)), format(percentile(sorted, 95)), format(percentile(sorted, 99))));
+    }
+
+    private List<TopicPartition> getPartitions(KafkaConsumer<String, String> consumer, String topicName) {
+        if (partition != null) {
+            return Collections.singletonList(new TopicPartition(topicName, partition));
+        }
+
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to get partitions of Kafka topic '%s'", topicName));
+        }
+
+        return partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> getConsumerProperties(TestContext context) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, context.replaceDynamicContentInString(endpoint.getEndpointConfiguration().getServer()));
+        properties.put(ConsumerConfig.CLIENT_ID_CONFIG, "yaks-kafka-bulk-consumer");
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, endpoint.getEndpointConfiguration().getConsumerGroup() + CONSUMER_GROUP_SUFFIX);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpoint.getEndpointConfiguration().getOffsetReset());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.putAll(endpoint.getEndpointConfiguration().getConsumerProperties());
+        return properties;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<KafkaBulkConsumerAction, Builder> {
+
+        private KafkaEndpoint endpoint;
+        private String topic;
+        private Integer partition;
+        private String key;
+        private String body;
+        private final List<List<String>> expected = new ArrayList<>();
+        private int messages;
+        private long timeout = KafkaSettings.getConsumerTimeout();
+
+        public Builder endpoint(KafkaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder topic(String topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        public Builder partition(Integer partition) {
+            this.partition = partition;
+            return this;
+        }
+
+        /**
+         * Expected message key template resolved for each message index.
+         * @param key
+         * @return
+         */
+        public Builder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        /**
+         * Expected message body template resolved for each message index.
+         * @param body
+         * @return
+         */
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        /**
+         * Adds explicit expected message. Keys or bodies are only verified when at least one expectation defines them.
+         * @param key
+         * @param body
+         * @return
+         */
+        public Builder expect(String key, String body) {
+            this.expected.add(Arrays.asList(key, body));
+            return this;
+        }
+
+        public Builder messages(int messages) {
+            this.messages = messages;
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public KafkaBulkConsumerAction build() {
+            if (endpoint == null) {
+                throw new CitrusRuntimeException("Missing Kafka endpoint for bulk consumer");
+            }
+
+            if (messages <= 0 && expected.isEmpty()) {
+                throw new CitrusRuntimeException("Missing number of messages or expected messages for bulk consumer");
+            }
+
+            return new KafkaBulkConsumerAction(this);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka.actions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.citrusframework.yaks.kafka.KafkaSettings;
+import org.citrusframework.yaks.kafka.KafkaVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.percentile;
+import static org.citrusframework.yaks.util.StatisticsUtils.throughput;
+import static org.citrusframework.yaks.util.TemplateUtils.isDynamic;
+
+/**
+ * Sends a number of messages to a Kafka topic using asynchronous producer sends with batching. Message body and key are
+ * templates that may use test variables and functions, these are resolved for each message. The current message index is
+ * available as test variable <code>KAFKA_MESSAGE_INDEX</code>. Sends are optionally limited to a maximum message rate.
+ *
+ * Throughput and acknowledge latency percentiles are saved as test variables.
+ *
+ * @author Christoph Deppisch
+ */
+public class KafkaBulkProducerAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaBulkProducerAction.class);
+
+    /** Test variable holding the index of the message currently sent */
+    public static final String MESSAGE_INDEX_VARIABLE = "KAFKA_MESSAGE_INDEX";
+
+    private final KafkaEndpoint endpoint;
+    private final String topic;
+    private final Integer partition;
+    private final String key;
+    private final String body;
+    private final Map<String, Object> headers;
+    private final int messages;
+    private final int rate;
+    private final int batchSize;
+    private final long lingerMs;
+    private final String compressionType;
+    private final long timeout;
+
+    public KafkaBulkProducerAction(Builder builder) {
+        super("kafka-bulk-producer", builder);
+
+        this.endpoint = builder.endpoint;
+        this.topic = builder.topic;
+        this.partition = builder.partition;
+        this.key = builder.key;
+        this.body = builder.body;
+        this.headers = builder.headers;
+        this.messages = builder.messages;
+        this.rate = builder.rate;
+        this.batchSize = builder.batchSize;
+        this.lingerMs = builder.lingerMs;
+        this.compressionType = builder.compressionType;
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String topicName = context.replaceDynamicContentInString(topic != null ? topic : endpoint.getEndpointConfiguration().getTopic());
+        boolean dynamicBody = isDynamic(body);
+        boolean dynamicKey = isDynamic(key);
+        String resolvedBody = body != null && !dynamicBody ? context.replaceDynamicContentInString(body) : body;
+        String resolvedKey = key != null && !dynamicKey ? context.replaceDynamicContentInString(key) : key;
+
+        long[] latencies = new long[messages];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicReference<Exception> firstError = new AtomicReference<>();
+        CountDownLatch acknowledged = new CountDownLatch(messages);
+        long bytes = 0L;
+
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0L;
+        long start = System.nanoTime();
+
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(getProducerProperties(context))) {
+            for (int i = 0; i < messages; i++) {
+                if (interval > 0) {
+                    long delay = start + i * interval - System.nanoTime();
+                    if (delay > 0) {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    }
+                }
+
+                context.setVariable(MESSAGE_INDEX_VARIABLE, i);
+                String value = dynamicBody ? context.replaceDynamicContentInString(body) : resolvedBody;
+                String messageKey = dynamicKey ? context.replaceDynamicContentInString(key) : resolvedKey;
+
+                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, partition, messageKey, value);
+                headers.forEach((name, headerValue) -> record.headers().add(context.replaceDynamicContentInString(name),
+                        context.replaceDynamicContentInString(String.valueOf(headerValue)).getBytes(StandardCharsets.UTF_8)));
+
+                bytes += (value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0) +
+                        (messageKey != null ? messageKey.getBytes(StandardCharsets.UTF_8).length : 0);
+
+                int index = i;
+                long sendStart = System.nanoTime();
+                producer.send(record, (metadata, exception) -> {
+                    latencies[index] = System.nanoTime() - sendStart;
+                    if (exception != null) {
+                        errors.incrementAndGet();
+                        firstError.compareAndSet(null, exception);
+                    }
+                    acknowledged.countDown();
+                });
+            }
+
+            producer.flush();
+            if (!acknowledged.await(timeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Timed out after %d ms waiting for %d Kafka messages to be acknowledged",
+                        timeout, acknowledged.getCount()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while sending Kafka messages", e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        if (errors.get() > 0) {
+            throw new CitrusRuntimeException(String.format("Failed to send %d of %d Kafka messages", errors.get(), messages),
+                    firstError.get());
+        }
+
+        reportResults(context, latencies, bytes, elapsed);
+    }
+
+    /**
+     * Computes throughput and acknowledge latency percentiles and saves them as test variables.
+     * @param context
+     * @param latencies
+     * @param bytes
+     * @param elapsed
+     */
+    private void reportResults(TestContext context, long[] latencies, long bytes, long elapsed) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        double throughput = throughput(messages, elapsed);
+        double bytesPerSecond = throughput(bytes, elapsed);
+
+        context.setVariable(KafkaVariableNames.PRODUCER_MESSAGES.value(), String.valueOf(messages));
+        context.setVariable(KafkaVariableNames.PRODUCER_THROUGHPUT.value(), format(throughput));
+        context.setVariable(KafkaVariableNames.PRODUCER_BYTES_PER_SECOND.value(), format(bytesPerSecond));
+        context.setVariable(KafkaVariableNames.PRODUCER_LATENCY_P50.value(), format(percentile(sorted, 50)));
+        context.setVariable(KafkaVariableNames.PRODUCER_LATENCY_P95.value(), format(percentile(sorted, 95)));
+        context.setVariable(KafkaVariableNames.PRODUCER_LATENCY_P99.value(), format(percentile(sorted, 99)));
+        context.setVariable(KafkaVariableNames.PRODUCER_LATENCY_MAX.value(), format(percentile(sorted, 100)));
+
+        LOG.info(String.format("Sent %d Kafka messages in %d ms - throughput: %s msg/s, %s bytes/s, " +
+                        "ack latency p50: %s ms, p95: %s ms, p99: %s ms", messages, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                format(throughput), format(bytesPerSecond), format(percentile(sorted, 50)), format(percentile(sorted, 95)),
+                format(percentile(sorted, 99))));
+    }
+
+    private Map<String, Object> getProducerProperties(TestContext context) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, context.replaceDynamicContentInString(endpoint.getEndpointConfiguration().getServer()));
+        properties.put(ProducerConfig.CLIENT_ID_CONFIG, "yaks-kafka-bulk-producer");
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        properties.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) Math.min(Integer.MAX_VALUE, timeout));
+        properties.putAll(endpoint.getEndpointConfiguration().getProducerProperties());
+        return properties;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<KafkaBulkProducerAction, Builder> {
+
+        private KafkaEndpoint endpoint;
+        private String topic;
+        private Integer partition;
+        private String key;
+        private String body;
+        private final Map<String, Object> headers = new LinkedHashMap<>();
+        private int messages;
+        private int rate;
+        private int batchSize = KafkaSettings.getProducerBatchSize();
+        private long lingerMs = KafkaSettings.getProducerLingerMs();
+        private String compressionType = KafkaSettings.getProducerCompressionType();
+        private long timeout = KafkaSettings.getConsumerTimeout();
+
+        public Builder endpoint(KafkaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder topic(String topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        public Builder partition(Integer partition) {
+            this.partition = partition;
+            return this;
+        }
+
+        public Builder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder headers(Map<String, Object> headers) {
+            this.headers.putAll(headers);
+            return this;
+        }
+
+        public Builder messages(int messages) {
+            this.messages = messages;
+            return this;
+        }
+
+        public Builder rate(int rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder lingerMs(long lingerMs) {
+            this.lingerMs = lingerMs;
+            return this;
+        }
+
+        public Builder compressionType(String compressionType) {
+            this.compressionType = compressionType;
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public KafkaBulkProducerAction build() {
+            if (endpoint == null) {
+                throw new CitrusRuntimeException("Missing Kafka endpoint for bulk producer");
+            }
+
+            return new KafkaBulkProducerAction(this);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka.actions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import com.consol.citrus.kafka.endpoint.KafkaEndpointConfiguration;
+import com.consol.citrus.kafka.message.KafkaMessageHeaders;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.citrusframework.yaks.kafka.KafkaSettings;
+import org.citrusframework.yaks.kafka.KafkaVariableNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves the position of the Kafka endpoint consumer on a topic before the next receive operation. The consumer is
+ * able to seek to the beginning or the end of the topic, to the first record at or after a given timestamp or to
+ * explicit offsets per partition. The new positions are committed for the endpoint consumer group.
+ *
+ * After the seek the action saves the current consumer lag (number of records between consumer position and end of
+ * the topic partitions) as test variable.
+ *
+ * @author Christoph Deppisch
+ */
+public class KafkaConsumerSeekAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumerSeekAction.class);
+
+    /** Interval used to poll the consumer until it gets partitions assigned */
+    private static final Duration ASSIGNMENT_POLL_INTERVAL = Duration.ofMillis(100L);
+
+    /** Clients installed on endpoint consumers */
+    private static final Map<com.consol.citrus.kafka.endpoint.KafkaConsumer, KafkaConsumer<Object, Object>> CONSUMERS = new WeakHashMap<>();
+
+    /**
+     * Supported seek positions. Current position keeps the consumer offsets and just computes the consumer lag.
+     */
+    public enum Position {
+        CURRENT,
+        BEGINNING,
+        END,
+        TIMESTAMP,
+        OFFSET
+    }
+
+    private final KafkaEndpoint endpoint;
+    private final String topic;
+    private final Integer partition;
+    private final Position position;
+    private final String timestamp;
+    private final Map<Integer, Long> offsets;
+    private final Long offset;
+    private final long timeout;
+
+    public KafkaConsumerSeekAction(Builder builder) {
+        super("kafka-consumer-seek", builder);
+
+        this.endpoint = builder.endpoint;
+        this.topic = builder.topic;
+        this.partition = builder.partition;
+        this.position = builder.position;
+        this.timestamp = builder.timestamp;
+        this.offsets = builder.offsets;
+        this.offset = builder.offset;
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String topicName = context.replaceDynamicContentInString(topic != null ? topic : endpoint.getEndpointConfiguration().getTopic());
+        Consumer<Object, Object> consumer = getConsumer(context);
+
+        List<TopicPartition> partitions = getAssignedPartitions(consumer, topicName);
+
+        switch (position) {
+            case BEGINNING:
+                consumer.seekToBeginning(partitions);
+                break;
+            case END:
+                consumer.seekToEnd(partitions);
+                break;
+            case TIMESTAMP:
+                seekToTimestamp(consumer, partitions, parseTimestamp(context.replaceDynamicContentInString(timestamp)));
+                break;
+            case OFFSET:
+                seekToOffsets(consumer, partitions, topicName);
+                break;
+            default:
+                break;
+        }
+
+        if (position != Position.CURRENT) {
+            Map<TopicPartition, OffsetAndMetadata> positions = new HashMap<>();
+            partitions.forEach(tp -> positions.put(tp, new OffsetAndMetadata(consumer.position(tp))));
+            consumer.commitSync(positions);
+        }
+
+        long lag = getConsumerLag(consumer, partitions);
+        context.setVariable(KafkaVariableNames.CONSUMER_OFFSET_LAG.value(), String.valueOf(lag));
+
+        LOG.info(String.format("Kafka consumer on topic '%s' positioned at %s - lag: %d messages", topicName,
+                partitions.stream().map(tp -> tp.partition() + "=" + consumer.position(tp))
+                        .collect(Collectors.joining(", ", "[", "]")), lag));
+    }
+
+    /**
+     * Provides the client used by the endpoint consumer. Citrus does not expose the client of the endpoint consumer, so
+     * on first use the action creates its own client with the endpoint settings and installs it on the endpoint consumer.
+     * Following receive operations on the endpoint use this client and continue at the new positions.
+     * @param context
+     * @return
+     */
+    private Consumer<Object, Object> getConsumer(TestContext context) {
+        com.consol.citrus.kafka.endpoint.KafkaConsumer endpointConsumer = endpoint.createConsumer();
+
+        synchronized (CONSUMERS) {
+            KafkaConsumer<Object, Object> consumer = CONSUMERS.get(endpointConsumer);
+            if (consumer == null) {
+                // close the client created by Citrus so it leaves the consumer group before the new client joins
+                endpointConsumer.stop();
+
+                consumer = new KafkaConsumer<>(getConsumerProperties(endpoint.getEndpointConfiguration(), context));
+                endpointConsumer.setConsumer(consumer);
+                CONSUMERS.put(endpointConsumer, consumer);
+            }
+
+            return consumer;
+        }
+    }
+
+    /**
+     * Consumer properties matching the client that Citrus creates for the endpoint.
+     * @param configuration
+     * @param context
+     * @return
+     */
+    private static Map<String, Object> getConsumerProperties(KafkaEndpointConfiguration configuration, TestContext context) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(configuration.getClientId())
+                .orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID()));
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, configuration.getConsumerGroup());
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, context.replaceDynamicContentInString(
+                Optional.ofNullable(configuration.getServer()).orElse("localhost:9092")));
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configuration.isAutoCommit());
+        properties.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, configuration.getAutoCommitInterval());
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, configuration.getOffsetReset());
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, configuration.getKeyDeserializer());
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, configuration.getValueDeserializer());
+
+        if (configuration.getConsumerProperties() != null) {
+            properties.putAll(configuration.getConsumerProperties());
+        }
+
+        return properties;
+    }
+
+    /**
+     * Makes sure that the consumer has partitions of the topic assigned. The endpoint consumer is cached and shared across
+     * scenarios, so it may already be subscribed to other topics. Adds the topic to the subscription (or to the manual
+     * partition assignment) when missing and polls until the group coordinator has assigned the partitions. Records fetched
+     * during these polls are not lost as the consumer is rewound to the first fetched offset of each partition.
+     * @param consumer
+     * @param topicName
+     * @return
+     */
+    private List<TopicPartition> getAssignedPartitions(Consumer<Object, Object> consumer, String topicName) {
+        if (!consumer.subscription().contains(topicName)) {
+            if (consumer.subscription().isEmpty() && !consumer.assignment().isEmpty()) {
+                assignTopic(consumer, topicName);
+            } else {
+                Set<String> topics = new HashSet<>(consumer.subscription());
+                topics.add(topicName);
+                consumer.subscribe(topics);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        while (getPartitions(consumer, topicName).isEmpty() && System.currentTimeMillis() < deadline) {
+            ConsumerRecords<Object, Object> records = consumer.poll(ASSIGNMENT_POLL_INTERVAL);
+            for (TopicPartition tp : records.partitions()) {
+                consumer.seek(tp, records.records(tp).get(0).offset());
+            }
+        }
+
+        List<TopicPartition> partitions = getPartitions(consumer, topicName);
+        if (partitions.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Timed out after %d ms waiting for Kafka consumer " +
+                    "to get partitions of topic '%s' assigned", timeout, topicName));
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Adds all partitions of the topic to the manual partition assignment of the consumer.
+     * @param consumer
+     * @param topicName
+     */
+    private static void assignTopic(Consumer<Object, Object> consumer, String topicName) {
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to get partitions of Kafka topic '%s'", topicName));
+        }
+
+        Set<TopicPartition> assignment = new HashSet<>(consumer.assignment());
+        partitionInfos.forEach(info -> assignment.add(new TopicPartition(info.topic(), info.partition())));
+        consumer.assign(assignment);
+    }
+
+    private List<TopicPartition> getPartitions(Consumer<Object, Object> consumer, String topicName) {
+        return consumer.assignment().stream()
+                .filter(tp -> tp.topic().equals(topicName))
+                .filter(tp -> partition == null || tp.partition() == partition)
+                .collect(Collectors.toList());
+    }
+
+    private void seekToTimestamp(Consumer<Object, Object> consumer, List<TopicPartition> partitions, long time) {
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(tp -> timestamps.put(tp, time));
+
+        Map<TopicPartition, OffsetAndTimestamp> result = consumer.offsetsForTimes(timestamps);
+        for (TopicPartition tp : partitions) {
+            OffsetAndTimestamp offset = result.get(tp);
+            if (offset != null) {
+                consumer.seek(tp, offset.offset());
+            } else {
+                // no record at or after the timestamp
+                consumer.seekToEnd(Collections.singletonList(tp));
+            }
+        }
+    }
+
+    private void seekToOffsets(Consumer<Object, Object> consumer, List<TopicPartition> partitions, String topicName) {
+        if (offset != null) {
+            partitions.forEach(tp -> consumer.seek(tp, offset));
+        }
+
+        for (Map.Entry<Integer, Long> entry : offsets.entrySet()) {
+            TopicPartition tp = new TopicPartition(topicName, entry.getKey());
+            if (!partitions.contains(tp)) {
+                throw new CitrusRuntimeException(String.format("Kafka consumer is not assigned to partition %d of topic '%s'",
+                        entry.getKey(), topicName));
+            }
+
+            consumer.seek(tp, entry.getValue());
+        }
+    }
+
+    private static long getConsumerLag(Consumer<Object, Object> consumer, List<TopicPartition> partitions) {
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        return partitions.stream()
+                .mapToLong(tp -> Math.max(0L, endOffsets.getOrDefault(tp, 0L) - consumer.position(tp)))
+                .sum();
+    }
+
+    /**
+     * Parses timestamp given in epoch milliseconds or as ISO-8601 instant.
+     * @param value
+     * @return
+     */
+    private static long parseTimestamp(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            try {
+                return Instant.parse(value).toEpochMilli();
+            } catch (DateTimeParseException ex) {
+                throw new CitrusRuntimeException(String.format("Invalid Kafka seek timestamp '%s' - " +
+                        "expected epoch milliseconds or ISO-8601 instant", value), ex);
+            }
+        }
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<KafkaConsumerSeekAction, Builder> {
+
+        private KafkaEndpoint endpoint;
+        private String topic;
+        private Integer partition;
+        private Position position = Position.CURRENT;
+        private String timestamp;
+        private final Map<Integer, Long> offsets = new LinkedHashMap<>();
+        private Long offset;
+        private long timeout = KafkaSettings.getConsumerTimeout();
+
+        public Builder endpoint(KafkaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder topic(String topic) {
+            this.topic = topic;
+            return this;
+        }
+
+        public Builder partition(Integer partition) {
+            this.partition = partition;
+            return this;
+        }
+
+        public Builder seekToBeginning() {
+            this.position = Position.BEGINNING;
+            return this;
+        }
+
+        public Builder seekToEnd() {
+            this.position = Position.END;
+            return this;
+        }
+
+        /**
+         * Seek to the first record at or after given timestamp (epoch milliseconds or ISO-8601 instant).
+         * @param timestamp
+         * @return
+         */
+        public Builder seekToTimestamp(String timestamp) {
+            this.position = Position.TIMESTAMP;
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        /**
+         * Seek to given offset on all assigned partitions of the topic. When a partition is set on this builder only
+         * this partition is moved.
+         * @param offset
+         * @return
+         */
+        public Builder seekToOffset(long offset) {
+            this.position = Position.OFFSET;
+            this.offset = offset;
+            return this;
+        }
+
+        public Builder seekToOffset(int partition, long offset) {
+            this.position = Position.OFFSET;
+            this.offsets.put(partition, offset);
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public KafkaConsumerSeekAction build() {
+            if (endpoint == null) {
+                throw new CitrusRuntimeException("Missing Kafka endpoint for consumer seek");
+            }
+
+            return new KafkaConsumerSeekAction(this);
+        }
+    }
+}
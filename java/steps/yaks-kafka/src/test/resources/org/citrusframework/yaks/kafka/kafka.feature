@@ -30,3 +30,59 @@ Feature: Kafka steps
       | ${key} | ${value} |
     Then expect Kafka message with body and headers: ${body}
       | ${key} | ${value} |
+
+  Scenario: Send bulk messages
+    Given Kafka message key: key-${KAFKA_MESSAGE_INDEX}
+    And Kafka message header source="yaks"
+    And Kafka message body: {"index": ${KAFKA_MESSAGE_INDEX}, "value": "${body}"}
+    When send 100 Kafka messages to topic bulk
+    Then Kafka producer p99 latency should be below 10000 ms
+    And Kafka producer throughput should be above 1 messages per second
+    And print 'Sent ${KAFKA_PRODUCER_MESSAGES} messages with ${KAFKA_PRODUCER_THROUGHPUT} msg/s and ${KAFKA_PRODUCER_BYTES_PER_SECOND} bytes/s'
+
+  Scenario: Send bulk messages with rate limit
+    Given Kafka message body: ${body}
+    When send 20 Kafka messages to topic bulk at rate 50 per second
+    Then Kafka producer p95 latency should be below 10000 ms
+
+  Scenario: Send and verify bulk messages
+    Given Kafka message key: key-${KAFKA_MESSAGE_INDEX}
+    And Kafka message body: {"index": ${KAFKA_MESSAGE_INDEX}}
+    When send 50 Kafka messages to topic bulk-verify
+    Given Kafka message key: key-${KAFKA_MESSAGE_INDEX}
+    And Kafka message body: {"index": ${KAFKA_MESSAGE_INDEX}}
+    Then receive 50 Kafka messages on topic bulk-verify
+    And Kafka consumer p99 lag should be below 10000 ms
+    And print 'Matched ${KAFKA_CONSUMER_MATCHED} of ${KAFKA_CONSUMER_MESSAGES} messages with ${KAFKA_CONSUMER_LAG_P95} ms p95 lag'
+
+  Scenario: Verify bulk messages in any order
+    Given Kafka topic: bulk-unordered
+    And send Kafka message with body: second
+    And Kafka message key: first
+    And send Kafka message with body: first
+    Then verify Kafka messages
+      | key   | body   |
+      | first | first  |
+      |       | second |
+
+  Scenario: Send and receive on embedded broker
+    Given start embedded Kafka broker
+    When send Kafka message with body: ${body}
+    Then receive Kafka message with body: ${body}
+
+  Scenario: Create topics on demand on embedded broker
+    Given start embedded Kafka broker
+    Given Kafka message body: ${body}
+    When send 10 Kafka messages to topic embedded
+    Then receive 10 Kafka messages on topic embedded
+    Given Kafka message body: ${value}
+    When send 10 Kafka messages to topic embedded-other
+    Then receive 10 Kafka messages on topic embedded-other
+
+  Scenario: Seek consumer to end of topic
+    Given Kafka topic: seek
+    And send Kafka message with body: old
+    And Kafka consumer seek to end
+    When send Kafka message with body: ${body}
+    Then receive Kafka message with body: ${body}
+    And Kafka consumer offset lag should be at most 0 messages
@@ -21,6 +21,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
@@ -28,9 +29,9 @@ import io.cucumber.java.en.Given;
 import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.actions.CleanupResourcesAction;
 
 import static com.consol.citrus.actions.CreateVariablesAction.Builder.createVariable;
-import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static com.consol.citrus.container.RepeatOnErrorUntilTrue.Builder.repeatOnError;
 import static org.citrusframework.yaks.knative.actions.KnativeActionBuilder.knative;
 
@@ -42,6 +43,9 @@ public class KnativeEventingSteps {
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -78,11 +82,10 @@ public class KnativeEventingSteps {
                 .brokers()
                 .create(brokerName));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .brokers()
-                            .delete(brokerName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .brokers()
+                    .delete(brokerName));
         }
     }
 
@@ -103,11 +106,10 @@ public class KnativeEventingSteps {
                 .create(triggerName)
                 .onService(serviceName));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .trigger()
-                            .delete(triggerName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .trigger()
+                    .delete(triggerName));
         }
     }
 
@@ -119,11 +121,10 @@ public class KnativeEventingSteps {
                 .onService(serviceName)
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .trigger()
-                            .delete(triggerName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .trigger()
+                    .delete(triggerName));
         }
     }
 
@@ -134,11 +135,10 @@ public class KnativeEventingSteps {
                 .create(triggerName)
                 .onChannel(channelName));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .trigger()
-                            .delete(triggerName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .trigger()
+                    .delete(triggerName));
         }
     }
 
@@ -150,11 +150,10 @@ public class KnativeEventingSteps {
                 .onChannel(channelName)
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .trigger()
-                            .delete(triggerName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .trigger()
+                    .delete(triggerName));
         }
     }
 
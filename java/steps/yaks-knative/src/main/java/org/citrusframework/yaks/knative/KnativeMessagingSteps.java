@@ -21,14 +21,15 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.actions.CleanupResourcesAction;
 
-import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.knative.actions.KnativeActionBuilder.knative;
 
 /**
@@ -39,6 +40,9 @@ public class KnativeMessagingSteps {
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -62,11 +66,10 @@ public class KnativeMessagingSteps {
                 .channels()
                 .create(channelName));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .channels()
-                            .delete(channelName)));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .channels()
+                    .delete(channelName));
         }
     }
 
@@ -78,11 +81,10 @@ public class KnativeMessagingSteps {
                 .onChannel(channelName)
                 .service(serviceName));
 
-        if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
-                            .subscriptions()
-                            .delete(serviceName + "-subscription")));
+        if (KnativeSteps.isAutoRemoveResources(context)) {
+            CleanupResourcesAction.register(runner, knative().client(k8sClient).client(knativeClient)
+                    .subscriptions()
+                    .delete(serviceName + "-subscription"));
         }
     }
 }
@@ -21,6 +21,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
@@ -44,8 +45,6 @@ public class KnativeSteps {
 
     private KubernetesClient k8sClient;
 
-    protected static boolean autoRemoveResources = KnativeSettings.isAutoRemoveResources();
-
     @Before
     public void before(Scenario scenario) {
         // Use given namespace by initializing a test variable in the test runner. Other test actions and steps
@@ -59,12 +58,12 @@ public class KnativeSteps {
 
     @Given("^Disable auto removal of Knative resources$")
     public void disableAutoRemove() {
-        autoRemoveResources = false;
+        runner.run(createVariable(KnativeVariableNames.AUTO_REMOVE_RESOURCES.value(), "false"));
     }
 
     @Given("^Enable auto removal of Knative resources$")
     public void enableAutoRemove() {
-        autoRemoveResources = true;
+        runner.run(createVariable(KnativeVariableNames.AUTO_REMOVE_RESOURCES.value(), "true"));
     }
 
     @Given("^Knative namespace ([^\\s]+)$")
@@ -74,4 +73,18 @@ public class KnativeSteps {
         // update the test variable that points to the namespace
         runner.run(createVariable(KnativeVariableNames.NAMESPACE.value(), namespace));
     }
+
+    /**
+     * Checks if Knative resources created in the current scenario should be removed automatically after the test.
+     * Scenario setting is kept as test variable and falls back to the global setting.
+     * @param context
+     * @return
+     */
+    static boolean isAutoRemoveResources(TestContext context) {
+        if (context.getVariables().containsKey(KnativeVariableNames.AUTO_REMOVE_RESOURCES.value())) {
+            return Boolean.parseBoolean(context.getVariable(KnativeVariableNames.AUTO_REMOVE_RESOURCES.value()));
+        }
+
+        return KnativeSettings.isAutoRemoveResources();
+    }
 }
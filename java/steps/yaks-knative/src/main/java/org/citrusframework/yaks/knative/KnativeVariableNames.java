@@ -23,7 +23,8 @@ package org.citrusframework.yaks.knative;
 public enum KnativeVariableNames {
 
     BROKER_NAME("KNATIVE_BROKER"),
-    NAMESPACE("KNATIVE_NAMESPACE");
+    NAMESPACE("KNATIVE_NAMESPACE"),
+    AUTO_REMOVE_RESOURCES("KNATIVE_AUTO_REMOVE_RESOURCES");
 
     private final String variableName;
 
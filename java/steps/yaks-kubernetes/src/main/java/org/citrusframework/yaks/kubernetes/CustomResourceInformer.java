@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+/**
+ * Shared informer keeps a local store of custom resources of a given type in a namespace. The store gets updated
+ * with watch events so clients are able to read resources and wait for resource changes without polling
+ * the API server.
+ *
+ * @author Christoph Deppisch
+ */
+public class CustomResourceInformer implements AutoCloseable {
+
+    private final String namespace;
+    private final SharedIndexInformer<GenericKubernetesResource> informer;
+
+    /** Monitor notified on each resource event */
+    private final Object monitor = new Object();
+
+    CustomResourceInformer(KubernetesClient k8sClient, String namespace, CustomResourceDefinitionContext context) {
+        this.namespace = namespace;
+        this.informer = k8sClient.genericKubernetesResources(context.getGroup() + "/" + context.getVersion(), context.getKind())
+                .inNamespace(namespace)
+                .inform(new ResourceEventHandler<GenericKubernetesResource>() {
+                    @Override
+                    public void onAdd(GenericKubernetesResource resource) {
+                        resourceChanged();
+                    }
+
+                    @Override
+                    public void onUpdate(GenericKubernetesResource oldResource, GenericKubernetesResource newResource) {
+                        resourceChanged();
+                    }
+
+                    @Override
+                    public void onDelete(GenericKubernetesResource resource, boolean deletedFinalStateUnknown) {
+                        resourceChanged();
+                    }
+                }, 0L);
+    }
+
+    /**
+     * Gets the namespace watched by this informer.
+     * @return
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Get resource by its name from the local store.
+     * @param name
+     * @return the resource or null if not present.
+     */
+    public GenericKubernetesResource get(String name) {
+        return informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    /**
+     * List all resources in local store that match the given label.
+     * @param labelKey
+     * @param labelValue
+     * @return
+     */
+    public List<GenericKubernetesResource> list(String labelKey, String labelValue) {
+        return informer.getStore().list().stream()
+                .filter(resource -> {
+                    Map<String, String> labels = resource.getMetadata().getLabels();
+                    return labels != null && labelValue.equals(labels.get(labelKey));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Evaluates given lookup function on the local store and waits for resource events until the lookup
+     * provides a result or the timeout is exceeded.
+     * @param lookup
+     * @param timeout
+     * @param <T>
+     * @return the lookup result or null when timeout is exceeded.
+     * @throws InterruptedException
+     */
+    public <T> T await(Supplier<T> lookup, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (monitor) {
+            while (true) {
+                T result = lookup.get();
+                if (result != null) {
+                    return result;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+
+                monitor.wait(remaining);
+            }
+        }
+    }
+
+    private void resourceChanged() {
+        synchronized (monitor) {
+            monitor.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        informer.close();
+    }
+}
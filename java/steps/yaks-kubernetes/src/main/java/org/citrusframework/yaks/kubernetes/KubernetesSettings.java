@@ -67,6 +67,22 @@ public class KubernetesSettings {
     private static final String DELAY_BETWEEN_ATTEMPTS_ENV = KUBERNETES_ENV_PREFIX + "DELAY_BETWEEN_ATTEMPTS";
     private static final String DELAY_BETWEEN_ATTEMPTS_DEFAULT = "2000";
 
+    private static final String WATCH_PODS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "watch.pods";
+    private static final String WATCH_PODS_ENV = KUBERNETES_ENV_PREFIX + "WATCH_PODS";
+    private static final String WATCH_PODS_DEFAULT = "false";
+
+    private static final String STREAM_LOGS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "stream.logs";
+    private static final String STREAM_LOGS_ENV = KUBERNETES_ENV_PREFIX + "STREAM_LOGS";
+    private static final String STREAM_LOGS_DEFAULT = "false";
+
+    private static final String CACHE_RESOURCES_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "cache.resources";
+    private static final String CACHE_RESOURCES_ENV = KUBERNETES_ENV_PREFIX + "CACHE_RESOURCES";
+    private static final String CACHE_RESOURCES_DEFAULT = "false";
+
+    private static final String MAX_PARALLEL_REQUESTS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "max.parallel.requests";
+    private static final String MAX_PARALLEL_REQUESTS_ENV = KUBERNETES_ENV_PREFIX + "MAX_PARALLEL_REQUESTS";
+    private static final String MAX_PARALLEL_REQUESTS_DEFAULT = "10";
+
     private KubernetesSettings() {
         // prevent instantiation of utility class
     }
@@ -158,4 +174,43 @@ public class KubernetesSettings {
         return Long.parseLong(System.getProperty(DELAY_BETWEEN_ATTEMPTS_PROPERTY,
                 System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) != null ? System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) : DELAY_BETWEEN_ATTEMPTS_DEFAULT));
     }
+
+    /**
+     * When set to true pod state verification subscribes to pod events with a watch instead of
+     * polling the pod state with a fixed delay between attempts.
+     * @return
+     */
+    public static boolean isWatchPods() {
+        return Boolean.parseBoolean(System.getProperty(WATCH_PODS_PROPERTY,
+                System.getenv(WATCH_PODS_ENV) != null ? System.getenv(WATCH_PODS_ENV) : WATCH_PODS_DEFAULT));
+    }
+
+    /**
+     * When set to true log message verification follows the pod log stream instead of
+     * downloading the complete pod log on every polling attempt.
+     * @return
+     */
+    public static boolean isStreamLogs() {
+        return Boolean.parseBoolean(System.getProperty(STREAM_LOGS_PROPERTY,
+                System.getenv(STREAM_LOGS_ENV) != null ? System.getenv(STREAM_LOGS_ENV) : STREAM_LOGS_DEFAULT));
+    }
+
+    /**
+     * When set to true custom resource condition checks resolve resources from a shared informer cache
+     * instead of polling the API server on every attempt.
+     * @return
+     */
+    public static boolean isCacheResources() {
+        return Boolean.parseBoolean(System.getProperty(CACHE_RESOURCES_PROPERTY,
+                System.getenv(CACHE_RESOURCES_ENV) != null ? System.getenv(CACHE_RESOURCES_ENV) : CACHE_RESOURCES_DEFAULT));
+    }
+
+    /**
+     * Maximum number of concurrent client requests when creating or deleting multiple resources at once.
+     * @return
+     */
+    public static int getMaxParallelRequests() {
+        return Integer.parseInt(System.getProperty(MAX_PARALLEL_REQUESTS_PROPERTY,
+                System.getenv(MAX_PARALLEL_REQUESTS_ENV) != null ? System.getenv(MAX_PARALLEL_REQUESTS_ENV) : MAX_PARALLEL_REQUESTS_DEFAULT));
+    }
 }
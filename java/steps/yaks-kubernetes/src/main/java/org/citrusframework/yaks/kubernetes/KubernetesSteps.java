@@ -17,6 +17,7 @@
 
 package org.citrusframework.yaks.kubernetes;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -42,13 +43,14 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import org.citrusframework.yaks.kubernetes.actions.CleanupResourcesAction;
 import org.citrusframework.yaks.kubernetes.actions.CreateServiceAction;
 import org.citrusframework.yaks.kubernetes.actions.VerifyPodAction;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 
 import static com.consol.citrus.actions.CreateVariablesAction.Builder.createVariable;
 import static com.consol.citrus.container.Assert.Builder.assertException;
-import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static com.consol.citrus.http.actions.HttpActionBuilder.http;
 import static org.citrusframework.yaks.kubernetes.actions.KubernetesActionBuilder.kubernetes;
 
@@ -75,6 +77,9 @@ public class KubernetesSteps {
     private boolean autoRemoveResources = KubernetesSettings.isAutoRemoveResources();
     private int maxAttempts = KubernetesSettings.getMaxAttempts();
     private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+    private boolean watchPods = KubernetesSettings.isWatchPods();
+    private boolean streamLogs = KubernetesSettings.isStreamLogs();
+    private boolean cacheResources = KubernetesSettings.isCacheResources();
 
     @Before
     public void before(Scenario scenario) {
@@ -110,6 +115,21 @@ public class KubernetesSteps {
         delayBetweenAttempts = Long.parseLong(configuration.getOrDefault("delayBetweenAttempts", delayBetweenAttempts).toString());
     }
 
+    @Given("^(Enable|Disable) watch for Kubernetes pod state$")
+    public void configurePodWatch(String mode) {
+        watchPods = mode.equals("Enable");
+    }
+
+    @Given("^(Enable|Disable) streaming for Kubernetes pod logs$")
+    public void configureLogStreaming(String mode) {
+        streamLogs = mode.equals("Enable");
+    }
+
+    @Given("^(Enable|Disable) cache for Kubernetes custom resources$")
+    public void configureResourceCache(String mode) {
+        cacheResources = mode.equals("Enable");
+    }
+
     @Given("^Kubernetes namespace ([^\\s]+)$")
     public void setNamespace(String namespace) {
         // update the test variable that points to the namespace
@@ -156,13 +176,12 @@ public class KubernetesSteps {
                 .content(yaml));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .customResources()
-                            .delete(resource.getMetadata().getName())
-                            .type(resourceType)
-                            .kind(resource.getKind())
-                            .apiVersion(resource.getApiVersion())));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .customResources()
+                    .delete(resource.getMetadata().getName())
+                    .type(resourceType)
+                    .kind(resource.getKind())
+                    .apiVersion(resource.getApiVersion()));
         }
     }
 
@@ -204,10 +223,9 @@ public class KubernetesSteps {
                 .content(content));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .resources()
-                            .delete(content)));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .resources()
+                    .delete(content));
         }
     }
 
@@ -220,6 +238,44 @@ public class KubernetesSteps {
         }
     }
 
+    @Given("^create Kubernetes resources$")
+    public void createResources(String content) {
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .createAll()
+                .content(content));
+
+        if (autoRemoveResources) {
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .resources()
+                    .deleteAll(content));
+        }
+    }
+
+    @Given("^load Kubernetes resources ([^\\s]+)$")
+    public void createResourcesFromFile(String path) {
+        try {
+            Resource resource = FileUtils.getFileResource(path);
+
+            if (resource.isFile() && resource.getFile().isDirectory()) {
+                File[] files = resource.getFile().listFiles((dir, name) -> name.endsWith(".yaml") || name.endsWith(".yml"));
+                StringBuilder content = new StringBuilder();
+                if (files != null) {
+                    Arrays.sort(files);
+                    for (File file : files) {
+                        content.append(FileUtils.readToString(file)).append("\n---\n");
+                    }
+                }
+
+                createResources(content.toString());
+            } else {
+                createResources(FileUtils.readToString(resource));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read resources from file", e);
+        }
+    }
+
     @Given("^delete Kubernetes resource$")
     public void deleteResource(String yaml) {
         runner.run(kubernetes().client(k8sClient)
@@ -244,10 +300,9 @@ public class KubernetesSteps {
                 .properties(properties));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .secrets()
-                            .delete(name)));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .secrets()
+                    .delete(name));
         }
     }
 
@@ -259,10 +314,9 @@ public class KubernetesSteps {
                 .fromFile(fileName + ".properties"));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .secrets()
-                            .delete(fileName)));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .secrets()
+                    .delete(fileName));
         }
     }
 
@@ -292,10 +346,9 @@ public class KubernetesSteps {
                 .targetPort(targetPort));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .services()
-                            .delete(serviceName)));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .services()
+                    .delete(serviceName));
         }
     }
 
@@ -314,10 +367,9 @@ public class KubernetesSteps {
         runner.run(createServiceAction);
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .services()
-                            .delete(serviceName)));
+            CleanupResourcesAction.register(runner, kubernetes().client(k8sClient)
+                    .services()
+                    .delete(serviceName));
         }
     }
 
@@ -344,6 +396,7 @@ public class KubernetesSteps {
                 .type(resourceType)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .cache(cacheResources)
                 .condition(condition));
     }
 
@@ -411,6 +464,7 @@ public class KubernetesSteps {
                 .type(resourceType)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .cache(cacheResources)
                 .condition(condition));
     }
 
@@ -432,7 +486,8 @@ public class KubernetesSteps {
                 .pods()
                 .verify(name)
                 .maxAttempts(maxAttempts)
-                .delayBetweenAttempts(delayBetweenAttempts);
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .watch(watchPods);
 
         if (status.equals("running")) {
             action.isRunning();
@@ -455,7 +510,8 @@ public class KubernetesSteps {
                 .pods()
                 .verify(label, value)
                 .maxAttempts(maxAttempts)
-                .delayBetweenAttempts(delayBetweenAttempts);
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .watch(watchPods);
 
         if (status.equals("running")) {
             action.isRunning();
@@ -473,6 +529,8 @@ public class KubernetesSteps {
                 .verify(name)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .watch(watchPods)
+                .streamLogs(streamLogs)
                 .waitForLogMessage(message));
     }
 
@@ -485,6 +543,8 @@ public class KubernetesSteps {
                         .verify(name)
                         .maxAttempts(maxAttempts)
                         .delayBetweenAttempts(delayBetweenAttempts)
+                        .watch(watchPods)
+                        .streamLogs(streamLogs)
                         .waitForLogMessage(message)));
     }
 
@@ -495,6 +555,8 @@ public class KubernetesSteps {
                 .verify(label, value)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .watch(watchPods)
+                .streamLogs(streamLogs)
                 .waitForLogMessage(message));
     }
 
@@ -507,6 +569,8 @@ public class KubernetesSteps {
                         .verify(label, value)
                         .maxAttempts(maxAttempts)
                         .delayBetweenAttempts(delayBetweenAttempts)
+                        .watch(watchPods)
+                        .streamLogs(streamLogs)
                         .waitForLogMessage(message)));
     }
 
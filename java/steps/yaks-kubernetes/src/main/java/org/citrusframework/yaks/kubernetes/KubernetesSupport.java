@@ -19,6 +19,12 @@ package org.citrusframework.yaks.kubernetes;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.Citrus;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -28,6 +34,7 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -47,7 +54,20 @@ public final class KubernetesSupport {
 
     private static final ObjectMapper OBJECT_MAPPER;
 
+    /** Resource kinds in dependency order, resources of other kinds are created after these */
+    private static final List<List<String>> RESOURCE_KIND_ORDER = Arrays.asList(
+            Arrays.asList("Namespace", "CustomResourceDefinition"),
+            Arrays.asList("ServiceAccount", "ClusterRole", "Role", "ClusterRoleBinding", "RoleBinding",
+                    "ResourceQuota", "LimitRange", "PriorityClass", "StorageClass"),
+            Arrays.asList("ConfigMap", "Secret", "PersistentVolume", "PersistentVolumeClaim"),
+            Arrays.asList("Service"));
+
+    /** Shared custom resource informers per cluster, namespace and custom resource type, closed on JVM shutdown */
+    private static final Map<String, CustomResourceInformer> RESOURCE_INFORMERS = new ConcurrentHashMap<>();
+
     static {
+        Runtime.getRuntime().addShutdownHook(new Thread(KubernetesSupport::closeResourceInformers, "yaks-kubernetes-informer-shutdown"));
+
         OBJECT_MAPPER = new ObjectMapper()
                 .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, JsonInclude.Include.NON_EMPTY))
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
@@ -112,6 +132,95 @@ public final class KubernetesSupport {
                 .list();
     }
 
+    /**
+     * Gets shared informer for custom resources of given type in given namespace. Creates and starts the informer
+     * on first access. All subsequent calls for the same cluster, namespace and custom resource type share the informer
+     * and its local resource store.
+     * @param k8sClient
+     * @param namespace
+     * @param context
+     * @return
+     */
+    public static CustomResourceInformer getResourceInformer(KubernetesClient k8sClient, String namespace,
+                                                             CustomResourceDefinitionContext context) {
+        String key = String.join("/", String.valueOf(k8sClient.getMasterUrl()), namespace,
+                context.getGroup(), context.getVersion(), context.getKind());
+        return RESOURCE_INFORMERS.computeIfAbsent(key, k -> new CustomResourceInformer(k8sClient, namespace, context));
+    }
+
+    /**
+     * Closes and removes all shared informers watching resources in given namespace. Called when the namespace
+     * gets deleted as the informers are not able to watch resources in that namespace anymore.
+     * @param namespace
+     */
+    public static void evictResourceInformers(String namespace) {
+        RESOURCE_INFORMERS.entrySet().removeIf(entry -> {
+            if (entry.getValue().getNamespace().equals(namespace)) {
+                entry.getValue().close();
+                return true;
+            }
+
+            return false;
+        });
+    }
+
+    /**
+     * Evicts the shared informers for all namespaces in given YAML resource content. Called when the resources
+     * get deleted.
+     * @param content
+     */
+    public static void evictDeletedNamespaces(String content) {
+        for (Object document : yaml().loadAll(content)) {
+            if (!(document instanceof Map) || !"Namespace".equals(((Map<?, ?>) document).get("kind"))) {
+                continue;
+            }
+
+            Object metadata = ((Map<?, ?>) document).get("metadata");
+            if (metadata instanceof Map && ((Map<?, ?>) metadata).get("name") != null) {
+                evictResourceInformers(String.valueOf(((Map<?, ?>) metadata).get("name")));
+            }
+        }
+    }
+
+    /**
+     * Closes and removes all shared informers.
+     */
+    public static void closeResourceInformers() {
+        RESOURCE_INFORMERS.entrySet().removeIf(entry -> {
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    /**
+     * Splits given multi document YAML content into single resource documents and groups these by dependency
+     * order of the resource kind. Resources in the same group do not depend on each other and can be processed in parallel.
+     * Groups are ordered so that resources come after their dependencies (e.g. namespaces, config maps and secrets before deployments).
+     * @param content
+     * @return
+     */
+    public static List<List<String>> resourcesInDependencyOrder(String content) {
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        for (Object document : yaml().loadAll(content)) {
+            if (!(document instanceof Map)) {
+                continue;
+            }
+
+            Object kind = ((Map<?, ?>) document).get("kind");
+            int order = RESOURCE_KIND_ORDER.size();
+            for (int i = 0; i < RESOURCE_KIND_ORDER.size(); i++) {
+                if (RESOURCE_KIND_ORDER.get(i).contains(String.valueOf(kind))) {
+                    order = i;
+                    break;
+                }
+            }
+
+            groups.computeIfAbsent(order, k -> new ArrayList<>()).add(yaml().dump(document));
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
     public static <T> void createResource(KubernetesClient k8sClient, String namespace,
                                    CustomResourceDefinitionContext context, T resource) {
         createResource(k8sClient, namespace, context, yaml().dump(resource));
@@ -125,7 +234,9 @@ public final class KubernetesSupport {
 
     public static void deleteResource(KubernetesClient k8sClient, String namespace,
                                       CustomResourceDefinitionContext context, String resourceName) {
-        k8sClient.genericKubernetesResources(context).inNamespace(namespace).withName(resourceName).delete();
+        k8sClient.genericKubernetesResources(context).inNamespace(namespace).withName(resourceName)
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
+                .delete();
     }
 
     public static CustomResourceDefinitionContext crdContext(String resourceType, String group, String kind, String version) {
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+
+/**
+ * Base action for operations on multiple Kubernetes resources at once. Runs the operation for all resources in a group
+ * concurrently with a bounded number of parallel client requests and waits for all of them to finish before processing
+ * the next group of resources.
+ *
+ * @author Christoph Deppisch
+ */
+public abstract class AbstractBulkResourceAction extends AbstractKubernetesAction {
+
+    private final int maxParallelRequests;
+
+    public AbstractBulkResourceAction(String name, Builder<?, ?> builder) {
+        super(name, builder);
+        this.maxParallelRequests = builder.maxParallelRequests;
+    }
+
+    /**
+     * Runs given operation on all resource groups. Groups are processed one after another, resources within
+     * a group are processed in parallel.
+     * @param groups
+     * @param operation
+     */
+    protected void runInParallel(List<List<String>> groups, Consumer<String> operation) {
+        int resourceCount = groups.stream().mapToInt(List::size).sum();
+        if (resourceCount == 0) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxParallelRequests, resourceCount)));
+        try {
+            for (List<String> group : groups) {
+                List<Future<?>> tasks = new ArrayList<>();
+                for (String resource : group) {
+                    tasks.add(executor.submit(() -> operation.accept(resource)));
+                }
+
+                List<Throwable> errors = new ArrayList<>();
+                for (Future<?> task : tasks) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        errors.add(e.getCause());
+                    }
+                }
+
+                if (!errors.isEmpty()) {
+                    errors.stream().skip(1).forEach(error -> LOG.warn("Failed to process Kubernetes resource", error));
+                    throw new CitrusRuntimeException(String.format("Failed to process %d of %d Kubernetes resources",
+                            errors.size(), group.size()), errors.get(0));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while processing Kubernetes resources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Action builder.
+     */
+    public static abstract class Builder<T extends KubernetesAction, B extends Builder<T, B>> extends AbstractKubernetesAction.Builder<T, B> {
+
+        private int maxParallelRequests = KubernetesSettings.getMaxParallelRequests();
+
+        public B maxParallelRequests(int maxParallelRequests) {
+            this.maxParallelRequests = maxParallelRequests;
+            return self;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestActionBuilder;
+import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
+
+/**
+ * Collects the delete actions for all resources created during a test scenario and runs them at the end of the scenario.
+ * Steps register their delete actions with this shared registry instead of adding a separate finally block for each resource.
+ *
+ * Resources are deleted in reverse registration order so dependent resources (e.g. a trigger and its broker) get removed
+ * before the resources they depend on. Consecutive delete actions of the same kind run in parallel, bounded by the max parallel
+ * requests setting. The delete requests use background propagation so the server removes dependent objects asynchronously
+ * and the scenario only waits for the delete requests to be accepted.
+ *
+ * @author Christoph Deppisch
+ */
+public class CleanupResourcesAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(CleanupResourcesAction.class);
+
+    /** Cleanup action per test case runner, one runner is created for each scenario */
+    private static final Map<TestCaseRunner, CleanupResourcesAction> CLEANUP_ACTIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<TestAction> actions = Collections.synchronizedList(new ArrayList<>());
+    private final int maxParallelRequests;
+
+    public CleanupResourcesAction(Builder builder) {
+        super("k8s:cleanup-resources", builder);
+        this.maxParallelRequests = builder.maxParallelRequests;
+    }
+
+    /**
+     * Registers given delete action for automatic removal at the end of the current scenario. The first registration
+     * for a scenario adds the cleanup action as finally block to the test case runner.
+     * @param runner
+     * @param deleteAction
+     */
+    public static void register(TestCaseRunner runner, TestActionBuilder<?> deleteAction) {
+        CleanupResourcesAction cleanup;
+        boolean added = false;
+        synchronized (CLEANUP_ACTIONS) {
+            cleanup = CLEANUP_ACTIONS.get(runner);
+            if (cleanup == null) {
+                cleanup = new Builder().build();
+                CLEANUP_ACTIONS.put(runner, cleanup);
+                added = true;
+            }
+        }
+
+        cleanup.add(deleteAction.build());
+
+        if (added) {
+            runner.then(doFinally().actions(cleanup));
+        }
+    }
+
+    /**
+     * Adds delete action to this cleanup.
+     * @param deleteAction
+     */
+    void add(TestAction deleteAction) {
+        actions.add(deleteAction);
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        List<TestAction> deletes;
+        synchronized (actions) {
+            deletes = new ArrayList<>(actions);
+            actions.clear();
+        }
+
+        if (deletes.isEmpty()) {
+            return;
+        }
+
+        Collections.reverse(deletes);
+
+        List<Throwable> errors = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxParallelRequests, deletes.size())));
+        try {
+            for (List<TestAction> group : groupByKind(deletes)) {
+                List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                for (TestAction action : group) {
+                    tasks.add(CompletableFuture.runAsync(() -> action.execute(context), executor));
+                }
+
+                for (CompletableFuture<Void> task : tasks) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        errors.add(e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while removing resources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!errors.isEmpty()) {
+            errors.stream().skip(1).forEach(error -> LOG.warn("Failed to remove resource", error));
+            throw new CitrusRuntimeException(String.format("Failed to remove %d of %d resources",
+                    errors.size(), deletes.size()), errors.get(0));
+        }
+
+        LOG.info(String.format("Removed %d resources", deletes.size()));
+    }
+
+    /**
+     * Splits given delete actions into groups of consecutive actions with the same name, that is the same kind of resource.
+     * Groups keep the order of the given actions.
+     * @param deletes
+     * @return
+     */
+    static List<List<TestAction>> groupByKind(List<TestAction> deletes) {
+        List<List<TestAction>> groups = new ArrayList<>();
+        List<TestAction> group = null;
+        String kind = null;
+        for (TestAction action : deletes) {
+            if (group == null || !Objects.equals(action.getName(), kind)) {
+                group = new ArrayList<>();
+                groups.add(group);
+                kind = action.getName();
+            }
+
+            group.add(action);
+        }
+
+        return groups;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<CleanupResourcesAction, Builder> {
+
+        private int maxParallelRequests = KubernetesSettings.getMaxParallelRequests();
+
+        public Builder maxParallelRequests(int maxParallelRequests) {
+            this.maxParallelRequests = maxParallelRequests;
+            return this;
+        }
+
+        @Override
+        public CleanupResourcesAction build() {
+            return new CleanupResourcesAction(this);
+        }
+    }
+}
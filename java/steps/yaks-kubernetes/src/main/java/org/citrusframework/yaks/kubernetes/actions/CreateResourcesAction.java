@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.consol.citrus.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+
+/**
+ * Creates all resources given as multi document YAML content. Resources are created in dependency order and
+ * resources that do not depend on each other are created in parallel.
+ *
+ * @author Christoph Deppisch
+ */
+public class CreateResourcesAction extends AbstractBulkResourceAction {
+
+    private final String content;
+
+    public CreateResourcesAction(Builder builder) {
+        super("create-resources", builder);
+        this.content = builder.content;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String namespace = namespace(context);
+        List<List<String>> resources = KubernetesSupport.resourcesInDependencyOrder(context.replaceDynamicContentInString(content));
+
+        runInParallel(resources, resource -> getKubernetesClient()
+                .load(new ByteArrayInputStream(resource.getBytes(StandardCharsets.UTF_8)))
+                .inNamespace(namespace)
+                .createOrReplace());
+
+        LOG.info(String.format("Created %d Kubernetes resources", resources.stream().mapToInt(List::size).sum()));
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractBulkResourceAction.Builder<CreateResourcesAction, Builder> {
+
+        private String content;
+
+        public Builder content(String content) {
+            this.content = content;
+            return this;
+        }
+
+        @Override
+        public CreateResourcesAction build() {
+            return new CreateResourcesAction(this);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 
 import com.consol.citrus.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
 /**
  * @author Christoph Deppisch
@@ -36,11 +37,13 @@ public class DeleteResourceAction extends AbstractKubernetesAction {
 
     @Override
     public void doExecute(TestContext context) {
+        String resolvedContent = context.replaceDynamicContentInString(content);
         getKubernetesClient()
-                .load(new ByteArrayInputStream(context.replaceDynamicContentInString(content)
-                        .getBytes(StandardCharsets.UTF_8)))
+                .load(new ByteArrayInputStream(resolvedContent.getBytes(StandardCharsets.UTF_8)))
                 .inNamespace(namespace(context))
                 .delete();
+
+        KubernetesSupport.evictDeletedNamespaces(resolvedContent);
     }
 
     /**
@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.kubernetes.actions;
 
 import com.consol.citrus.context.TestContext;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 
 /**
  * @author Christoph Deppisch
@@ -36,6 +37,7 @@ public class DeleteServiceAction extends AbstractKubernetesAction {
     public void doExecute(TestContext context) {
         getKubernetesClient().services().inNamespace(namespace(context))
                 .withName(context.replaceDynamicContentInString(serviceName))
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
                 .delete();
     }
 
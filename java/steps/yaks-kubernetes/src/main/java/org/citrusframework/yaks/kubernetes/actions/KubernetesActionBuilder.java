@@ -234,6 +234,28 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
             delegate = builder;
             return builder;
         }
+
+        /**
+         * Create multiple Kubernetes resources in parallel from multi document yaml.
+         */
+        public CreateResourcesAction.Builder createAll() {
+            CreateResourcesAction.Builder builder = new CreateResourcesAction.Builder()
+                    .client(kubernetesClient);
+            delegate = builder;
+            return builder;
+        }
+
+        /**
+         * Delete multiple Kubernetes resources in parallel.
+         * @param content the Kubernetes resources as multi document YAML content.
+         */
+        public DeleteResourcesAction.Builder deleteAll(String content) {
+            DeleteResourcesAction.Builder builder = new DeleteResourcesAction.Builder()
+                    .client(kubernetesClient)
+                    .content(content);
+            delegate = builder;
+            return builder;
+        }
     }
 
     public class ServiceActionBuilder {
@@ -28,7 +28,9 @@ import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.citrusframework.yaks.kubernetes.CustomResourceInformer;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.util.StringUtils;
@@ -50,6 +52,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
     private final String labelExpression;
     private final int maxAttempts;
     private final long delayBetweenAttempts;
+    private final boolean cache;
 
     private final String condition;
 
@@ -68,32 +71,88 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
         this.condition = builder.condition;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
+        this.cache = builder.cache;
     }
 
     @Override
     public void doExecute(TestContext context) {
-        verifyResource(
-                context.replaceDynamicContentInString(resourceName),
-                context.replaceDynamicContentInString(labelExpression),
-                context.replaceDynamicContentInString(condition),
-                context);
+        String resolvedName = context.replaceDynamicContentInString(resourceName);
+        String resolvedLabelExpression = context.replaceDynamicContentInString(labelExpression);
+        String resolvedCondition = context.replaceDynamicContentInString(condition);
+        CustomResourceDefinitionContext crdContext = getCrdContext(context);
+
+        if (cache) {
+            verifyCachedResource(resolvedName, resolvedLabelExpression, resolvedCondition, crdContext, context);
+        } else {
+            verifyResource(resolvedName, resolvedLabelExpression, resolvedCondition, crdContext, context);
+        }
+    }
+
+    /**
+     * Wait for given resource to be in given state. Resolves the resource against the local store of a shared informer and
+     * waits for resource update events. Falls back to polling when the informer is not available.
+     * @param name
+     * @param labelExpression
+     * @param condition
+     * @param crdContext
+     * @param context
+     */
+    private void verifyCachedResource(String name, String labelExpression, String condition,
+                                      CustomResourceDefinitionContext crdContext, TestContext context) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+
+        GenericKubernetesResource resource;
+        try {
+            CustomResourceInformer informer = KubernetesSupport.getResourceInformer(getKubernetesClient(), namespace(context), crdContext);
+            resource = informer.await(() -> {
+                if (name != null && !name.isEmpty()) {
+                    return Optional.ofNullable(informer.get(name))
+                            .filter(item -> verifyResourceStatus(item, condition))
+                            .orElse(null);
+                }
+
+                String[] tokens = labelExpression.split("=");
+                return informer.list(tokens[0], tokens.length > 1 ? tokens[1] : "").stream()
+                        .filter(item -> verifyResourceStatus(item, condition))
+                        .findFirst()
+                        .orElse(null);
+            }, timeout);
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to inform on resource '%s' - fall back to polling resource state",
+                    getNameOrLabel(name, labelExpression)), e);
+            verifyResource(name, labelExpression, condition, crdContext, context);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for resource condition", e);
+        }
+
+        if (resource == null) {
+            throw new ActionTimeoutException(timeout,
+                    new CitrusRuntimeException(String.format("Failed to verify resource '%s' - " +
+                            "is not in state '%s' after %d ms", getNameOrLabel(name, labelExpression), condition, timeout)));
+        }
+
+        LOG.info(String.format("Verified resource '%s' state '%s'!", getNameOrLabel(name, labelExpression), condition));
     }
 
     /**
-     * Wait for given pod to be in given state.
+     * Wait for given resource to be in given state.
      * @param name
      * @param labelExpression
      * @param condition
+     * @param crdContext
      * @param context
      * @return
      */
-    private void verifyResource(String name, String labelExpression, String condition, TestContext context) {
+    private void verifyResource(String name, String labelExpression, String condition,
+                                CustomResourceDefinitionContext crdContext, TestContext context) {
         for (int i = 0; i < maxAttempts; i++) {
             GenericKubernetesResource resource;
             if (name != null && !name.isEmpty()) {
-                resource = getResource(name, condition, context);
+                resource = getResource(name, condition, crdContext, context);
             } else {
-                resource = getResourceFromLabel(labelExpression, condition, context);
+                resource = getResourceFromLabel(labelExpression, condition, crdContext, context);
             }
 
             if (resource != null) {
@@ -119,12 +178,14 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
      * Retrieve resource given state.
      * @param name
      * @param condition
+     * @param crdContext
      * @param context
      * @return
      */
-    private GenericKubernetesResource getResource(String name, String condition, TestContext context) {
+    private GenericKubernetesResource getResource(String name, String condition,
+                                                  CustomResourceDefinitionContext crdContext, TestContext context) {
         GenericKubernetesResource resource = KubernetesSupport.getResource(getKubernetesClient(), namespace(context),
-                getCrdContext(context), name);
+                crdContext, name);
 
         return verifyResourceStatus(resource, condition) ? resource : null;
     }
@@ -133,10 +194,12 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
      * Retrieve pod given state selected by label key and value expression.
      * @param labelExpression
      * @param condition
+     * @param crdContext
      * @param context
      * @return
      */
-    private GenericKubernetesResource getResourceFromLabel(String labelExpression, String condition, TestContext context) {
+    private GenericKubernetesResource getResourceFromLabel(String labelExpression, String condition,
+                                                           CustomResourceDefinitionContext crdContext, TestContext context) {
         if (labelExpression == null || labelExpression.isEmpty()) {
             return null;
         }
@@ -147,7 +210,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
 
         GenericKubernetesResourceList resourceList = KubernetesSupport.getResources(getKubernetesClient(),
                 namespace(context),
-                getCrdContext(context), labelKey, labelValue);
+                crdContext, labelKey, labelValue);
 
         return resourceList.getItems().stream()
                 .filter(resource -> this.verifyResourceStatus(resource, condition))
@@ -237,6 +300,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
 
         private int maxAttempts = KubernetesSettings.getMaxAttempts();
         private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+        private boolean cache = KubernetesSettings.isCacheResources();
 
         private String condition = "Ready";
 
@@ -332,6 +396,11 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
             return this;
         }
 
+        public Builder cache(boolean cache) {
+            this.cache = cache;
+            return this;
+        }
+
         @Override
         public VerifyCustomResourceAction build() {
             return new VerifyCustomResourceAction(this);
@@ -17,12 +17,31 @@
 
 package org.citrusframework.yaks.kubernetes.actions;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.Watchable;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
@@ -31,6 +50,13 @@ import org.citrusframework.yaks.kubernetes.KubernetesSupport;
  * when either the pod is not in expected state or the log message is not available. Both operations are automatically retried
  * for a given amount of attempts.
  *
+ * When watch mode is enabled the pod state is verified by subscribing to pod events instead of polling. The action completes
+ * as soon as a matching pod event arrives and falls back to polling in case the watch fails.
+ *
+ * When log streaming is enabled the pod log is followed once and scanned line by line with a bounded buffer instead of
+ * downloading the complete log on every attempt. When the log stream ends before the message appears the action polls
+ * the pod log for the remaining time.
+ *
  * @author Christoph Deppisch
  */
 public class VerifyPodAction extends AbstractKubernetesAction {
@@ -40,6 +66,8 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     private final String logMessage;
     private final int maxAttempts;
     private final long delayBetweenAttempts;
+    private final boolean watch;
+    private final boolean streamLogs;
 
     private final String phase;
 
@@ -55,17 +83,29 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         this.logMessage = builder.logMessage;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
+        this.watch = builder.watch;
+        this.streamLogs = builder.streamLogs;
     }
 
     @Override
     public void doExecute(TestContext context) {
         String resolvedPodName = context.replaceDynamicContentInString(podName);
         String resolvedLabelExpression = context.replaceDynamicContentInString(labelExpression);
-        Pod pod = verifyPod(resolvedPodName, resolvedLabelExpression,
-                context.replaceDynamicContentInString(phase));
+        String resolvedPhase = context.replaceDynamicContentInString(phase);
+
+        Pod pod;
+        if (watch) {
+            pod = watchPod(resolvedPodName, resolvedLabelExpression, resolvedPhase);
+        } else {
+            pod = verifyPod(resolvedPodName, resolvedLabelExpression, resolvedPhase, maxAttempts);
+        }
 
         if (logMessage != null) {
-            verifyPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), context.replaceDynamicContentInString(logMessage));
+            if (streamLogs) {
+                streamPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), context.replaceDynamicContentInString(logMessage));
+            } else {
+                verifyPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), context.replaceDynamicContentInString(logMessage));
+            }
         }
     }
 
@@ -76,7 +116,18 @@ public class VerifyPodAction extends AbstractKubernetesAction {
      * @param message
      */
     private void verifyPodLogs(Pod pod, String nameOrLabel, String message) {
-        for (int i = 0; i < maxAttempts; i++) {
+        verifyPodLogs(pod, nameOrLabel, message, maxAttempts);
+    }
+
+    /**
+     * Wait for pod to log given message with given number of attempts.
+     * @param pod
+     * @param nameOrLabel
+     * @param message
+     * @param attempts
+     */
+    private void verifyPodLogs(Pod pod, String nameOrLabel, String message, int attempts) {
+        for (int i = 0; i < attempts; i++) {
             String log = getPodLogs(pod);
             if (log.contains(message)) {
                 LOG.info("Verified pod logs - All values OK!");
@@ -91,9 +142,76 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             }
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException((attempts * delayBetweenAttempts),
                 new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "has not printed message '%s' after %d attempts", nameOrLabel, logMessage, maxAttempts)));
+                        "has not printed message '%s' after %d attempts", nameOrLabel, message, attempts)));
+    }
+
+    /**
+     * Follow the pod log stream and wait for given message. Incoming log lines are scanned incrementally with a buffer
+     * that only keeps the tail of the log required to match the message. Falls back to polling the complete log
+     * for the remaining time in case the log stream is not available or ends before the message appears.
+     * @param pod
+     * @param nameOrLabel
+     * @param message
+     */
+    private void streamPodLogs(Pod pod, String nameOrLabel, String message) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+        long deadline = System.currentTimeMillis() + timeout;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (LogWatch logWatch = getPodLoggable(pod).watchLog()) {
+            LOG.info(String.format("Waiting for pod '%s' to log message - following pod logs for %s ms", nameOrLabel, timeout));
+
+            CompletableFuture<Boolean> found = CompletableFuture.supplyAsync(() -> scanLogs(logWatch.getOutput(), message), executor);
+            if (found.get(timeout, TimeUnit.MILLISECONDS)) {
+                LOG.info("Verified pod logs - All values OK!");
+                return;
+            }
+
+            LOG.info(String.format("Log stream of pod '%s' closed - poll pod logs for the remaining time", nameOrLabel));
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException(timeout,
+                    new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                            "has not printed message '%s' after %d ms", nameOrLabel, message, timeout)));
+        } catch (ExecutionException | KubernetesClientException e) {
+            LOG.warn(String.format("Failed to follow logs of pod '%s' - fall back to polling pod logs", nameOrLabel), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for pod logs", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verifyPodLogs(pod, nameOrLabel, message, getRemainingAttempts(deadline));
+    }
+
+    /**
+     * Reads log lines from given log stream until the message is found or the log stream is closed.
+     * Only keeps the last characters of the log that may be part of the message, so memory consumption
+     * does not grow with the log size.
+     * @param logStream
+     * @param message
+     * @return true when the message has been found in the log stream
+     */
+    static boolean scanLogs(InputStream logStream, String message) {
+        StringBuilder window = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                window.append(line).append("\n");
+                if (window.indexOf(message) >= 0) {
+                    return true;
+                }
+
+                if (window.length() >= message.length()) {
+                    window.delete(0, window.length() - message.length() + 1);
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read pod log stream", e);
+        }
+
+        return false;
     }
 
     /**
@@ -102,22 +220,24 @@ public class VerifyPodAction extends AbstractKubernetesAction {
      * @return
      */
     private String getPodLogs(Pod pod) {
+        return getPodLoggable(pod).getLog();
+    }
+
+    /**
+     * Get loggable pod resource. Selects the first container in case the pod runs multiple containers.
+     * @param pod
+     * @return
+     */
+    private Loggable<LogWatch> getPodLoggable(Pod pod) {
         PodResource<Pod> podRes = getKubernetesClient().pods()
                 .inNamespace(KubernetesSettings.getNamespace())
                 .withName(pod.getMetadata().getName());
 
-        String containerName = null;
         if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
-            containerName = pod.getSpec().getContainers().get(0).getName();
+            return podRes.inContainer(pod.getSpec().getContainers().get(0).getName());
         }
 
-        String logs;
-        if (containerName != null) {
-            logs = podRes.inContainer(containerName).getLog();
-        } else {
-            logs = podRes.getLog();
-        }
-        return logs;
+        return podRes;
     }
 
     /**
@@ -125,17 +245,12 @@ public class VerifyPodAction extends AbstractKubernetesAction {
      * @param name
      * @param labelExpression
      * @param phase
+     * @param attempts
      * @return
      */
-    private Pod verifyPod(String name, String labelExpression, String phase) {
-        for (int i = 0; i < maxAttempts; i++) {
-            Pod pod;
-            if (name != null && !name.isEmpty()) {
-                pod = getPod(name, phase);
-            } else {
-                pod = getPodFromLabel(labelExpression, phase);
-            }
-
+    private Pod verifyPod(String name, String labelExpression, String phase, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            Pod pod = findPod(name, labelExpression, phase);
             if (pod != null) {
                 LOG.info(String.format("Verified pod '%s' state '%s'!", getNameOrLabel(name, labelExpression), phase));
                 return pod;
@@ -150,9 +265,123 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             }
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException((attempts * delayBetweenAttempts),
                 new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, maxAttempts)));
+                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, attempts)));
+    }
+
+    /**
+     * Wait for given pod to be in given state using a watch on pod events. Completes as soon as a pod event
+     * matches the expected state. Falls back to polling for the remaining time when the watch is not available or gets
+     * closed with an error.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @return
+     */
+    private Pod watchPod(String name, String labelExpression, String phase) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+        long deadline = System.currentTimeMillis() + timeout;
+
+        Pod pod = findPod(name, labelExpression, phase);
+        if (pod != null) {
+            LOG.info(String.format("Verified pod '%s' state '%s'!", getNameOrLabel(name, labelExpression), phase));
+            return pod;
+        }
+
+        CompletableFuture<Pod> result = new CompletableFuture<>();
+        try (Watch ignored = getPodWatchable(name, labelExpression).watch(new Watcher<Pod>() {
+                @Override
+                public void eventReceived(Action action, Pod resource) {
+                    if ((action == Action.ADDED || action == Action.MODIFIED)
+                            && KubernetesSupport.verifyPodStatus(resource, phase)) {
+                        result.complete(resource);
+                    }
+                }
+
+                @Override
+                public void onClose(WatcherException cause) {
+                    if (cause != null) {
+                        result.completeExceptionally(cause);
+                    }
+                }
+            })) {
+            LOG.info(String.format("Waiting for pod '%s' in state '%s' - watching pod events for %s ms",
+                    getNameOrLabel(name, labelExpression), phase, timeout));
+
+            // pod may have changed state before the watch has been established
+            pod = findPod(name, labelExpression, phase);
+            if (pod != null) {
+                result.complete(pod);
+            }
+
+            pod = result.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            LOG.info(String.format("Verified pod '%s' state '%s'!", getNameOrLabel(name, labelExpression), phase));
+            return pod;
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException(timeout,
+                    new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                            "is not in state '%s' after %d ms", getNameOrLabel(name, labelExpression), phase, timeout)));
+        } catch (ExecutionException | KubernetesClientException e) {
+            LOG.warn(String.format("Failed to watch pod '%s' - fall back to polling pod state",
+                    getNameOrLabel(name, labelExpression)), e);
+            return verifyPod(name, labelExpression, phase, getRemainingAttempts(deadline));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for pod state", e);
+        }
+    }
+
+    /**
+     * Gets the number of polling attempts that fit into the time left until the given deadline. At least one attempt
+     * is made.
+     * @param deadline
+     * @return
+     */
+    private int getRemainingAttempts(long deadline) {
+        if (delayBetweenAttempts <= 0L) {
+            return maxAttempts;
+        }
+
+        long remaining = deadline - System.currentTimeMillis();
+        return (int) Math.max(1L, Math.min(maxAttempts, remaining / delayBetweenAttempts));
+    }
+
+    /**
+     * Get watchable pod resource selected by name or label expression.
+     * @param name
+     * @param labelExpression
+     * @return
+     */
+    private Watchable<Watcher<Pod>> getPodWatchable(String name, String labelExpression) {
+        if (name != null && !name.isEmpty()) {
+            return getKubernetesClient().pods()
+                    .inNamespace(KubernetesSettings.getNamespace())
+                    .withName(name);
+        }
+
+        String[] tokens = labelExpression.split("=");
+        String labelKey = tokens[0];
+        String labelValue = tokens.length > 1 ? tokens[1] : "";
+
+        return getKubernetesClient().pods()
+                .inNamespace(KubernetesSettings.getNamespace())
+                .withLabel(labelKey, labelValue);
+    }
+
+    /**
+     * Retrieve pod in given state selected by name or label expression.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @return
+     */
+    private Pod findPod(String name, String labelExpression, String phase) {
+        if (name != null && !name.isEmpty()) {
+            return getPod(name, phase);
+        } else {
+            return getPodFromLabel(labelExpression, phase);
+        }
     }
 
     /**
@@ -221,6 +450,8 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
         private int maxAttempts = KubernetesSettings.getMaxAttempts();
         private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+        private boolean watch = KubernetesSettings.isWatchPods();
+        private boolean streamLogs = KubernetesSettings.isStreamLogs();
 
         private String phase = "Running";
 
@@ -259,6 +490,16 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             return this;
         }
 
+        public Builder watch(boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+
+        public Builder streamLogs(boolean streamLogs) {
+            this.streamLogs = streamLogs;
+            return this;
+        }
+
         @Override
         public VerifyPodAction build() {
             return new VerifyPodAction(this);
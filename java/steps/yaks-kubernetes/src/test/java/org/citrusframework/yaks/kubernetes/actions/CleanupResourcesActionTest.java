@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestActionBuilder;
+import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CleanupResourcesActionTest {
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    @Test
+    public void shouldRegisterFinallyBlockOncePerRunner() {
+        TestCaseRunner runner = Mockito.mock(TestCaseRunner.class);
+        TestCaseRunner otherRunner = Mockito.mock(TestCaseRunner.class);
+
+        List<String> deleted = Collections.synchronizedList(new ArrayList<>());
+        CleanupResourcesAction.register(runner, () -> delete("delete-secret", "foo", deleted));
+        CleanupResourcesAction.register(runner, () -> delete("delete-secret", "bar", deleted));
+        CleanupResourcesAction.register(otherRunner, () -> delete("delete-secret", "baz", deleted));
+
+        Mockito.verify(runner, Mockito.times(1)).then(any(TestActionBuilder.class));
+        Mockito.verify(otherRunner, Mockito.times(1)).then(any(TestActionBuilder.class));
+    }
+
+    @Test
+    public void shouldDeleteInReverseOrderGroupedByKind() {
+        List<String> deleted = Collections.synchronizedList(new ArrayList<>());
+
+        CleanupResourcesAction cleanup = new CleanupResourcesAction.Builder()
+                .maxParallelRequests(4)
+                .build();
+        cleanup.add(delete("delete-broker", "default", deleted));
+        cleanup.add(delete("delete-trigger", "trigger-1", deleted));
+        cleanup.add(delete("delete-trigger", "trigger-2", deleted));
+        cleanup.add(delete("delete-kamelet", "timer-source", deleted));
+        cleanup.add(delete("delete-kamelet-binding", "timer-binding", deleted));
+
+        cleanup.execute(context);
+
+        Assertions.assertThat(deleted).hasSize(5);
+        Assertions.assertThat(deleted.get(0)).isEqualTo("delete-kamelet-binding:timer-binding");
+        Assertions.assertThat(deleted.get(1)).isEqualTo("delete-kamelet:timer-source");
+        Assertions.assertThat(deleted.subList(2, 4)).containsExactlyInAnyOrder("delete-trigger:trigger-1", "delete-trigger:trigger-2");
+        Assertions.assertThat(deleted.get(4)).isEqualTo("delete-broker:default");
+
+        deleted.clear();
+        cleanup.execute(context);
+        Assertions.assertThat(deleted).isEmpty();
+    }
+
+    @Test
+    public void shouldGroupConsecutiveActionsOfSameKind() {
+        List<String> deleted = new ArrayList<>();
+        List<List<TestAction>> groups = CleanupResourcesAction.groupByKind(Arrays.asList(
+                delete("delete-service", "foo", deleted),
+                delete("delete-service", "bar", deleted),
+                delete("delete-secret", "foo", deleted),
+                delete("delete-service", "baz", deleted)));
+
+        Assertions.assertThat(groups.stream().map(List::size).collect(Collectors.toList())).containsExactly(2, 1, 1);
+        Assertions.assertThat(groups.get(1).get(0).getName()).isEqualTo("delete-secret");
+    }
+
+    @Test
+    public void shouldCompleteAllDeletesAndFailOnError() {
+        List<String> deleted = Collections.synchronizedList(new ArrayList<>());
+
+        CleanupResourcesAction cleanup = new CleanupResourcesAction.Builder().build();
+        cleanup.add(delete("delete-service", "foo", deleted));
+        cleanup.add(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                throw new CitrusRuntimeException("Failed to delete service 'bar'");
+            }
+        });
+        cleanup.add(delete("delete-secret", "baz", deleted));
+
+        Assertions.assertThatThrownBy(() -> cleanup.execute(context))
+                .isInstanceOf(CitrusRuntimeException.class)
+                .hasMessage("Failed to remove 1 of 3 resources");
+        Assertions.assertThat(deleted).containsExactly("delete-secret:baz", "delete-service:foo");
+    }
+
+    private static TestAction delete(String kind, String resourceName, List<String> deleted) {
+        AbstractTestAction action = new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                deleted.add(kind + ":" + resourceName);
+            }
+        };
+        action.setName(kind);
+        return action;
+    }
+}
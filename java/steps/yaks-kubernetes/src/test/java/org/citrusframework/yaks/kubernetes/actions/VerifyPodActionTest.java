@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class VerifyPodActionTest {
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private final KubernetesClient k8sClient = Mockito.mock(KubernetesClient.class);
+    private final LogWatch logWatch = Mockito.mock(LogWatch.class);
+
+    @SuppressWarnings("unchecked")
+    private final PodResource<Pod> podResource = Mockito.mock(PodResource.class);
+
+    private final Pod pod = new PodBuilder()
+            .withNewMetadata()
+                .withName("my-pod")
+            .endMetadata()
+            .withNewStatus()
+                .withPhase("Running")
+                .withContainerStatuses(new ContainerStatusBuilder().withReady(true).build())
+            .endStatus()
+            .build();
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        MixedOperation<Pod, PodList, PodResource<Pod>> pods = Mockito.mock(MixedOperation.class);
+        NonNamespaceOperation<Pod, PodList, PodResource<Pod>> namespacedPods = Mockito.mock(NonNamespaceOperation.class);
+
+        Mockito.when(k8sClient.pods()).thenReturn(pods);
+        Mockito.when(pods.inNamespace(any())).thenReturn(namespacedPods);
+        Mockito.when(namespacedPods.withName("my-pod")).thenReturn(podResource);
+        Mockito.when(podResource.get()).thenReturn(pod);
+        Mockito.when(podResource.watchLog()).thenReturn(logWatch);
+    }
+
+    @Test
+    public void shouldFindMessageInLogStream() {
+        Mockito.when(logWatch.getOutput()).thenReturn(log("Starting\nApplication started\n"));
+
+        createAction().execute(context);
+
+        Mockito.verify(podResource, Mockito.never()).getLog();
+    }
+
+    @Test
+    public void shouldPollLogsWhenStreamEndsEarly() {
+        Mockito.when(logWatch.getOutput()).thenReturn(log("Starting\n"));
+        Mockito.when(podResource.getLog()).thenReturn("Starting\n", "Starting\nApplication started\n");
+
+        createAction().execute(context);
+
+        Mockito.verify(podResource, Mockito.times(2)).getLog();
+    }
+
+    @Test
+    public void shouldFailWhenMessageIsMissing() {
+        Mockito.when(logWatch.getOutput()).thenReturn(log("Starting\n"));
+        Mockito.when(podResource.getLog()).thenReturn("Starting\n");
+
+        Assertions.assertThatThrownBy(() -> createAction().execute(context))
+                .isInstanceOf(ActionTimeoutException.class);
+    }
+
+    @Test
+    public void shouldScanLogsWithBoundedBuffer() {
+        Assertions.assertThat(VerifyPodAction.scanLogs(log("foo\nbar\nApplication started\n"), "Application started")).isTrue();
+        Assertions.assertThat(VerifyPodAction.scanLogs(log("foo\nbar\n"), "bar\nbaz")).isFalse();
+        Assertions.assertThat(VerifyPodAction.scanLogs(log("foo\nbar\nbaz\n"), "bar\nbaz")).isTrue();
+        Assertions.assertThat(VerifyPodAction.scanLogs(log(""), "foo")).isFalse();
+    }
+
+    private VerifyPodAction createAction() {
+        return new VerifyPodAction.Builder()
+                .client(k8sClient)
+                .podName("my-pod")
+                .waitForLogMessage("Application started")
+                .watch(false)
+                .streamLogs(true)
+                .maxAttempts(5)
+                .delayBetweenAttempts(200L)
+                .build();
+    }
+
+    private static ByteArrayInputStream log(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
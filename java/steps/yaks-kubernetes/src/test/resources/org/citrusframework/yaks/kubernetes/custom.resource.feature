@@ -87,3 +87,23 @@ status:
     status: true
 """
     Then wait for condition=Completed on Kubernetes custom resource foo/job-resource in foos.yaks.dev/v1
+
+  Scenario: Wait for custom resource using informer cache
+    Given Enable cache for Kubernetes custom resources
+    Given create Kubernetes custom resource in foos.yaks.dev
+"""
+apiVersion: yaks.dev/v1
+kind: Foo
+metadata:
+  name: cached-resource
+  labels:
+    app: cached-app
+spec:
+  message: Hello
+status:
+  conditions:
+  - type: Ready
+    status: true
+"""
+    Then wait for condition=Ready on Kubernetes custom resource foo/cached-resource in foos.yaks.dev/v1
+    Then Kubernetes custom resource Foo in foos.yaks.dev/v1 labeled with app=cached-app should be ready
@@ -17,3 +17,10 @@ Feature: Kubernetes pod
   Scenario: Find pod by label
     Given Kubernetes pod p3 with label yaks.citrusframework.org/pod=sample
     Then Kubernetes pod labeled with yaks.citrusframework.org/pod=sample should be running
+
+  Scenario: Watch pod running
+    Given Enable watch for Kubernetes pod state
+    Given Kubernetes pod p4
+    Then Kubernetes pod p4 should be running
+    Given Kubernetes pod p5 with label yaks.citrusframework.org/pod=watched
+    Then Kubernetes pod labeled with yaks.citrusframework.org/pod=watched should be running
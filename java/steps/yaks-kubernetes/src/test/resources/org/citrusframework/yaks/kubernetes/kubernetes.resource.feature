@@ -24,3 +24,36 @@ spec:
   Scenario: Create from file resource
     Given load Kubernetes resource pod.yaml
     Then verify pod my-pod-resource exists
+
+  Scenario: Create multiple resources
+    Given create Kubernetes resources
+"""
+apiVersion: v1
+kind: Pod
+metadata:
+  name: multi-pod
+  labels:
+    name: multi-pod
+spec:
+  containers:
+  - name: nginx
+    image: nginx
+---
+apiVersion: v1
+kind: Service
+metadata:
+  name: multi-service
+spec:
+  selector:
+    name: multi-pod
+  ports:
+  - port: 80
+    targetPort: 80
+"""
+    Then verify pod multi-pod exists
+    Then verify Kubernetes service multi-service exists
+
+  Scenario: Create resources from directory
+    Given load Kubernetes resources bulk
+    Then verify pod bulk-pod exists
+    Then verify Kubernetes service bulk-service exists
@@ -17,24 +17,32 @@
 
 package org.citrusframework.yaks.openapi;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusAnnotations;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import io.apicurio.datamodels.openapi.models.OasOperation;
 import io.apicurio.datamodels.openapi.models.OasParameter;
-import io.apicurio.datamodels.openapi.models.OasPathItem;
 import io.apicurio.datamodels.openapi.models.OasResponse;
 import io.apicurio.datamodels.openapi.models.OasSchema;
+import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.And;
@@ -42,12 +50,22 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.citrusframework.yaks.http.HttpClientSteps;
+import org.citrusframework.yaks.http.LoadVariableNames;
+import org.citrusframework.yaks.openapi.actions.OpenApiGeneratedRequestsAction;
+import org.citrusframework.yaks.openapi.actions.OpenApiLoadAction;
+import org.citrusframework.yaks.openapi.generator.GeneratedRequest;
+import org.citrusframework.yaks.openapi.generator.OpenApiRequestGenerator;
 import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 public class OpenApiClientSteps {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiClientSteps.class);
+
     @CitrusResource
     private TestCaseRunner runner;
 
@@ -61,6 +79,13 @@ public class OpenApiClientSteps {
 
     private OasOperation operation;
 
+    private Map<String, Integer> loadOperations = new LinkedHashMap<>();
+
+    private Long generatorSeed;
+    private long generatedSeed;
+    private OpenApiSpecification.OperationEntry generatedOperation;
+    private List<GeneratedRequest> generatedRequests;
+
     private long timeout = OpenApiSettings.getTimeout();
 
     @Before
@@ -73,6 +98,11 @@ public class OpenApiClientSteps {
         clientSteps.configureTimeout(timeout);
 
         operation = null;
+        loadOperations = new LinkedHashMap<>();
+
+        generatorSeed = null;
+        generatedOperation = null;
+        generatedRequests = null;
     }
 
     @Given("^OpenAPI request timeout is (\\d+)(?: ms| milliseconds)$")
@@ -88,17 +118,11 @@ public class OpenApiClientSteps {
 
     @When("^(?:send|invoke) operation: (.+)$")
     public void invokeOperation(String operationId) {
-        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.openApiDoc.paths)) {
-            Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
-                    .filter(op -> operationId.equals(op.getValue().operationId))
-                    .findFirst();
-
-            if (operationEntry.isPresent()) {
-                operation = operationEntry.get().getValue();
-                sendRequest(path.getPath(), operationEntry.get().getKey(), operationEntry.get().getValue());
-                break;
-            }
-        }
+        OpenApiSpecification.OperationEntry operationEntry = state().getSpecification().getOperation(operationId)
+                .orElseThrow(() -> new CitrusRuntimeException(String.format("Unable to find operation '%s' in Open API specification", operationId)));
+
+        operation = operationEntry.getOperation();
+        sendRequest(operationEntry.getPath(), operationEntry.getMethod(), operation);
     }
 
     @Then("^(?:expect|verify) operation result: (\\d+)(?: [^\\s]+)?$")
@@ -111,6 +135,132 @@ public class OpenApiClientSteps {
         receiveResponse(operation, response);
     }
 
+    @Given("^OpenAPI load operation mix$")
+    public void configureLoadOperations(DataTable dataTable) {
+        Map<String, String> operations = dataTable.asMap(String.class, String.class);
+        for (Map.Entry<String, String> operation : operations.entrySet()) {
+            String weight = operation.getValue().trim();
+            loadOperations.put(operation.getKey(), Integer.parseInt(weight.endsWith("%") ? weight.substring(0, weight.length() - 1).trim() : weight));
+        }
+    }
+
+    @When("^run OpenAPI load with (\\d+) requests(?: at rate (\\d+)(?:/s| per second))?(?: with concurrency (\\d+))?$")
+    public void runLoad(int requests, Integer rate, Integer concurrency) {
+        runLoad(new OpenApiLoadAction.Builder()
+                .requests(requests)
+                .rate(Optional.ofNullable(rate).orElse(0))
+                .concurrency(Optional.ofNullable(concurrency).orElse(1)));
+    }
+
+    @When("^run OpenAPI load for (\\d+) (ms|milliseconds|s|seconds)(?: at rate (\\d+)(?:/s| per second))?(?: with concurrency (\\d+))?$")
+    public void runLoadForDuration(long duration, String unit, Integer rate, Integer concurrency) {
+        runLoad(new OpenApiLoadAction.Builder()
+                .duration(unit.startsWith("s") ? TimeUnit.SECONDS.toMillis(duration) : duration)
+                .rate(Optional.ofNullable(rate).orElse(0))
+                .concurrency(Optional.ofNullable(concurrency).orElse(1)));
+    }
+
+    @Then("^OpenAPI load(?: operation ([^\\s]+))? (p50|p95|p99|max) latency should be below (\\d+(?:\\.\\d+)?)(?: ms| milliseconds)$")
+    public void verifyLoadLatency(String operationId, String metric, double maxLatency) {
+        LoadVariableNames variable = LoadVariableNames.valueOf("LOAD_LATENCY_" + metric.toUpperCase(Locale.US));
+        verifyLoadResult(variable, operationId, String.format("%s latency", metric), maxLatency, true);
+    }
+
+    @Then("^OpenAPI load(?: operation ([^\\s]+))? error rate should be below (\\d+(?:\\.\\d+)?) ?%$")
+    public void verifyLoadErrorRate(String operationId, double maxErrorRate) {
+        verifyLoadResult(LoadVariableNames.LOAD_ERROR_RATE, operationId, "error rate", maxErrorRate, true);
+    }
+
+    @Then("^OpenAPI load(?: operation ([^\\s]+))? throughput should be (?:above|at least) (\\d+(?:\\.\\d+)?) requests per second$")
+    public void verifyLoadThroughput(String operationId, double minThroughput) {
+        verifyLoadResult(LoadVariableNames.LOAD_THROUGHPUT, operationId, "throughput", minThroughput, false);
+    }
+
+    @Given("^OpenAPI generator seed is (-?\\d+)$")
+    public void configureGeneratorSeed(long seed) {
+        this.generatorSeed = seed;
+    }
+
+    @Given("^generate (\\d+) (valid |invalid )?requests for operation (.+)$")
+    public void generateRequests(int count, String kind, String operationId) {
+        OpenApiSpecification.OperationEntry operationEntry = state().getSpecification().getOperation(operationId)
+                .orElseThrow(() -> new CitrusRuntimeException(String.format("Unable to find operation '%s' in Open API specification", operationId)));
+
+        OpenApiRequestGenerator.Mode mode = kind != null ?
+                OpenApiRequestGenerator.Mode.valueOf(kind.trim().toUpperCase(Locale.US)) : OpenApiRequestGenerator.Mode.MIXED;
+
+        runner.run((TestAction) context -> {
+            Map<String, String> fixedValues = new HashMap<>();
+            if (operationEntry.getOperation().parameters != null) {
+                operationEntry.getOperation().parameters.stream()
+                        .filter(param -> context.getVariables().containsKey(param.getName()))
+                        .forEach(param -> fixedValues.put(param.getName(), context.getVariable(param.getName())));
+            }
+
+            long seed = Optional.ofNullable(generatorSeed).orElseGet(() -> ThreadLocalRandom.current().nextLong());
+            List<GeneratedRequest> requests = new OpenApiRequestGenerator(state().getSpecification(), operationEntry, fixedValues)
+                    .generate(seed, count, mode);
+            long valid = requests.stream().filter(GeneratedRequest::isValid).count();
+
+            LOG.info(String.format("Generated %d requests for operation '%s' with seed %d", count, operationId, seed));
+
+            context.setVariable(OpenApiVariableNames.GENERATOR_SEED.value(), String.valueOf(seed));
+            context.setVariable(OpenApiVariableNames.GENERATED_REQUESTS.value(), String.valueOf(requests.size()));
+            context.setVariable(OpenApiVariableNames.GENERATED_VALID.value(), String.valueOf(valid));
+            context.setVariable(OpenApiVariableNames.GENERATED_INVALID.value(), String.valueOf(requests.size() - valid));
+
+            generatedSeed = seed;
+            generatedOperation = operationEntry;
+            generatedRequests = requests;
+        });
+    }
+
+    @When("^send generated requests(?: with concurrency (\\d+))?$")
+    public void sendGeneratedRequests(Integer concurrency) {
+        runner.run(new OpenApiGeneratedRequestsAction.Builder()
+                .client(clientSteps.getHttpClient())
+                .url(state().getUrl())
+                .operation(generatedOperation)
+                .requests(generatedRequests)
+                .seed(generatedSeed)
+                .concurrency(Optional.ofNullable(concurrency).orElse(1)));
+    }
+
+    /**
+     * Runs load with the current operation mix on the Open API specification.
+     * @param loadBuilder
+     */
+    private void runLoad(OpenApiLoadAction.Builder loadBuilder) {
+        if (loadOperations.isEmpty()) {
+            throw new CitrusRuntimeException("Missing OpenAPI load operation mix - please specify operations and weights first");
+        }
+
+        runner.run(loadBuilder.client(clientSteps.getHttpClient())
+                .specification(state().getSpecification())
+                .url(state().getUrl())
+                .operations(loadOperations));
+    }
+
+    /**
+     * Verifies load test result stored in given test variable against given limit. When operationId is given the result
+     * of this operation is verified.
+     * @param variable
+     * @param operationId
+     * @param description
+     * @param limit
+     * @param upperLimit
+     */
+    private void verifyLoadResult(LoadVariableNames variable, String operationId, String description, double limit, boolean upperLimit) {
+        runner.run((TestAction) context -> {
+            double value = Double.parseDouble(context.getVariable(variable.value(OpenApiLoadAction.VARIABLE_PREFIX, operationId)));
+            if (upperLimit ? value >= limit : value < limit) {
+                throw new ValidationException(String.format("OpenAPI load%s %s validation failed - expected %s %s but was %s",
+                        operationId != null ? String.format(" operation '%s'", operationId) : "",
+                        description, upperLimit ? "below" : "at least", limit, value));
+            }
+        });
+    }
+
     /**
      * Invoke request for given API operation. The request parameters, headers and payload are generated via specification
      * details in that operation.
@@ -125,7 +275,7 @@ public class OpenApiClientSteps {
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> clientSteps.addRequestHeader(param.getName(),
                             OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    state().getSpecification().getSchemaDefinitions(), false, context)));
 
             operation.parameters.stream()
                     .filter(param -> "query".equals(param.in))
@@ -134,14 +284,14 @@ public class OpenApiClientSteps {
                             OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema, context)));
         }
 
-        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.openApiDoc, operation);
+        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(state().getSpecification().getDocument(), operation);
         if (body.isPresent()) {
-            clientSteps.setRequestBody(OpenApiTestDataGenerator.createOutboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+            clientSteps.setRequestBody(OpenApiTestDataGenerator.createOutboundPayload(body.get(), state().getSpecification().getSchemaDefinitions(), context));
 
             if (OasModelHelper.isReferenceType(body.get())
                     || OasModelHelper.isObjectType(body.get())
                     || OasModelHelper.isArrayType(body.get())) {
-                clientSteps.setOutboundDictionary(OpenApiSteps.outboundDictionary);
+                clientSteps.setOutboundDictionary(state().getOutboundDictionary());
             }
         }
 
@@ -167,7 +317,7 @@ public class OpenApiClientSteps {
         Optional<String> contentType = OasModelHelper.getRequestContentType(operation);
         contentType.ifPresent(s -> clientSteps.addRequestHeader(HttpHeaders.CONTENT_TYPE, s));
 
-        clientSteps.setUrl(OpenApiSteps.openApiUrl);
+        clientSteps.setUrl(state().getUrl());
         clientSteps.sendClientRequest(method.toUpperCase(), randomizedPath);
     }
 
@@ -184,7 +334,7 @@ public class OpenApiClientSteps {
             if (response != null) {
                 Map<String, OasSchema> requiredHeaders = OasModelHelper.getRequiredHeaders(response);
                 for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
-                    clientSteps.addResponseHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context));
+                    clientSteps.addResponseHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(), state().getSpecification().getSchemaDefinitions(), false, context));
                 }
 
                 Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
@@ -196,18 +346,18 @@ public class OpenApiClientSteps {
 
                 Optional<OasSchema> responseSchema = OasModelHelper.getSchema(response);
                 if (responseSchema.isPresent()) {
-                    clientSteps.setResponseBody(OpenApiTestDataGenerator.createInboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+                    clientSteps.setResponseBody(OpenApiTestDataGenerator.createInboundPayload(responseSchema.get(), state().getSpecification().getSchemaDefinitions(), context));
 
                     if (OasModelHelper.isReferenceType(responseSchema.get())
                             || OasModelHelper.isObjectType(responseSchema.get())
                             || OasModelHelper.isArrayType(responseSchema.get())) {
-                        clientSteps.setInboundDictionary(OpenApiSteps.inboundDictionary);
+                        clientSteps.setInboundDictionary(state().getInboundDictionary());
                     }
                 }
             }
         }
 
-        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.openApiDoc, operation);
+        Optional<String> contentType = OasModelHelper.getResponseContentType(state().getSpecification().getDocument(), operation);
         contentType.ifPresent(s -> clientSteps.addResponseHeader(HttpHeaders.CONTENT_TYPE, s));
 
         if (Pattern.compile("[0-9]+").matcher(status).matches()) {
@@ -216,4 +366,12 @@ public class OpenApiClientSteps {
             clientSteps.receiveClientResponse(HttpStatus.OK.value());
         }
     }
+
+    /**
+     * Open API state of the current scenario.
+     * @return
+     */
+    private OpenApiScenarioState state() {
+        return OpenApiScenarioState.of(context);
+    }
 }
@@ -25,15 +25,18 @@ import java.net.URL;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.util.FileUtils;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.openapi.models.OasDocument;
-import org.apache.http.HttpHeaders;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
 import org.apache.http.ssl.SSLContexts;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
@@ -43,6 +46,12 @@ import org.springframework.http.MediaType;
  */
 public final class OpenApiResourceLoader {
 
+    private static final String ETAG_PREFIX = "etag:";
+    private static final String LAST_MODIFIED_PREFIX = "modified:";
+
+    /** Parsed specifications by resource location */
+    private static final Map<String, CachedSpecification> SPECIFICATIONS = new ConcurrentHashMap<>();
+
     /**
      * Prevent instantiation of utility class.
      */
@@ -69,26 +78,7 @@ public final class OpenApiResourceLoader {
      * @return
      */
     public static OasDocument fromWebResource(URL url) {
-        HttpURLConnection con = null;
-        try {
-            con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod(HttpMethod.GET.name());
-            con.setRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-
-            int status = con.getResponseCode();
-            if (status > 299) {
-                throw new IllegalStateException("Failed to retrieve Open API specification: " + url.toString(),
-                        new IOException(FileUtils.readToString(con.getErrorStream())));
-            } else {
-                return (OasDocument) Library.readDocumentFromJSONString(FileUtils.readToString(con.getInputStream()));
-            }
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to retrieve Open API specification: " + url.toString(), e);
-        } finally {
-            if (con != null) {
-                con.disconnect();
-            }
-        }
+        return (OasDocument) Library.readDocumentFromJSONString(readWebResource(url, null, false).content);
     }
 
     /**
@@ -98,28 +88,124 @@ public final class OpenApiResourceLoader {
      */
     public static OasDocument fromSecuredWebResource(URL url) {
         Objects.requireNonNull(url);
+        return (OasDocument) Library.readDocumentFromJSONString(readWebResource(url, null, true).content);
+    }
 
-        HttpsURLConnection con = null;
+    /**
+     * Loads the specification from a file resource and caches the parsed document. The cached document is reused as long as
+     * the resource has not been modified since.
+     * @param resource
+     * @return
+     */
+    public static OpenApiSpecification specificationFromFile(String resource) {
+        Resource fileResource = FileUtils.getFileResource(resource);
+        String version = getVersion(fileResource);
+
+        CachedSpecification cached = SPECIFICATIONS.get(resource);
+        if (cached != null && version != null && version.equals(cached.version)) {
+            return cached.specification;
+        }
+
+        OpenApiSpecification specification = new OpenApiSpecification(fromFile(resource));
+        if (version != null) {
+            SPECIFICATIONS.put(resource, new CachedSpecification(version, specification));
+        }
+        return specification;
+    }
+
+    /**
+     * Loads specification from given web URL location and caches the parsed document. Subsequent loads send a conditional
+     * request with the ETag or last modified date of the cached document and reuse the cached document when the server
+     * reports that it has not been modified. Https locations use a secured Http connection.
+     * @param url
+     * @return
+     */
+    public static OpenApiSpecification specificationFromWebResource(URL url) {
+        Objects.requireNonNull(url);
+
+        String key = url.toString();
+        CachedSpecification cached = SPECIFICATIONS.get(key);
+        WebResource webResource = readWebResource(url, cached, "https".equals(url.getProtocol()));
+        if (webResource.notModified) {
+            return cached.specification;
+        }
+
+        OpenApiSpecification specification = new OpenApiSpecification((OasDocument) Library.readDocumentFromJSONString(webResource.content));
+        if (webResource.version != null) {
+            SPECIFICATIONS.put(key, new CachedSpecification(webResource.version, specification));
+        }
+        return specification;
+    }
+
+    /**
+     * Removes all cached specifications.
+     */
+    public static void clearCache() {
+        SPECIFICATIONS.clear();
+    }
+
+    /**
+     * Gets version information for given file resource based on last modified timestamp and content length.
+     * @param resource
+     * @return version or null if resource does not provide the information
+     */
+    private static String getVersion(Resource resource) {
+        try {
+            return resource.lastModified() + "-" + resource.contentLength();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads content from given URL. Uses conditional request headers when cached specification is given. Secured
+     * connections trust all certificates and host names.
+     * @param url
+     * @param cached
+     * @param secured
+     * @return
+     */
+    private static WebResource readWebResource(URL url, CachedSpecification cached, boolean secured) {
+        HttpURLConnection con = null;
         try {
-            SSLContext sslcontext = SSLContexts
-                    .custom()
-                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
-                    .build();
+            con = (HttpURLConnection) url.openConnection();
+            if (secured && con instanceof HttpsURLConnection) {
+                SSLContext sslcontext = SSLContexts
+                        .custom()
+                        .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                        .build();
 
-            HttpsURLConnection.setDefaultSSLSocketFactory(sslcontext.getSocketFactory());
-            HttpsURLConnection.setDefaultHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+                ((HttpsURLConnection) con).setSSLSocketFactory(sslcontext.getSocketFactory());
+                ((HttpsURLConnection) con).setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+            }
 
-            con = (HttpsURLConnection) url.openConnection();
             con.setRequestMethod(HttpMethod.GET.name());
             con.setRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
 
+            if (cached != null) {
+                if (cached.version.startsWith(ETAG_PREFIX)) {
+                    con.setRequestProperty(HttpHeaders.IF_NONE_MATCH, cached.version.substring(ETAG_PREFIX.length()));
+                } else {
+                    con.setRequestProperty(HttpHeaders.IF_MODIFIED_SINCE, cached.version.substring(LAST_MODIFIED_PREFIX.length()));
+                }
+            }
+
             int status = con.getResponseCode();
-            if (status > 299) {
+            if (cached != null && status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return new WebResource(null, cached.version, true);
+            } else if (status > 299) {
                 throw new IllegalStateException("Failed to retrieve Open API specification: " + url.toString(),
                         new IOException(FileUtils.readToString(con.getErrorStream())));
-            } else {
-                return (OasDocument) Library.readDocumentFromJSONString(FileUtils.readToString(con.getInputStream()));
             }
+
+            String version = null;
+            if (con.getHeaderField(HttpHeaders.ETAG) != null) {
+                version = ETAG_PREFIX + con.getHeaderField(HttpHeaders.ETAG);
+            } else if (con.getHeaderField(HttpHeaders.LAST_MODIFIED) != null) {
+                version = LAST_MODIFIED_PREFIX + con.getHeaderField(HttpHeaders.LAST_MODIFIED);
+            }
+
+            return new WebResource(FileUtils.readToString(con.getInputStream()), version, false);
         } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
             throw new IllegalStateException("Failed to create https client for ssl connection", e);
         } catch (IOException e) {
@@ -130,4 +216,32 @@ public final class OpenApiResourceLoader {
             }
         }
     }
+
+    /**
+     * Parsed specification with the resource version it has been loaded from.
+     */
+    private static final class CachedSpecification {
+        private final String version;
+        private final OpenApiSpecification specification;
+
+        private CachedSpecification(String version, OpenApiSpecification specification) {
+            this.version = version;
+            this.specification = specification;
+        }
+    }
+
+    /**
+     * Web resource content with its version information.
+     */
+    private static final class WebResource {
+        private final String content;
+        private final String version;
+        private final boolean notModified;
+
+        private WebResource(String content, String version, boolean notModified) {
+            this.content = content;
+            this.version = version;
+            this.notModified = notModified;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.variable.dictionary.AbstractDataDictionary;
+import com.consol.citrus.variable.dictionary.json.JsonPathMappingDataDictionary;
+
+/**
+ * Open API state shared by the step classes of a single scenario. The state is kept in the scenario test context so
+ * that scenarios running in parallel do not see each other's specification, url, data dictionaries and settings.
+ *
+ * @author Christoph Deppisch
+ */
+final class OpenApiScenarioState {
+
+    /** Test context variable holding the state */
+    private static final String STATE_VARIABLE = "YAKS_OPENAPI_SCENARIO_STATE";
+
+    private OpenApiSpecification specification;
+    private String url;
+
+    private final AbstractDataDictionary<String> outboundDictionary = new JsonPathMappingDataDictionary();
+    private final AbstractDataDictionary<String> inboundDictionary = new JsonPathMappingDataDictionary();
+
+    private boolean generateOptionalFields = OpenApiSettings.isGenerateOptionalFields();
+    private boolean validateOptionalFields = OpenApiSettings.isValidateOptionalFields();
+
+    /**
+     * Gets the state of the scenario that given test context belongs to. Creates new state with default settings if
+     * the scenario has no state yet.
+     * @param context
+     * @return
+     */
+    static OpenApiScenarioState of(TestContext context) {
+        Object state = context.getVariables().get(STATE_VARIABLE);
+        if (state instanceof OpenApiScenarioState) {
+            return (OpenApiScenarioState) state;
+        }
+
+        OpenApiScenarioState newState = new OpenApiScenarioState();
+        context.getVariables().put(STATE_VARIABLE, newState);
+        return newState;
+    }
+
+    /**
+     * Gets the loaded specification.
+     * @return
+     * @throws CitrusRuntimeException when no specification has been loaded in this scenario
+     */
+    OpenApiSpecification getSpecification() {
+        if (specification == null) {
+            throw new CitrusRuntimeException("Missing Open API specification - please load a specification first");
+        }
+
+        return specification;
+    }
+
+    void setSpecification(OpenApiSpecification specification) {
+        this.specification = specification;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    void setUrl(String url) {
+        this.url = url;
+    }
+
+    AbstractDataDictionary<String> getOutboundDictionary() {
+        return outboundDictionary;
+    }
+
+    AbstractDataDictionary<String> getInboundDictionary() {
+        return inboundDictionary;
+    }
+
+    boolean isGenerateOptionalFields() {
+        return generateOptionalFields;
+    }
+
+    void setGenerateOptionalFields(boolean generateOptionalFields) {
+        this.generateOptionalFields = generateOptionalFields;
+    }
+
+    boolean isValidateOptionalFields() {
+        return validateOptionalFields;
+    }
+
+    void setValidateOptionalFields(boolean validateOptionalFields) {
+        this.validateOptionalFields = validateOptionalFields;
+    }
+}
@@ -25,14 +25,17 @@ import java.util.stream.Collectors;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusAnnotations;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.http.server.HttpServer;
 import io.apicurio.datamodels.openapi.models.OasOperation;
 import io.apicurio.datamodels.openapi.models.OasParameter;
-import io.apicurio.datamodels.openapi.models.OasPathItem;
 import io.apicurio.datamodels.openapi.models.OasResponse;
 import io.apicurio.datamodels.openapi.models.OasSchema;
 import io.cucumber.java.Before;
@@ -42,10 +45,14 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.citrusframework.yaks.http.HttpServerSteps;
+import org.citrusframework.yaks.http.stub.HttpStubEndpointAdapter;
 import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.citrusframework.yaks.openapi.server.OpenApiAutoResponder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
+import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
+
 public class OpenApiServerSteps {
 
     @CitrusResource
@@ -61,6 +68,8 @@ public class OpenApiServerSteps {
 
     private OasOperation operation;
 
+    private OpenApiAutoResponder autoResponder;
+
     private long timeout = OpenApiSettings.getTimeout();
 
     @Before
@@ -73,6 +82,7 @@ public class OpenApiServerSteps {
         serverSteps.configureTimeout(timeout);
 
         operation = null;
+        autoResponder = null;
     }
 
     @Given("^OpenAPI server timeout is (\\d+)(?: ms| milliseconds)$")
@@ -83,17 +93,11 @@ public class OpenApiServerSteps {
 
     @When("^(?:receive|expect|verify) operation: (.+)$")
     public void receiveOperation(String operationId) {
-        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.openApiDoc.paths)) {
-            Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
-                    .filter(op -> operationId.equals(op.getValue().operationId))
-                    .findFirst();
-
-            if (operationEntry.isPresent()) {
-                operation = operationEntry.get().getValue();
-                receiveRequest(path.getPath(), operationEntry.get().getKey(), operationEntry.get().getValue());
-                break;
-            }
-        }
+        OpenApiSpecification.OperationEntry operationEntry = state().getSpecification().getOperation(operationId)
+                .orElseThrow(() -> new CitrusRuntimeException(String.format("Unable to find operation '%s' in Open API specification", operationId)));
+
+        operation = operationEntry.getOperation();
+        receiveRequest(operationEntry.getPath(), operationEntry.getMethod(), operation);
     }
 
     @Then("^send operation result: (\\d+)(?: [^\\s]+)?$")
@@ -106,6 +110,81 @@ public class OpenApiServerSteps {
         sendResponse(operation, response);
     }
 
+    @Given("^(?:start|enable) OpenAPI auto responder(?: on HTTP server \"([^\"\\s]+)\")?$")
+    public void startAutoResponder(String serverName) {
+        startAutoResponder(serverName, false);
+    }
+
+    @Given("^(?:start|enable) strict OpenAPI auto responder(?: on HTTP server \"([^\"\\s]+)\")?$")
+    public void startStrictAutoResponder(String serverName) {
+        startAutoResponder(serverName, true);
+    }
+
+    private void startAutoResponder(String serverName, boolean strict) {
+        if (serverName != null) {
+            serverSteps.newServer(serverName);
+        }
+
+        HttpServer httpServer = serverSteps.getHttpServer();
+        HttpStubEndpointAdapter stubAdapter = serverSteps.getStubAdapter();
+        OpenApiAutoResponder responder = new OpenApiAutoResponder(state().getSpecification(), strict);
+
+        runner.then(doFinally().actions(context -> stubAdapter.removeResponder(responder)));
+        runner.run((TestAction) context -> stubAdapter.addResponder(responder));
+        autoResponder = responder;
+
+        if (!httpServer.isRunning()) {
+            httpServer.start();
+        }
+    }
+
+    @Then("^(?:expect|verify) OpenAPI auto responder received (\\d+) requests? for operation (.+)$")
+    public void verifyAutoResponderRequests(long count, String operationId) {
+        OpenApiAutoResponder responder = getAutoResponder();
+        runner.run((TestAction) context -> {
+            long deadline = System.currentTimeMillis() + timeout;
+            long received = responder.getRequestCount(operationId);
+            while (received < count && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(Math.min(100L, timeout));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CitrusRuntimeException("Interrupted while waiting for OpenAPI auto responder requests", e);
+                }
+                received = responder.getRequestCount(operationId);
+            }
+
+            if (received != count) {
+                throw new ValidationException(String.format("OpenAPI auto responder received %d requests for operation '%s', expected %d",
+                        received, operationId, count));
+            }
+        });
+    }
+
+    @Then("^(?:expect|verify) OpenAPI auto responder reported no violations$")
+    public void verifyNoAutoResponderViolations() {
+        verifyAutoResponderViolations(0);
+    }
+
+    @Then("^(?:expect|verify) OpenAPI auto responder reported (\\d+) violations?$")
+    public void verifyAutoResponderViolations(int count) {
+        OpenApiAutoResponder responder = getAutoResponder();
+        runner.run((TestAction) context -> {
+            List<String> violations = responder.getViolations();
+            if (violations.size() != count) {
+                throw new ValidationException(String.format("OpenAPI auto responder reported %d violations, expected %d:%n%s",
+                        violations.size(), count, String.join(System.lineSeparator(), violations)));
+            }
+        });
+    }
+
+    private OpenApiAutoResponder getAutoResponder() {
+        if (autoResponder == null) {
+            throw new CitrusRuntimeException("Missing OpenAPI auto responder - please start the auto responder first");
+        }
+        return autoResponder;
+    }
+
     /**
      * Invoke request for given API operation. The request parameters, headers and payload are generated via specification
      * details in that operation.
@@ -120,28 +199,28 @@ public class OpenApiServerSteps {
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> serverSteps.addRequestHeader(param.getName(),
                             OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    state().getSpecification().getSchemaDefinitions(), false, context)));
 
             operation.parameters.stream()
                     .filter(param -> "query".equals(param.in))
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> serverSteps.addRequestQueryParam(param.getName(),
                             OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    state().getSpecification().getSchemaDefinitions(), false, context)));
         }
 
-        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.openApiDoc, operation);
+        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(state().getSpecification().getDocument(), operation);
         if (body.isPresent()) {
-            serverSteps.setRequestBody(OpenApiTestDataGenerator.createInboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+            serverSteps.setRequestBody(OpenApiTestDataGenerator.createInboundPayload(body.get(), state().getSpecification().getSchemaDefinitions(), context));
 
             if (OasModelHelper.isReferenceType(body.get())
                     || OasModelHelper.isObjectType(body.get())
                     || OasModelHelper.isArrayType(body.get())) {
-                serverSteps.setInboundDictionary(OpenApiSteps.inboundDictionary);
+                serverSteps.setInboundDictionary(state().getInboundDictionary());
             }
         }
 
-        String randomizedPath = OasModelHelper.getBasePath(OpenApiSteps.openApiDoc) + path;
+        String randomizedPath = OasModelHelper.getBasePath(state().getSpecification().getDocument()) + path;
         if (operation.parameters != null) {
             List<OasParameter> pathParams = operation.parameters.stream()
                     .filter(p -> "path".equals(p.in))
@@ -152,7 +231,7 @@ public class OpenApiServerSteps {
                 if (context.getVariables().containsKey(parameter.getName())) {
                     parameterValue = "\\" + CitrusSettings.VARIABLE_PREFIX + parameter.getName() + CitrusSettings.VARIABLE_SUFFIX;
                 } else {
-                    parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema, OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false);
+                    parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema, state().getSpecification().getSchemaDefinitions(), false, context);
                 }
                 randomizedPath = Pattern.compile("\\{" + parameter.getName() + "}")
                                         .matcher(randomizedPath)
@@ -181,7 +260,7 @@ public class OpenApiServerSteps {
                 for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
                     serverSteps.addResponseHeader(header.getKey(),
                             OpenApiTestDataGenerator.createRandomValueExpression(header.getKey(), header.getValue(),
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context));
+                                    state().getSpecification().getSchemaDefinitions(), false, context));
                 }
 
                 Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
@@ -193,18 +272,18 @@ public class OpenApiServerSteps {
 
                 Optional<OasSchema> responseSchema = OasModelHelper.getSchema(response);
                 if (responseSchema.isPresent()) {
-                    serverSteps.setResponseBody(OpenApiTestDataGenerator.createOutboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+                    serverSteps.setResponseBody(OpenApiTestDataGenerator.createOutboundPayload(responseSchema.get(), state().getSpecification().getSchemaDefinitions(), context));
 
                     if (OasModelHelper.isReferenceType(responseSchema.get())
                             || OasModelHelper.isObjectType(responseSchema.get())
                             || OasModelHelper.isArrayType(responseSchema.get())) {
-                        serverSteps.setOutboundDictionary(OpenApiSteps.outboundDictionary);
+                        serverSteps.setOutboundDictionary(state().getOutboundDictionary());
                     }
                 }
             }
         }
 
-        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.openApiDoc, operation);
+        Optional<String> contentType = OasModelHelper.getResponseContentType(state().getSpecification().getDocument(), operation);
         contentType.ifPresent(s -> serverSteps.addResponseHeader(HttpHeaders.CONTENT_TYPE, s));
 
         if (Pattern.compile("[0-9]+").matcher(status).matches()) {
@@ -213,4 +292,12 @@ public class OpenApiServerSteps {
             serverSteps.sendServerResponse(HttpStatus.OK.value());
         }
     }
+
+    /**
+     * Open API state of the current scenario.
+     * @return
+     */
+    private OpenApiScenarioState state() {
+        return OpenApiScenarioState.of(context);
+    }
 }
@@ -37,6 +37,10 @@ public class OpenApiSettings {
     private static final String VALIDATE_OPTIONAL_FIELDS_ENV = OPENAPI_ENV_PREFIX + "VALIDATE_OPTIONAL_FIELDS";
     private static final String VALIDATE_OPTIONAL_FIELDS_DEFAULT = "true";
 
+    private static final String PAYLOAD_TEMPLATE_CACHE_SIZE_PROPERTY = OPENAPI_PROPERTY_PREFIX + "payload.template.cache.size";
+    private static final String PAYLOAD_TEMPLATE_CACHE_SIZE_ENV = OPENAPI_ENV_PREFIX + "PAYLOAD_TEMPLATE_CACHE_SIZE";
+    private static final String PAYLOAD_TEMPLATE_CACHE_SIZE_DEFAULT = "1024";
+
     private OpenApiSettings() {
         // prevent instantiation of utility class
     }
@@ -67,4 +71,13 @@ public class OpenApiSettings {
         return Boolean.parseBoolean(System.getProperty(VALIDATE_OPTIONAL_FIELDS_PROPERTY,
                 System.getenv(VALIDATE_OPTIONAL_FIELDS_ENV) != null ? System.getenv(VALIDATE_OPTIONAL_FIELDS_ENV) : VALIDATE_OPTIONAL_FIELDS_DEFAULT));
     }
+
+    /**
+     * Maximum number of generated payload templates kept in the template cache. Zero disables the cache.
+     * @return
+     */
+    public static int getPayloadTemplateCacheSize() {
+        return Integer.parseInt(System.getProperty(PAYLOAD_TEMPLATE_CACHE_SIZE_PROPERTY,
+                System.getenv(PAYLOAD_TEMPLATE_CACHE_SIZE_ENV) != null ? System.getenv(PAYLOAD_TEMPLATE_CACHE_SIZE_ENV) : PAYLOAD_TEMPLATE_CACHE_SIZE_DEFAULT));
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import io.apicurio.datamodels.openapi.models.OasDocument;
+import io.apicurio.datamodels.openapi.models.OasOperation;
+import io.apicurio.datamodels.openapi.models.OasPathItem;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+
+/**
+ * Parsed Open API document with precomputed lookup structures. The operations are indexed by their operationId and the
+ * schema definitions are resolved once, so steps do not need to scan all path items for each request.
+ *
+ * Instances are immutable once created and may be shared by all scenarios.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiSpecification {
+
+    private final OasDocument document;
+    private final Map<String, OperationEntry> operations;
+    private final Map<String, OasSchema> schemaDefinitions;
+
+    public OpenApiSpecification(OasDocument document) {
+        this.document = document;
+        this.operations = Collections.unmodifiableMap(indexOperations(document));
+        this.schemaDefinitions = Collections.unmodifiableMap(new LinkedHashMap<>(OasModelHelper.getSchemaDefinitions(document)));
+    }
+
+    private static Map<String, OperationEntry> indexOperations(OasDocument document) {
+        Map<String, OperationEntry> operations = new LinkedHashMap<>();
+        for (OasPathItem path : OasModelHelper.getPathItems(document.paths)) {
+            for (Map.Entry<String, OasOperation> operation : OasModelHelper.getOperationMap(path).entrySet()) {
+                if (operation.getValue().operationId != null) {
+                    // first operation wins in case of duplicate operationIds
+                    operations.putIfAbsent(operation.getValue().operationId,
+                            new OperationEntry(path.getPath(), operation.getKey(), operation.getValue()));
+                }
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Find operation with given operationId.
+     * @param operationId
+     * @return
+     */
+    public Optional<OperationEntry> getOperation(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+
+    /**
+     * Gets all operations that define an operationId in the order of the specification.
+     * @return
+     */
+    public Collection<OperationEntry> getOperations() {
+        return operations.values();
+    }
+
+    public OasDocument getDocument() {
+        return document;
+    }
+
+    public Map<String, OasSchema> getSchemaDefinitions() {
+        return schemaDefinitions;
+    }
+
+    /**
+     * Operation with its path and Http method.
+     */
+    public static final class OperationEntry {
+        private final String path;
+        private final String method;
+        private final OasOperation operation;
+
+        OperationEntry(String path, String method, OasOperation operation) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public OasOperation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Checks if given response status is declared in the operation responses. Supports explicit status codes,
+         * status code ranges such as 2XX and the default response. Operations without responses accept all
+         * non error status codes.
+         * @param status
+         * @return
+         */
+        public boolean isDeclaredResponse(int status) {
+            if (operation.responses == null) {
+                return status < 400;
+            }
+
+            String code = String.valueOf(status);
+            return operation.responses.getItem(code) != null
+                    || operation.responses.getItem(code.charAt(0) + "XX") != null
+                    || operation.responses.default_ != null;
+        }
+    }
+}
@@ -25,13 +25,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
+import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.variable.dictionary.AbstractDataDictionary;
-import com.consol.citrus.variable.dictionary.json.JsonPathMappingDataDictionary;
 import io.apicurio.datamodels.openapi.models.OasDocument;
 import io.cucumber.datatable.DataTable;
-import io.cucumber.java.Before;
-import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import org.citrusframework.yaks.openapi.model.OasModelHelper;
 import org.springframework.core.io.ClassPathResource;
@@ -42,59 +41,45 @@ import org.springframework.core.io.Resource;
  */
 public class OpenApiSteps {
 
-    static OasDocument openApiDoc;
-
-    static String openApiUrl;
-
-    static AbstractDataDictionary<String> outboundDictionary;
-    static AbstractDataDictionary<String> inboundDictionary;
-
-    static boolean generateOptionalFields = OpenApiSettings.isGenerateOptionalFields();
-    static boolean validateOptionalFields = OpenApiSettings.isValidateOptionalFields();
-
-    @Before
-    public void before(Scenario scenario) {
-        outboundDictionary = new JsonPathMappingDataDictionary();
-        inboundDictionary = new JsonPathMappingDataDictionary();
-    }
+    @CitrusResource
+    private TestContext context;
 
     @Given("^Disable OpenAPI generate optional fields$")
     public void disableGenerateOptionalFields() {
-        generateOptionalFields = false;
+        state().setGenerateOptionalFields(false);
     }
 
     @Given("^Enable OpenAPI generate optional fields$")
     public void enableGenerateOptionalFields() {
-        generateOptionalFields = true;
+        state().setGenerateOptionalFields(true);
     }
 
     @Given("^Disable OpenAPI validate optional fields$")
     public void disableValidateOptionalFields() {
-        validateOptionalFields = false;
+        state().setValidateOptionalFields(false);
     }
 
     @Given("^Enable OpenAPI validate optional fields$")
     public void enableValidateOptionalFields() {
-        validateOptionalFields = true;
+        state().setValidateOptionalFields(true);
     }
 
     @Given("^OpenAPI (?:specification|resource): ([^\\s]+)$")
     public void loadOpenApiResource(String resource) {
+        OpenApiSpecification openApiSpec;
+        String openApiUrl;
         if (resource.startsWith("http")) {
             try {
                 URL url = new URL(resource);
-                if (resource.startsWith("https")) {
-                    openApiDoc = OpenApiResourceLoader.fromSecuredWebResource(url);
-                } else {
-                    openApiDoc = OpenApiResourceLoader.fromWebResource(url);
-                }
-                openApiUrl = String.format("%s://%s%s%s", url.getProtocol(), url.getHost(), url.getPort() > 0 ? ":" + url.getPort() : "", OasModelHelper.getBasePath(openApiDoc));
+                openApiSpec = OpenApiResourceLoader.specificationFromWebResource(url);
+                openApiUrl = String.format("%s://%s%s%s", url.getProtocol(), url.getHost(), url.getPort() > 0 ? ":" + url.getPort() : "", OasModelHelper.getBasePath(openApiSpec.getDocument()));
             } catch (MalformedURLException e) {
                 throw new IllegalStateException("Failed to retrieve Open API specification as web resource: " + resource, e);
             }
         } else {
-            openApiDoc = OpenApiResourceLoader.fromFile(resource);
+            openApiSpec = OpenApiResourceLoader.specificationFromFile(resource);
 
+            OasDocument openApiDoc = openApiSpec.getDocument();
             String schemeToUse = Optional.ofNullable(OasModelHelper.getSchemes(openApiDoc))
                     .orElse(Collections.singletonList("http"))
                     .stream()
@@ -104,32 +89,43 @@ public class OpenApiSteps {
 
             openApiUrl = String.format("%s://%s%s", schemeToUse, OasModelHelper.getHost(openApiDoc), OasModelHelper.getBasePath(openApiDoc));
         }
+
+        state().setSpecification(openApiSpec);
+        state().setUrl(openApiUrl);
     }
 
     @Given("^OpenAPI outbound dictionary$")
     public void createOutboundDictionary(DataTable dataTable) {
         Map<String, String> mappings = dataTable.asMap(String.class, String.class);
         for (Map.Entry<String, String> mapping : mappings.entrySet()) {
-            outboundDictionary.getMappings().put(mapping.getKey(), mapping.getValue());
+            state().getOutboundDictionary().getMappings().put(mapping.getKey(), mapping.getValue());
         }
     }
 
     @Given("^load OpenAPI outbound dictionary ([^\\s]+)$")
     public void createOutboundDictionary(String fileName) {
-        addMappingsFromFile(fileName, outboundDictionary);
+        addMappingsFromFile(fileName, state().getOutboundDictionary());
     }
 
     @Given("^OpenAPI inbound dictionary$")
     public void createInboundDictionary(DataTable dataTable) {
         Map<String, String> mappings = dataTable.asMap(String.class, String.class);
         for (Map.Entry<String, String> mapping : mappings.entrySet()) {
-            inboundDictionary.getMappings().put(mapping.getKey(), mapping.getValue());
+            state().getInboundDictionary().getMappings().put(mapping.getKey(), mapping.getValue());
         }
     }
 
     @Given("^load OpenAPI inbound dictionary ([^\\s]+)$")
     public void createInboundDictionary(String fileName) {
-        addMappingsFromFile(fileName, inboundDictionary);
+        addMappingsFromFile(fileName, state().getInboundDictionary());
+    }
+
+    /**
+     * Open API state of the current scenario.
+     * @return
+     */
+    private OpenApiScenarioState state() {
+        return OpenApiScenarioState.of(context);
     }
 
     /**
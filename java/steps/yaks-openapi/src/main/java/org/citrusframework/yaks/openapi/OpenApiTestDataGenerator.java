@@ -18,12 +18,10 @@
 package org.citrusframework.yaks.openapi;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import io.apicurio.datamodels.openapi.models.OasSchema;
-import org.citrusframework.yaks.openapi.model.OasModelHelper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -43,41 +41,20 @@ public class OpenApiTestDataGenerator {
      * @return
      */
     public static String createOutboundPayload(OasSchema schema, Map<String, OasSchema> definitions) {
-        if (OasModelHelper.isReferenceType(schema)) {
-            OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
-            return createOutboundPayload(resolved, definitions);
-        }
-
-        StringBuilder payload = new StringBuilder();
-        if (OasModelHelper.isObjectType(schema)) {
-            payload.append("{");
-
-            if (schema.properties != null) {
-                for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.generateOptionalFields || isRequired(schema, entry.getKey())) {
-                        payload.append("\"")
-                                .append(entry.getKey())
-                                .append("\": ")
-                                .append(createRandomValueExpression(entry.getValue(), definitions, true))
-                                .append(",");
-                    }
-                }
-            }
-
-            if (payload.toString().endsWith(",")) {
-                payload.replace(payload.length() - 1, payload.length(), "");
-            }
-
-            payload.append("}");
-        } else if (OasModelHelper.isArrayType(schema)) {
-            payload.append("[");
-            payload.append(createRandomValueExpression((OasSchema) schema.items, definitions, true));
-            payload.append("]");
-        } else {
-            payload.append(createRandomValueExpression(schema, definitions, true));
-        }
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.OUTBOUND_PAYLOAD, schema, definitions, true,
+                OpenApiSettings.isGenerateOptionalFields());
+    }
 
-        return payload.toString();
+    /**
+     * Creates payload from schema for outbound message using the optional fields setting of the current scenario.
+     * @param schema
+     * @param definitions
+     * @param context
+     * @return
+     */
+    public static String createOutboundPayload(OasSchema schema, Map<String, OasSchema> definitions, TestContext context) {
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.OUTBOUND_PAYLOAD, schema, definitions, true,
+                OpenApiScenarioState.of(context).isGenerateOptionalFields());
     }
 
     /**
@@ -92,7 +69,8 @@ public class OpenApiTestDataGenerator {
             return CitrusSettings.VARIABLE_PREFIX + name + CitrusSettings.VARIABLE_SUFFIX;
         }
 
-        return createRandomValueExpression(schema, definitions, quotes);
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.RANDOM_VALUE, schema, definitions, quotes,
+                OpenApiScenarioState.of(context).isGenerateOptionalFields());
     }
 
     /**
@@ -103,45 +81,8 @@ public class OpenApiTestDataGenerator {
      * @return
      */
     public static String createRandomValueExpression(OasSchema schema, Map<String, OasSchema> definitions, boolean quotes) {
-        if (OasModelHelper.isReferenceType(schema)) {
-            OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
-            return createRandomValueExpression(resolved, definitions, quotes);
-        }
-
-        StringBuilder payload = new StringBuilder();
-        if (OasModelHelper.isObjectType(schema) || OasModelHelper.isArrayType(schema)) {
-            payload.append(createOutboundPayload(schema, definitions));
-        } else if ("string".equals(schema.type)) {
-            if (quotes) {
-                payload.append("\"");
-            }
-
-            if (schema.format != null && schema.format.equals("date")) {
-                payload.append("citrus:currentDate()");
-            } else if (schema.format != null && schema.format.equals("date-time")) {
-                payload.append("citrus:currentDate('yyyy-MM-dd'T'hh:mm:ss')");
-            } else if (StringUtils.hasText(schema.pattern)) {
-                payload.append("citrus:randomValue(").append(schema.pattern).append(")");
-            } else if (!CollectionUtils.isEmpty(schema.enum_)) {
-                payload.append("citrus:randomEnumValue(").append(schema.enum_.stream().map(value -> "'" + value + "'").collect(Collectors.joining(","))).append(")");
-            } else if (schema.format != null && schema.format.equals("uuid")) {
-                payload.append("citrus:randomUUID()");
-            } else {
-                payload.append("citrus:randomString(").append(schema.maxLength != null && schema.maxLength.intValue() > 0 ? schema.maxLength : (schema.minLength != null && schema.minLength.intValue() > 0 ? schema.minLength : 10)).append(")");
-            }
-
-            if (quotes) {
-                payload.append("\"");
-            }
-        } else if ("integer".equals(schema.type) || "number".equals(schema.type)) {
-            payload.append("citrus:randomNumber(8)");
-        } else if ("boolean".equals(schema.type)) {
-            payload.append("citrus:randomEnumValue('true', 'false')");
-        } else if (quotes) {
-            payload.append("\"\"");
-        }
-
-        return payload.toString();
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.RANDOM_VALUE, schema, definitions, quotes,
+                OpenApiSettings.isGenerateOptionalFields());
     }
 
     /**
@@ -151,55 +92,20 @@ public class OpenApiTestDataGenerator {
      * @return
      */
     public static String createInboundPayload(OasSchema schema, Map<String, OasSchema> definitions) {
-        if (OasModelHelper.isReferenceType(schema)) {
-            OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
-            return createInboundPayload(resolved, definitions);
-        }
-
-        StringBuilder payload = new StringBuilder();
-        if (OasModelHelper.isObjectType(schema)) {
-            payload.append("{");
-
-            if (schema.properties != null) {
-                for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.validateOptionalFields || isRequired(schema, entry.getKey())) {
-                        payload.append("\"")
-                                .append(entry.getKey())
-                                .append("\": ")
-                                .append(createValidationExpression(entry.getValue(), definitions, true))
-                                .append(",");
-                    }
-                }
-            }
-
-            if (payload.toString().endsWith(",")) {
-                payload.replace(payload.length() - 1, payload.length(), "");
-            }
-
-            payload.append("}");
-        } else if (OasModelHelper.isArrayType(schema)) {
-            payload.append("[");
-            payload.append(createValidationExpression((OasSchema) schema.items, definitions, true));
-            payload.append("]");
-        } else {
-            payload.append(createValidationExpression(schema, definitions, false));
-        }
-
-        return payload.toString();
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.INBOUND_PAYLOAD, schema, definitions, false,
+                OpenApiSettings.isValidateOptionalFields());
     }
 
     /**
-     * Checks if given field name is in list of required fields for this schema.
+     * Creates control payload from schema for validation using the optional fields setting of the current scenario.
      * @param schema
-     * @param field
+     * @param definitions
+     * @param context
      * @return
      */
-    private static boolean isRequired(OasSchema schema, String field) {
-        if (schema.required == null) {
-            return true;
-        }
-
-        return schema.required.contains(field);
+    public static String createInboundPayload(OasSchema schema, Map<String, OasSchema> definitions, TestContext context) {
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.INBOUND_PAYLOAD, schema, definitions, false,
+                OpenApiScenarioState.of(context).isValidateOptionalFields());
     }
 
     /**
@@ -216,7 +122,7 @@ public class OpenApiTestDataGenerator {
             return CitrusSettings.VARIABLE_PREFIX + name + CitrusSettings.VARIABLE_SUFFIX;
         }
 
-        return createValidationExpression(schema, definitions, quotes);
+        return createValidationExpression(schema, definitions, quotes, context);
     }
 
     /**
@@ -227,74 +133,22 @@ public class OpenApiTestDataGenerator {
      * @return
      */
     public static String createValidationExpression(OasSchema schema, Map<String, OasSchema> definitions, boolean quotes) {
-        if (OasModelHelper.isReferenceType(schema)) {
-            OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
-            return createValidationExpression(resolved, definitions, quotes);
-        }
-
-        StringBuilder payload = new StringBuilder();
-        if (OasModelHelper.isObjectType(schema)) {
-            payload.append("{");
-
-            if (schema.properties != null) {
-                for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.validateOptionalFields || isRequired(schema, entry.getKey())) {
-                        payload.append("\"")
-                                .append(entry.getKey())
-                                .append("\": ")
-                                .append(createValidationExpression(entry.getValue(), definitions, quotes))
-                                .append(",");
-                    }
-                }
-            }
-
-            if (payload.toString().endsWith(",")) {
-                payload.replace(payload.length() - 1, payload.length(), "");
-            }
-
-            payload.append("}");
-        } else {
-            if (quotes) {
-                payload.append("\"");
-            }
-
-            payload.append(createValidationExpression(schema));
-
-            if (quotes) {
-                payload.append("\"");
-            }
-        }
-
-        return payload.toString();
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.VALIDATION_EXPRESSION, schema, definitions, quotes,
+                OpenApiSettings.isValidateOptionalFields());
     }
 
     /**
-     * Create validation expression using functions according to schema type and format.
+     * Create validation expression using functions according to schema type and format. Uses the optional fields setting
+     * of the current scenario.
      * @param schema
+     * @param definitions
+     * @param quotes
+     * @param context
      * @return
      */
-    private static String createValidationExpression(OasSchema schema) {
-        switch (schema.type) {
-            case "string":
-                if (schema.format != null && schema.format.equals("date")) {
-                    return "@matchesDatePattern('yyyy-MM-dd')@";
-                } else if (schema.format != null && schema.format.equals("date-time")) {
-                    return "@matchesDatePattern('yyyy-MM-dd'T'hh:mm:ss')@";
-                } else if (StringUtils.hasText(schema.pattern)) {
-                    return String.format("@matches(%s)@", schema.pattern);
-                } else if (!CollectionUtils.isEmpty(schema.enum_)) {
-                    return String.format("@matches(%s)@", String.join("|", schema.enum_));
-                } else {
-                    return "@notEmpty()@";
-                }
-            case "number":
-            case "integer":
-                return "@isNumber()@";
-            case "boolean":
-                return "@matches(true|false)@";
-            default:
-                return "@ignore@";
-        }
+    public static String createValidationExpression(OasSchema schema, Map<String, OasSchema> definitions, boolean quotes, TestContext context) {
+        return PayloadTemplateCompiler.getOrCompile(PayloadTemplateCompiler.Kind.VALIDATION_EXPRESSION, schema, definitions, quotes,
+                OpenApiScenarioState.of(context).isValidateOptionalFields());
     }
 
     /**
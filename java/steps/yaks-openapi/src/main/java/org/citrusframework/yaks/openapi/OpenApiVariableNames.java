@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+/**
+ * @author Christoph Deppisch
+ */
+public enum OpenApiVariableNames {
+
+    GENERATOR_SEED("OPENAPI_GENERATOR_SEED"),
+    GENERATED_REQUESTS("OPENAPI_GENERATED_REQUESTS"),
+    GENERATED_VALID("OPENAPI_GENERATED_VALID"),
+    GENERATED_INVALID("OPENAPI_GENERATED_INVALID"),
+    GENERATED_FAILURES("OPENAPI_GENERATED_FAILURES"),
+    GENERATED_THROUGHPUT("OPENAPI_GENERATED_THROUGHPUT");
+
+    private final String variableName;
+
+    OpenApiVariableNames(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public String value() {
+        return variableName;
+    }
+
+    @Override
+    public String toString() {
+        return variableName;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compiles Open API schemas to payload templates. A template is the Json payload with Citrus functions as random values
+ * (outbound) or with validation matchers (inbound). The functions are resolved by Citrus each time the template is sent,
+ * so a template only depends on the schema, the schema definitions and the optional fields flag and can be reused for
+ * all messages.
+ *
+ * Compiled templates are kept in a bounded least recently used cache. Schemas are compared by identity, which is safe
+ * because loaded specifications are cached and never modified.
+ *
+ * Recursive schema references are detected while compiling. A reference that is already being expanded is not expanded
+ * again, the template uses <code>null</code> (outbound) or <code>@ignore@</code> (inbound) instead.
+ *
+ * @author Christoph Deppisch
+ */
+final class PayloadTemplateCompiler {
+
+    /** Template kinds matching the public methods of {@link OpenApiTestDataGenerator} */
+    enum Kind {
+        OUTBOUND_PAYLOAD,
+        RANDOM_VALUE,
+        INBOUND_PAYLOAD,
+        VALIDATION_EXPRESSION
+    }
+
+    private static final String CYCLE_RANDOM_VALUE = "null";
+    private static final String CYCLE_VALIDATION_EXPRESSION = "@ignore@";
+
+    private static final Map<TemplateKey, String> TEMPLATES = new LinkedHashMap<>(16, 0.75f, true);
+
+    private PayloadTemplateCompiler() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets the cached template for given schema or compiles a new one.
+     * @param kind
+     * @param schema
+     * @param definitions
+     * @param quotes
+     * @param optionalFields
+     * @return
+     */
+    static String getOrCompile(Kind kind, OasSchema schema, Map<String, OasSchema> definitions, boolean quotes, boolean optionalFields) {
+        int cacheSize = OpenApiSettings.getPayloadTemplateCacheSize();
+        if (cacheSize <= 0) {
+            return new Compilation(definitions, optionalFields).compile(kind, schema, quotes);
+        }
+
+        TemplateKey key = new TemplateKey(kind, schema, definitions, quotes, optionalFields);
+        synchronized (TEMPLATES) {
+            String template = TEMPLATES.get(key);
+            if (template != null) {
+                return template;
+            }
+        }
+
+        // compile outside of the lock, concurrent compilations of the same schema produce the same template
+        String template = new Compilation(definitions, optionalFields).compile(kind, schema, quotes);
+
+        synchronized (TEMPLATES) {
+            TEMPLATES.put(key, template);
+            while (TEMPLATES.size() > cacheSize) {
+                TEMPLATES.remove(TEMPLATES.keySet().iterator().next());
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    static void clear() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+        }
+    }
+
+    /**
+     * Single compilation run keeping track of the schema references currently being expanded.
+     */
+    private static final class Compilation {
+        private final Map<String, OasSchema> definitions;
+        private final boolean optionalFields;
+        private final Deque<String> references = new ArrayDeque<>();
+
+        Compilation(Map<String, OasSchema> definitions, boolean optionalFields) {
+            this.definitions = definitions;
+            this.optionalFields = optionalFields;
+        }
+
+        String compile(Kind kind, OasSchema schema, boolean quotes) {
+            StringBuilder template = new StringBuilder();
+            switch (kind) {
+                case OUTBOUND_PAYLOAD:
+                    appendOutboundPayload(template, schema);
+                    break;
+                case RANDOM_VALUE:
+                    appendRandomValue(template, schema, quotes);
+                    break;
+                case INBOUND_PAYLOAD:
+                    appendInboundPayload(template, schema);
+                    break;
+                default:
+                    appendValidationExpression(template, schema, quotes);
+                    break;
+            }
+            return template.toString();
+        }
+
+        private void appendOutboundPayload(StringBuilder template, OasSchema schema) {
+            if (OasModelHelper.isReferenceType(schema)) {
+                appendReference(template, schema, CYCLE_RANDOM_VALUE, resolved -> appendOutboundPayload(template, resolved));
+                return;
+            }
+
+            if (OasModelHelper.isObjectType(schema)) {
+                appendObject(template, schema, property -> appendRandomValue(template, property, true));
+            } else if (OasModelHelper.isArrayType(schema)) {
+                template.append("[");
+                appendRandomValue(template, (OasSchema) schema.items, true);
+                template.append("]");
+            } else {
+                appendRandomValue(template, schema, true);
+            }
+        }
+
+        private void appendRandomValue(StringBuilder template, OasSchema schema, boolean quotes) {
+            if (OasModelHelper.isReferenceType(schema)) {
+                appendReference(template, schema, CYCLE_RANDOM_VALUE, resolved -> appendRandomValue(template, resolved, quotes));
+                return;
+            }
+
+            if (OasModelHelper.isObjectType(schema) || OasModelHelper.isArrayType(schema)) {
+                appendOutboundPayload(template, schema);
+            } else if ("string".equals(schema.type)) {
+                if (quotes) {
+                    template.append("\"");
+                }
+
+                if (schema.format != null && schema.format.equals("date")) {
+                    template.append("citrus:currentDate()");
+                } else if (schema.format != null && schema.format.equals("date-time")) {
+                    template.append("citrus:currentDate('yyyy-MM-dd'T'hh:mm:ss')");
+                } else if (StringUtils.hasText(schema.pattern)) {
+                    template.append("citrus:randomValue(").append(schema.pattern).append(")");
+                } else if (!CollectionUtils.isEmpty(schema.enum_)) {
+                    template.append("citrus:randomEnumValue(").append(schema.enum_.stream().map(value -> "'" + value + "'").collect(Collectors.joining(","))).append(")");
+                } else if (schema.format != null && schema.format.equals("uuid")) {
+                    template.append("citrus:randomUUID()");
+                } else {
+                    template.append("citrus:randomString(").append(schema.maxLength != null && schema.maxLength.intValue() > 0 ? schema.maxLength : (schema.minLength != null && schema.minLength.intValue() > 0 ? schema.minLength : 10)).append(")");
+                }
+
+                if (quotes) {
+                    template.append("\"");
+                }
+            } else if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+                template.append("citrus:randomNumber(8)");
+            } else if ("boolean".equals(schema.type)) {
+                template.append("citrus:randomEnumValue('true', 'false')");
+            } else if (quotes) {
+                template.append("\"\"");
+            }
+        }
+
+        private void appendInboundPayload(StringBuilder template, OasSchema schema) {
+            if (OasModelHelper.isReferenceType(schema)) {
+                appendReference(template, schema, CYCLE_VALIDATION_EXPRESSION, resolved -> appendInboundPayload(template, resolved));
+                return;
+            }
+
+            if (OasModelHelper.isObjectType(schema)) {
+                appendObject(template, schema, property -> appendValidationExpression(template, property, true));
+            } else if (OasModelHelper.isArrayType(schema)) {
+                template.append("[");
+                appendValidationExpression(template, (OasSchema) schema.items, true);
+                template.append("]");
+            } else {
+                appendValidationExpression(template, schema, false);
+            }
+        }
+
+        private void appendValidationExpression(StringBuilder template, OasSchema schema, boolean quotes) {
+            if (OasModelHelper.isReferenceType(schema)) {
+                appendReference(template, schema, quotes ? "\"" + CYCLE_VALIDATION_EXPRESSION + "\"" : CYCLE_VALIDATION_EXPRESSION,
+                        resolved -> appendValidationExpression(template, resolved, quotes));
+                return;
+            }
+
+            if (OasModelHelper.isObjectType(schema)) {
+                appendObject(template, schema, property -> appendValidationExpression(template, property, quotes));
+            } else {
+                if (quotes) {
+                    template.append("\"");
+                }
+
+                template.append(getValidationMatcher(schema));
+
+                if (quotes) {
+                    template.append("\"");
+                }
+            }
+        }
+
+        /**
+         * Appends object with all properties that should be part of the template according to the optional fields flag.
+         * @param template
+         * @param schema
+         * @param propertyAppender
+         */
+        private void appendObject(StringBuilder template, OasSchema schema, Consumer<OasSchema> propertyAppender) {
+            template.append("{");
+
+            if (schema.properties != null) {
+                boolean first = true;
+                for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
+                    if (optionalFields || isRequired(schema, entry.getKey())) {
+                        if (!first) {
+                            template.append(",");
+                        }
+                        first = false;
+
+                        template.append("\"")
+                                .append(entry.getKey())
+                                .append("\": ");
+                        propertyAppender.accept(entry.getValue());
+                    }
+                }
+            }
+
+            template.append("}");
+        }
+
+        /**
+         * Resolves schema reference and expands the referenced schema unless the reference is already being expanded.
+         * @param template
+         * @param schema
+         * @param cyclePlaceholder
+         * @param expansion
+         */
+        private void appendReference(StringBuilder template, OasSchema schema, String cyclePlaceholder, Consumer<OasSchema> expansion) {
+            String name = OasModelHelper.getReferenceName(schema.$ref);
+            if (references.contains(name)) {
+                template.append(cyclePlaceholder);
+                return;
+            }
+
+            OasSchema resolved = definitions.get(name);
+            if (resolved == null) {
+                throw new CitrusRuntimeException(String.format("Unable to resolve schema reference '%s'", schema.$ref));
+            }
+
+            references.push(name);
+            try {
+                expansion.accept(resolved);
+            } finally {
+                references.pop();
+            }
+        }
+    }
+
+    /**
+     * Checks if given field name is in list of required fields for this schema.
+     * @param schema
+     * @param field
+     * @return
+     */
+    private static boolean isRequired(OasSchema schema, String field) {
+        if (schema.required == null) {
+            return true;
+        }
+
+        return schema.required.contains(field);
+    }
+
+    /**
+     * Create validation expression using functions according to schema type and format.
+     * @param schema
+     * @return
+     */
+    private static String getValidationMatcher(OasSchema schema) {
+        switch (schema.type) {
+            case "string":
+                if (schema.format != null && schema.format.equals("date")) {
+                    return "@matchesDatePattern('yyyy-MM-dd')@";
+                } else if (schema.format != null && schema.format.equals("date-time")) {
+                    return "@matchesDatePattern('yyyy-MM-dd'T'hh:mm:ss')@";
+                } else if (StringUtils.hasText(schema.pattern)) {
+                    return String.format("@matches(%s)@", schema.pattern);
+                } else if (!CollectionUtils.isEmpty(schema.enum_)) {
+                    return String.format("@matches(%s)@", String.join("|", schema.enum_));
+                } else {
+                    return "@notEmpty()@";
+                }
+            case "number":
+            case "integer":
+                return "@isNumber()@";
+            case "boolean":
+                return "@matches(true|false)@";
+            default:
+                return "@ignore@";
+        }
+    }
+
+    /**
+     * Cache key comparing schema and definitions by identity.
+     */
+    private static final class TemplateKey {
+        private final Kind kind;
+        private final OasSchema schema;
+        private final Map<String, OasSchema> definitions;
+        private final boolean quotes;
+        private final boolean optionalFields;
+
+        TemplateKey(Kind kind, OasSchema schema, Map<String, OasSchema> definitions, boolean quotes, boolean optionalFields) {
+            this.kind = kind;
+            this.schema = schema;
+            this.definitions = definitions;
+            this.quotes = quotes;
+            this.optionalFields = optionalFields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return kind == that.kind &&
+                    schema == that.schema &&
+                    definitions == that.definitions &&
+                    quotes == that.quotes &&
+                    optionalFields == that.optionalFields;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, System.identityHashCode(schema), System.identityHashCode(definitions), quotes, optionalFields);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.actions;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.http.client.HttpClient;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.OpenApiVariableNames;
+import org.citrusframework.yaks.openapi.generator.GeneratedRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import static org.citrusframework.yaks.util.StatisticsUtils.format;
+import static org.citrusframework.yaks.util.StatisticsUtils.throughput;
+
+/**
+ * Sends requests created by the Open API request generator either sequentially or with given concurrency and verifies
+ * the response status of each request. Valid requests must get a response status declared in the operation responses
+ * that is not a server error. Invalid requests must get rejected with a client error (4xx) response status.
+ *
+ * Failed requests are reported with the generator seed and the request index so the request can be reproduced.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiGeneratedRequestsAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiGeneratedRequestsAction.class);
+
+    /** Maximum number of failed requests listed in the validation error */
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final HttpClient httpClient;
+    private final OpenApiSpecification.OperationEntry operation;
+    private final String url;
+    private final List<GeneratedRequest> requests;
+    private final long seed;
+    private final int concurrency;
+
+    public OpenApiGeneratedRequestsAction(Builder builder) {
+        super("openapi-generated-requests", builder);
+
+        this.httpClient = builder.httpClient;
+        this.operation = builder.operation;
+        this.url = builder.url;
+        this.requests = builder.requests;
+        this.seed = builder.seed;
+        this.concurrency = builder.concurrency;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String baseUrl = context.replaceDynamicContentInString(url);
+        RestTemplate restTemplate = httpClient.getEndpointConfiguration().getRestTemplate();
+
+        AtomicInteger next = new AtomicInteger();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, concurrency); i++) {
+                workers.add(executor.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests.size()) {
+                        GeneratedRequest request = requests.get(index);
+                        String failure = send(restTemplate, baseUrl, request);
+                        if (failure != null) {
+                            failures.add(String.format("%s: %s", request, failure));
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to send generated Open API requests", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while sending generated Open API requests", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        context.setVariable(OpenApiVariableNames.GENERATED_FAILURES.value(), String.valueOf(failures.size()));
+        context.setVariable(OpenApiVariableNames.GENERATED_THROUGHPUT.value(), format(throughput(requests.size(), elapsed)));
+
+        LOG.info(String.format("Sent %d generated Open API requests for operation '%s' in %d ms - failures: %d",
+                requests.size(), operation.getOperation().operationId, TimeUnit.NANOSECONDS.toMillis(elapsed), failures.size()));
+
+        if (!failures.isEmpty()) {
+            throw new ValidationException(String.format("%d of %d generated requests for operation '%s' failed (seed %d):%n%s%s",
+                    failures.size(), requests.size(), operation.getOperation().operationId, seed,
+                    failures.stream().limit(MAX_REPORTED_FAILURES).collect(Collectors.joining(System.lineSeparator())),
+                    failures.size() > MAX_REPORTED_FAILURES ? System.lineSeparator() + "..." : ""));
+        }
+    }
+
+    /**
+     * Sends given request and verifies the response status.
+     * @param restTemplate
+     * @param baseUrl
+     * @param request
+     * @return failure description or null if the response status is as expected
+     */
+    private String send(RestTemplate restTemplate, String baseUrl, GeneratedRequest request) {
+        int status;
+        try {
+            ResponseEntity<byte[]> response = restTemplate.exchange(getRequestUri(baseUrl, request),
+                    HttpMethod.valueOf(request.getMethod().toUpperCase(Locale.US)), getRequestEntity(request), byte[].class);
+            status = response.getStatusCodeValue();
+        } catch (HttpStatusCodeException e) {
+            status = e.getRawStatusCode();
+        } catch (RestClientException e) {
+            LOG.debug(String.format("Generated Open API request %s failed", request), e);
+            return e.getMessage();
+        }
+
+        if (request.isValid()) {
+            if (status >= 500 || !operation.isDeclaredResponse(status)) {
+                return String.format("expected declared response status but was %d", status);
+            }
+        } else if (status < 400 || status >= 500) {
+            return String.format("expected client error response status but was %d", status);
+        }
+
+        return null;
+    }
+
+    private static URI getRequestUri(String baseUrl, GeneratedRequest request) {
+        // path is already encoded by the generator
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(
+                (baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl) + request.getPath());
+        request.getQueryParams().forEach((name, value) ->
+                uriBuilder.queryParam(UriUtils.encodeQueryParam(name, StandardCharsets.UTF_8), UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8)));
+        return uriBuilder.build(true).toUri();
+    }
+
+    private static HttpEntity<byte[]> getRequestEntity(GeneratedRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        request.getHeaders().forEach(headers::add);
+        if (request.getContentType() != null) {
+            headers.add(HttpHeaders.CONTENT_TYPE, request.getContentType());
+        }
+
+        return new HttpEntity<>(request.getBody(), headers);
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<OpenApiGeneratedRequestsAction, Builder> {
+
+        private HttpClient httpClient;
+        private OpenApiSpecification.OperationEntry operation;
+        private String url;
+        private List<GeneratedRequest> requests;
+        private long seed;
+        private int concurrency = 1;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @return
+         */
+        public static Builder generatedRequests() {
+            return new Builder();
+        }
+
+        public Builder client(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder operation(OpenApiSpecification.OperationEntry operation) {
+            this.operation = operation;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder requests(List<GeneratedRequest> requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        @Override
+        public OpenApiGeneratedRequestsAction build() {
+            if (httpClient == null) {
+                throw new CitrusRuntimeException("Missing Http client for sending generated Open API requests");
+            }
+
+            if (operation == null || requests == null) {
+                throw new CitrusRuntimeException("Missing generated Open API requests - please generate requests for an operation first");
+            }
+
+            return new OpenApiGeneratedRequestsAction(this);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.actions;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.http.client.HttpClient;
+import io.apicurio.datamodels.openapi.models.OasOperation;
+import io.apicurio.datamodels.openapi.models.OasParameter;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.http.actions.HttpLoadRunner;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.OpenApiTestDataGenerator;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Sends a weighted mix of Open API operations with a given concurrency in order to use the specification as a load profile.
+ * Each operation gets picked randomly according to its weight. Request path, query parameters, headers and body are
+ * generated from the operation specification with random test data for each request.
+ *
+ * A request counts as error when it fails or when the response status is not declared in the operation responses.
+ * Throughput, error rate and latency percentiles are saved as test variables for the whole load and for each operation.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiLoadAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiLoadAction.class);
+
+    /** Prefix of load result variables */
+    public static final String VARIABLE_PREFIX = "OPENAPI";
+
+    private final HttpClient httpClient;
+    private final OpenApiSpecification specification;
+    private final String url;
+    private final Map<String, Integer> operations;
+    private final int requests;
+    private final long duration;
+    private final int rate;
+    private final int concurrency;
+
+    public OpenApiLoadAction(Builder builder) {
+        super("openapi-load", builder);
+
+        this.httpClient = builder.httpClient;
+        this.specification = builder.specification;
+        this.url = builder.url;
+        this.operations = builder.operations;
+        this.requests = builder.requests;
+        this.duration = builder.duration;
+        this.rate = builder.rate;
+        this.concurrency = builder.concurrency;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        HttpLoadRunner loadRunner = new HttpLoadRunner("Open API", VARIABLE_PREFIX, requests, duration, rate, concurrency);
+
+        List<OperationRequest> operationRequests = new ArrayList<>();
+        List<Integer> cumulativeWeights = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> operation : operations.entrySet()) {
+            if (operation.getValue() < 0) {
+                throw new CitrusRuntimeException(String.format("Invalid weight %d for operation '%s' in Open API load mix",
+                        operation.getValue(), operation.getKey()));
+            } else if (operation.getValue() == 0) {
+                continue;
+            }
+
+            OpenApiSpecification.OperationEntry entry = specification.getOperation(operation.getKey())
+                    .orElseThrow(() -> new CitrusRuntimeException(String.format("Unable to find operation '%s' in Open API specification", operation.getKey())));
+            operationRequests.add(new OperationRequest(entry, specification, context));
+            totalWeight += operation.getValue();
+            cumulativeWeights.add(totalWeight);
+        }
+
+        if (totalWeight <= 0) {
+            throw new CitrusRuntimeException("Open API load operation mix must have a positive total weight");
+        }
+
+        int[] weights = cumulativeWeights.stream().mapToInt(Integer::intValue).toArray();
+        String baseUrl = context.replaceDynamicContentInString(url);
+        RestTemplate restTemplate = httpClient.getEndpointConfiguration().getRestTemplate();
+        int mixWeight = totalWeight;
+
+        HttpLoadRunner.Results results = loadRunner.run(operationRequests.size(), () -> {
+            int index = select(weights, ThreadLocalRandom.current().nextInt(mixWeight));
+            OperationRequest operationRequest = operationRequests.get(index);
+
+            // test context functions and variables are not meant to be resolved concurrently
+            URI requestUri;
+            HttpEntity<String> requestEntity;
+            synchronized (context) {
+                requestUri = operationRequest.getRequestUri(baseUrl, context);
+                requestEntity = operationRequest.getRequestEntity(context);
+            }
+
+            return new HttpLoadRunner.Request(index, () -> {
+                try {
+                    ResponseEntity<String> response = restTemplate.exchange(requestUri, operationRequest.method, requestEntity, String.class);
+                    return !operationRequest.entry.isDeclaredResponse(response.getStatusCodeValue());
+                } catch (HttpStatusCodeException e) {
+                    return !operationRequest.entry.isDeclaredResponse(e.getRawStatusCode());
+                } catch (RestClientException e) {
+                    LOG.debug(String.format("Open API load request for operation '%s' failed", operationRequest.operationId), e);
+                    return true;
+                }
+            });
+        });
+
+        loadRunner.report(context, results, operationRequests.stream()
+                .map(operationRequest -> operationRequest.operationId)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Selects the operation index for given random value in the range of the total weight.
+     * @param weights cumulative operation weights
+     * @param value
+     * @return
+     */
+    private static int select(int[] weights, int value) {
+        int index = Arrays.binarySearch(weights, value + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Request template for an operation. Holds random value expressions generated from the operation specification
+     * that get resolved for each request.
+     */
+    private static final class OperationRequest {
+        private final OpenApiSpecification.OperationEntry entry;
+        private final String operationId;
+        private final HttpMethod method;
+        private final String path;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final Map<String, String> queryParams = new LinkedHashMap<>();
+        private final String body;
+        private final OasOperation operation;
+
+        OperationRequest(OpenApiSpecification.OperationEntry entry, OpenApiSpecification specification, TestContext context) {
+            Map<String, OasSchema> definitions = specification.getSchemaDefinitions();
+            this.entry = entry;
+            this.operationId = entry.getOperation().operationId;
+            this.method = HttpMethod.valueOf(entry.getMethod().toUpperCase(Locale.US));
+            this.operation = entry.getOperation();
+
+            String pathTemplate = entry.getPath();
+            if (operation.parameters != null) {
+                for (OasParameter param : operation.parameters) {
+                    boolean present = (param.required != null && param.required) || context.getVariables().containsKey(param.getName());
+                    if ("path".equals(param.in)) {
+                        pathTemplate = pathTemplate.replace("{" + param.getName() + "}",
+                                OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema, definitions, false, context));
+                    } else if ("header".equals(param.in) && present) {
+                        headers.put(param.getName(),
+                                OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema, definitions, false, context));
+                    } else if ("query".equals(param.in) && present) {
+                        queryParams.put(param.getName(),
+                                OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema, definitions, false, context));
+                    }
+                }
+            }
+            this.path = pathTemplate;
+
+            this.body = OasModelHelper.getRequestBodySchema(specification.getDocument(), operation)
+                    .map(schema -> OpenApiTestDataGenerator.createOutboundPayload(schema, definitions, context))
+                    .orElse(null);
+            OasModelHelper.getRequestContentType(operation)
+                    .ifPresent(contentType -> headers.put(HttpHeaders.CONTENT_TYPE, contentType));
+        }
+
+        URI getRequestUri(String baseUrl, TestContext context) {
+            String resolvedPath = context.replaceDynamicContentInString(path);
+            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(
+                    (baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl) + resolvedPath);
+            queryParams.forEach((name, value) -> uriBuilder.queryParam(name, context.replaceDynamicContentInString(value)));
+            return uriBuilder.build().encode().toUri();
+        }
+
+        HttpEntity<String> getRequestEntity(TestContext context) {
+            HttpHeaders httpHeaders = new HttpHeaders();
+            headers.forEach((name, value) -> httpHeaders.add(name, context.replaceDynamicContentInString(value)));
+
+            return new HttpEntity<>(body != null ? context.replaceDynamicContentInString(body) : null, httpHeaders);
+        }
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<OpenApiLoadAction, Builder> {
+
+        private HttpClient httpClient;
+        private OpenApiSpecification specification;
+        private String url;
+        private final Map<String, Integer> operations = new LinkedHashMap<>();
+        private int requests;
+        private long duration;
+        private int rate;
+        private int concurrency = 1;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @return
+         */
+        public static Builder load() {
+            return new Builder();
+        }
+
+        public Builder client(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder specification(OpenApiSpecification specification) {
+            this.specification = specification;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder operation(String operationId, int weight) {
+            this.operations.put(operationId, weight);
+            return this;
+        }
+
+        public Builder operations(Map<String, Integer> operations) {
+            this.operations.putAll(operations);
+            return this;
+        }
+
+        public Builder requests(int requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        public Builder duration(long duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder rate(int rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        @Override
+        public OpenApiLoadAction build() {
+            if (httpClient == null) {
+                throw new CitrusRuntimeException("Missing Http client for Open API load action");
+            }
+
+            if (specification == null) {
+                throw new CitrusRuntimeException("Missing Open API specification for load action");
+            }
+
+            if (operations.isEmpty()) {
+                throw new CitrusRuntimeException("Missing operations for Open API load action");
+            }
+
+            return new OpenApiLoadAction(this);
+        }
+    }
+}
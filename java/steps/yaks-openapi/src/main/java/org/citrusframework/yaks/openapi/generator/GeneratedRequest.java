@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.util.Map;
+
+/**
+ * Request generated from an Open API operation. Holds the fully resolved path, parameters and the body as bytes so the
+ * request can be sent as is. Invalid requests carry the schema violation they have been generated for.
+ *
+ * @author Christoph Deppisch
+ */
+public final class GeneratedRequest {
+
+    private final int index;
+    private final String method;
+    private final String path;
+    private final Map<String, String> queryParams;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final String contentType;
+    private final Violation violation;
+
+    GeneratedRequest(int index, String method, String path, Map<String, String> queryParams, Map<String, String> headers,
+                     byte[] body, String contentType, Violation violation) {
+        this.index = index;
+        this.method = method;
+        this.path = path;
+        this.queryParams = queryParams;
+        this.headers = headers;
+        this.body = body;
+        this.contentType = contentType;
+        this.violation = violation;
+    }
+
+    /**
+     * Case index that reproduces this request together with the generator seed.
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public boolean isValid() {
+        return violation == null;
+    }
+
+    public Violation getViolation() {
+        return violation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s %s%s", index, method.toUpperCase(), path, violation != null ? " (" + violation + ")" : "");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.util.Map;
+
+/**
+ * Response generated from an Open API operation with status, headers and the body as bytes.
+ *
+ * @author Christoph Deppisch
+ */
+public final class GeneratedResponse {
+
+    private final int status;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final String contentType;
+
+    GeneratedResponse(int status, Map<String, String> headers, byte[] body, String contentType) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.contentType = contentType;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
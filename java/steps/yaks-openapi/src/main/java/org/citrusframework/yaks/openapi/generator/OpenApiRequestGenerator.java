@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.apicurio.datamodels.openapi.models.OasParameter;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Generates requests for an Open API operation with random values according to the operation parameter and request body
+ * schemas. Invalid requests break exactly one schema rule (e.g. max length, enum, pattern, format, minimum/maximum, required
+ * property) so the service is expected to reject them.
+ *
+ * Each request is generated from its own random generator derived from the seed and the request index. The same seed always
+ * produces the same requests and a single failing request is reproduced from the seed and its index without generating
+ * all previous requests. Request bodies are written as Json bytes directly without going through test context functions.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiRequestGenerator {
+
+    /** Mixing constant spreading request indices over the seed space */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/json";
+    private static final String BODY_LOCATION = "$";
+
+    /**
+     * Kind of requests to generate.
+     */
+    public enum Mode {
+        VALID,
+        INVALID,
+        MIXED
+    }
+
+    private final OpenApiSpecification.OperationEntry operation;
+    private final Map<String, String> fixedValues;
+    private final SchemaValueWriter writer;
+
+    private final List<OasParameter> parameters = new ArrayList<>();
+    private final OasSchema bodySchema;
+    private final String contentType;
+    private final List<Violation> violations = new ArrayList<>();
+
+    /**
+     * Constructor using the specification and the operation to generate requests for. Fixed values are used for the
+     * parameters of the same name instead of random values.
+     * @param specification
+     * @param operation
+     * @param fixedValues
+     */
+    public OpenApiRequestGenerator(OpenApiSpecification specification, OpenApiSpecification.OperationEntry operation,
+                                   Map<String, String> fixedValues) {
+        this.operation = operation;
+        this.fixedValues = fixedValues;
+        this.writer = new SchemaValueWriter(specification.getSchemaDefinitions());
+
+        if (operation.getOperation().parameters != null) {
+            for (OasParameter param : operation.getOperation().parameters) {
+                if (!"path".equals(param.in) && !"query".equals(param.in) && !"header".equals(param.in)) {
+                    continue;
+                }
+
+                parameters.add(param);
+                if (param.schema != null && !fixedValues.containsKey(param.getName())) {
+                    writer.collectViolations((OasSchema) param.schema, parameterLocation(param), false, violations);
+                }
+            }
+        }
+
+        this.bodySchema = OasModelHelper.getRequestBodySchema(specification.getDocument(), operation.getOperation()).orElse(null);
+        this.contentType = OasModelHelper.getRequestContentType(operation.getOperation()).orElse(DEFAULT_CONTENT_TYPE);
+        if (bodySchema != null) {
+            writer.collectViolations(bodySchema, BODY_LOCATION, true, violations);
+        }
+    }
+
+    /**
+     * Generates given number of requests. Requests are generated in parallel and returned in index order.
+     * @param seed
+     * @param count
+     * @param mode
+     * @return
+     */
+    public List<GeneratedRequest> generate(long seed, int count, Mode mode) {
+        checkMode(mode);
+        return IntStream.range(0, count)
+                .parallel()
+                .mapToObj(index -> generateRequest(seed, index, mode))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generates the request with given index.
+     * @param seed
+     * @param index
+     * @param mode
+     * @return
+     */
+    public GeneratedRequest generateRequest(long seed, int index, Mode mode) {
+        checkMode(mode);
+        SplittableRandom random = new SplittableRandom(seed ^ (index * GOLDEN_GAMMA));
+
+        Violation violation = null;
+        if (mode == Mode.INVALID) {
+            // walk through all violations so every schema rule gets covered
+            violation = violations.get(index % violations.size());
+        } else if (mode == Mode.MIXED && !violations.isEmpty() && random.nextBoolean()) {
+            violation = violations.get(random.nextInt(violations.size()));
+        }
+
+        String path = operation.getPath();
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (OasParameter param : parameters) {
+            String location = parameterLocation(param);
+            boolean required = (param.required != null && param.required) || "path".equals(param.in);
+            boolean targeted = violation != null && violation.getLocation().equals(location);
+            if (!required && !targeted && !fixedValues.containsKey(param.getName()) && !random.nextBoolean()) {
+                continue;
+            }
+
+            String value = parameterValue(param, location, violation, random);
+            if ("path".equals(param.in)) {
+                path = path.replace("{" + param.getName() + "}", UriUtils.encodePathSegment(value, StandardCharsets.UTF_8));
+            } else if ("query".equals(param.in)) {
+                queryParams.put(param.getName(), value);
+            } else {
+                headers.put(param.getName(), value);
+            }
+        }
+
+        byte[] body = null;
+        if (bodySchema != null) {
+            StringBuilder json = new StringBuilder();
+            writer.writeJson(json, bodySchema, BODY_LOCATION, violation, random);
+            body = json.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        return new GeneratedRequest(index, operation.getMethod(), path, Collections.unmodifiableMap(queryParams),
+                Collections.unmodifiableMap(headers), body, body != null ? contentType : null, violation);
+    }
+
+    /**
+     * Schema rules that invalid requests for this operation can break.
+     * @return
+     */
+    public List<Violation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    private String parameterValue(OasParameter param, String location, Violation violation, SplittableRandom random) {
+        if (fixedValues.containsKey(param.getName())) {
+            return fixedValues.get(param.getName());
+        }
+
+        return writer.value((OasSchema) param.schema, location, violation, random);
+    }
+
+    private void checkMode(Mode mode) {
+        if (mode == Mode.INVALID && violations.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Unable to generate invalid requests for operation '%s' - " +
+                    "no schema rules to break in request parameters or body", operation.getOperation().operationId));
+        }
+    }
+
+    private static String parameterLocation(OasParameter param) {
+        return param.in + ":" + param.getName();
+    }
+}
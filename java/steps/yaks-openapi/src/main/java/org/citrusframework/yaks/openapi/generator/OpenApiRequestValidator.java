@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.apicurio.datamodels.openapi.models.OasParameter;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ * Validates incoming requests against the parameter and Json request body schemas of an Open API operation. Reports all broken
+ * schema rules as violations using the same locations as the request generator, e.g. <code>query:limit</code> or
+ * <code>$.category.name</code>.
+ *
+ * Instances are thread safe and meant to be created once per operation.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiRequestValidator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String BODY_LOCATION = "$";
+
+    private final List<OasParameter> parameters = new ArrayList<>();
+    private final OasSchema bodySchema;
+    private final SchemaValidator validator;
+
+    public OpenApiRequestValidator(OpenApiSpecification specification, OpenApiSpecification.OperationEntry operation) {
+        this.validator = new SchemaValidator(specification.getSchemaDefinitions());
+
+        if (operation.getOperation().parameters != null) {
+            for (OasParameter param : operation.getOperation().parameters) {
+                if ("path".equals(param.in) || "query".equals(param.in) || "header".equals(param.in)) {
+                    parameters.add(param);
+                }
+            }
+        }
+
+        this.bodySchema = OasModelHelper.getRequestBodySchema(specification.getDocument(), operation.getOperation()).orElse(null);
+    }
+
+    /**
+     * Validates given request parts.
+     * @param pathParams decoded path parameter values
+     * @param queryParams decoded query parameter values
+     * @param headers request headers
+     * @param body the request body
+     * @return all violations or an empty list for valid requests
+     */
+    public List<Violation> validate(Map<String, String> pathParams, Map<String, String> queryParams,
+                                    Map<String, String> headers, String body) {
+        List<Violation> violations = new ArrayList<>();
+
+        Map<String, String> headerValues = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headerValues.putAll(headers);
+
+        for (OasParameter param : parameters) {
+            String location = param.in + ":" + param.getName();
+            String value;
+            if ("path".equals(param.in)) {
+                value = pathParams.get(param.getName());
+            } else if ("query".equals(param.in)) {
+                value = queryParams.get(param.getName());
+            } else {
+                value = headerValues.get(param.getName());
+            }
+
+            if (value == null) {
+                if ((param.required != null && param.required) || "path".equals(param.in)) {
+                    violations.add(new Violation(location, Violation.Kind.MISSING_REQUIRED));
+                }
+                continue;
+            }
+
+            validator.validateValue((OasSchema) param.schema, value, location, violations);
+        }
+
+        if (bodySchema != null) {
+            if (!StringUtils.hasText(body)) {
+                violations.add(new Violation(BODY_LOCATION, Violation.Kind.MISSING_REQUIRED));
+            } else if (isJson(headerValues.get(HttpHeaders.CONTENT_TYPE))) {
+                try {
+                    JsonNode json = OBJECT_MAPPER.readTree(body);
+                    validator.validateJson(bodySchema, json, BODY_LOCATION, violations);
+                } catch (IOException e) {
+                    violations.add(new Violation(BODY_LOCATION, Violation.Kind.WRONG_TYPE));
+                }
+            }
+        }
+
+        return violations;
+    }
+
+    /**
+     * Only Json bodies are validated. Requests without content type are treated as Json.
+     * @param contentType
+     * @return
+     */
+    private static boolean isJson(String contentType) {
+        return contentType == null || contentType.toLowerCase(Locale.US).contains("json");
+    }
+}
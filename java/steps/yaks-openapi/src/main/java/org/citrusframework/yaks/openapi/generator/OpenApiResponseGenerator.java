@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import io.apicurio.datamodels.openapi.models.OasResponse;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+
+/**
+ * Generates schema valid responses for an Open API operation. Uses the first success (2xx) response of the operation
+ * or the default response. Response body and required headers get random values according to the response schemas.
+ *
+ * Instances are thread safe and meant to be created once per operation.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiResponseGenerator {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/json";
+    private static final String BODY_LOCATION = "$";
+
+    private final SchemaValueWriter writer;
+
+    private final int status;
+    private final OasSchema bodySchema;
+    private final String contentType;
+    private final Map<String, OasSchema> headers;
+
+    public OpenApiResponseGenerator(OpenApiSpecification specification, OpenApiSpecification.OperationEntry operation) {
+        this.writer = new SchemaValueWriter(specification.getSchemaDefinitions());
+
+        OasResponse response = null;
+        int responseStatus = 200;
+        if (operation.getOperation().responses != null) {
+            for (OasResponse candidate : operation.getOperation().responses.getResponses()) {
+                if (candidate.getStatusCode() != null && candidate.getStatusCode().matches("2\\d\\d")) {
+                    response = candidate;
+                    responseStatus = Integer.parseInt(candidate.getStatusCode());
+                    break;
+                }
+            }
+
+            if (response == null) {
+                response = operation.getOperation().responses.default_;
+            }
+        }
+
+        this.status = responseStatus;
+        if (response != null) {
+            this.bodySchema = OasModelHelper.getSchema(response).orElse(null);
+            this.headers = OasModelHelper.getRequiredHeaders(response);
+        } else {
+            this.bodySchema = null;
+            this.headers = Collections.emptyMap();
+        }
+
+        this.contentType = OasModelHelper.getResponseContentType(specification.getDocument(), operation.getOperation())
+                .orElse(DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Generates new response with random values from given random generator.
+     * @param random
+     * @return
+     */
+    public GeneratedResponse generate(SplittableRandom random) {
+        Map<String, String> headerValues = new LinkedHashMap<>();
+        for (Map.Entry<String, OasSchema> header : headers.entrySet()) {
+            headerValues.put(header.getKey(), writer.value(header.getValue(), "header:" + header.getKey(), null, random));
+        }
+
+        byte[] body = null;
+        if (bodySchema != null) {
+            StringBuilder json = new StringBuilder();
+            writer.writeJson(json, bodySchema, BODY_LOCATION, null, random);
+            body = json.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        return new GeneratedResponse(status, Collections.unmodifiableMap(headerValues), body, body != null ? contentType : null);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
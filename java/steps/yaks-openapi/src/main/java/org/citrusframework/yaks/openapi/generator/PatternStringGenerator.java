@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random strings matching a regular expression pattern. Supports the subset of regular expressions
+ * commonly used in Open API specifications: literals, escaped characters, character classes with ranges,
+ * the predefined classes <code>\d</code>, <code>\w</code> and <code>\s</code>, the dot, groups with alternatives
+ * and the quantifiers <code>?</code>, <code>*</code>, <code>+</code> and <code>{n,m}</code>. Anchors are ignored.
+ *
+ * The pattern is parsed once into a node tree that is reused for all generated values.
+ *
+ * @author Christoph Deppisch
+ */
+final class PatternStringGenerator {
+
+    private static final String DIGITS = "0123456789";
+    private static final String WORD = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+    private static final String SPACE = " ";
+
+    /** Upper bound for unbounded quantifiers */
+    private static final int MAX_REPEAT = 8;
+
+    private final Node root;
+
+    private PatternStringGenerator(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Parses given pattern.
+     * @param pattern
+     * @return the generator or null if the pattern uses unsupported constructs
+     */
+    static PatternStringGenerator parse(String pattern) {
+        try {
+            Parser parser = new Parser(pattern);
+            Node node = parser.parseAlternatives();
+            if (parser.pos != pattern.length()) {
+                return null;
+            }
+            return new PatternStringGenerator(node);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    String generate(SplittableRandom random) {
+        StringBuilder value = new StringBuilder();
+        root.append(value, random);
+        return value.toString();
+    }
+
+    private interface Node {
+        void append(StringBuilder value, SplittableRandom random);
+    }
+
+    private static final class Parser {
+        private final String pattern;
+        private int pos;
+
+        Parser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        Node parseAlternatives() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (pos < pattern.length() && pattern.charAt(pos) == '|') {
+                pos++;
+                alternatives.add(parseSequence());
+            }
+
+            if (alternatives.size() == 1) {
+                return alternatives.get(0);
+            }
+            return (value, random) -> alternatives.get(random.nextInt(alternatives.size())).append(value, random);
+        }
+
+        Node parseSequence() {
+            List<Node> nodes = new ArrayList<>();
+            while (pos < pattern.length() && pattern.charAt(pos) != '|' && pattern.charAt(pos) != ')') {
+                Node atom = parseAtom();
+                if (atom != null) {
+                    nodes.add(parseQuantifier(atom));
+                }
+            }
+            return (value, random) -> nodes.forEach(node -> node.append(value, random));
+        }
+
+        Node parseAtom() {
+            char c = pattern.charAt(pos++);
+            switch (c) {
+                case '^':
+                case '$':
+                    return null;
+                case '(':
+                    if (pattern.startsWith("?:", pos)) {
+                        pos += 2;
+                    }
+                    Node group = parseAlternatives();
+                    expect(')');
+                    return group;
+                case '[':
+                    return chars(parseClass());
+                case '.':
+                    return chars(WORD);
+                case '\\':
+                    return chars(parseEscape());
+                default:
+                    return chars(String.valueOf(c));
+            }
+        }
+
+        Node parseQuantifier(Node atom) {
+            if (pos >= pattern.length()) {
+                return atom;
+            }
+
+            int min;
+            int max;
+            char c = pattern.charAt(pos);
+            if (c == '?') {
+                min = 0;
+                max = 1;
+            } else if (c == '*') {
+                min = 0;
+                max = MAX_REPEAT;
+            } else if (c == '+') {
+                min = 1;
+                max = MAX_REPEAT;
+            } else if (c == '{') {
+                int end = pattern.indexOf('}', pos);
+                String[] bounds = pattern.substring(pos + 1, end).split(",", -1);
+                min = Integer.parseInt(bounds[0].trim());
+                max = bounds.length == 1 ? min : (bounds[1].trim().isEmpty() ? min + MAX_REPEAT : Integer.parseInt(bounds[1].trim()));
+                pos = end;
+            } else {
+                return atom;
+            }
+            pos++;
+
+            // ignore lazy and possessive modifiers
+            if (pos < pattern.length() && (pattern.charAt(pos) == '?' || pattern.charAt(pos) == '+')) {
+                pos++;
+            }
+
+            int lower = min;
+            int upper = Math.max(min, max);
+            return (value, random) -> {
+                int count = lower + random.nextInt(upper - lower + 1);
+                for (int i = 0; i < count; i++) {
+                    atom.append(value, random);
+                }
+            };
+        }
+
+        String parseClass() {
+            if (pos < pattern.length() && pattern.charAt(pos) == '^') {
+                throw new IllegalArgumentException("Negated character classes are not supported");
+            }
+
+            StringBuilder chars = new StringBuilder();
+            while (pattern.charAt(pos) != ']') {
+                char c = pattern.charAt(pos++);
+                if (c == '\\') {
+                    chars.append(parseEscape());
+                } else if (pos + 1 < pattern.length() && pattern.charAt(pos) == '-' && pattern.charAt(pos + 1) != ']') {
+                    char end = pattern.charAt(pos + 1);
+                    for (char range = c; range <= end; range++) {
+                        chars.append(range);
+                    }
+                    pos += 2;
+                } else {
+                    chars.append(c);
+                }
+            }
+            pos++;
+            return chars.toString();
+        }
+
+        String parseEscape() {
+            char c = pattern.charAt(pos++);
+            switch (c) {
+                case 'd':
+                    return DIGITS;
+                case 'w':
+                    return WORD;
+                case 's':
+                    return SPACE;
+                case 'D':
+                case 'W':
+                case 'S':
+                case 'b':
+                case 'B':
+                    throw new IllegalArgumentException("Unsupported escape sequence \\" + c);
+                default:
+                    return String.valueOf(c);
+            }
+        }
+
+        void expect(char c) {
+            if (pos >= pattern.length() || pattern.charAt(pos) != c) {
+                throw new IllegalArgumentException("Expected '" + c + "' at position " + pos);
+            }
+            pos++;
+        }
+
+        static Node chars(String chars) {
+            if (chars.isEmpty()) {
+                throw new IllegalArgumentException("Empty character class");
+            }
+            return (value, random) -> value.append(chars.charAt(random.nextInt(chars.length())));
+        }
+    }
+}
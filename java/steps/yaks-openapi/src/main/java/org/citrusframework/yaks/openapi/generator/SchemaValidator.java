@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Validates values against Open API schemas and reports the broken schema rules. Reports the same violations with the
+ * same locations as the schema value writer creates for invalid values.
+ *
+ * @author Christoph Deppisch
+ */
+final class SchemaValidator {
+
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[^@\\s]+@[^@\\s]+");
+
+    private final Map<String, OasSchema> definitions;
+    private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    SchemaValidator(Map<String, OasSchema> definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * Validates Json value. Null values are accepted for all schemas.
+     * @param schema
+     * @param node
+     * @param location
+     * @param violations
+     */
+    void validateJson(OasSchema schema, JsonNode node, String location, List<Violation> violations) {
+        if (OasModelHelper.isReferenceType(schema)) {
+            validateJson(resolve(schema), node, location, violations);
+            return;
+        }
+
+        if (node == null || node.isNull()) {
+            return;
+        }
+
+        if (OasModelHelper.isObjectType(schema)) {
+            if (!node.isObject()) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+                return;
+            }
+
+            if (schema.required != null) {
+                for (String required : schema.required) {
+                    if (!node.has(required)) {
+                        violations.add(new Violation(location + "." + required, Violation.Kind.MISSING_REQUIRED));
+                    }
+                }
+            }
+
+            if (schema.properties != null) {
+                for (Map.Entry<String, OasSchema> property : schema.properties.entrySet()) {
+                    if (node.has(property.getKey())) {
+                        validateJson(property.getValue(), node.get(property.getKey()), location + "." + property.getKey(), violations);
+                    }
+                }
+            }
+        } else if (OasModelHelper.isArrayType(schema)) {
+            if (!node.isArray()) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+                return;
+            }
+
+            if (schema.maxItems != null && node.size() > schema.maxItems.intValue()) {
+                violations.add(new Violation(location, Violation.Kind.TOO_MANY_ITEMS));
+            }
+            if (schema.minItems != null && node.size() < schema.minItems.intValue()) {
+                violations.add(new Violation(location, Violation.Kind.TOO_FEW_ITEMS));
+            }
+
+            if (schema.items != null) {
+                Iterator<JsonNode> items = node.elements();
+                while (items.hasNext()) {
+                    validateJson((OasSchema) schema.items, items.next(), location + "[]", violations);
+                }
+            }
+        } else if ("string".equals(schema.type)) {
+            if (!node.isTextual()) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+            } else {
+                validateString(schema, node.textValue(), location, violations);
+            }
+        } else if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+            if (!node.isNumber() || ("integer".equals(schema.type) && !isIntegral(node.decimalValue()))) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+            } else {
+                validateNumber(schema, node.decimalValue(), location, violations);
+            }
+        } else if ("boolean".equals(schema.type) && !node.isBoolean()) {
+            violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+        }
+    }
+
+    /**
+     * Validates plain value as used in path, query and header parameters.
+     * @param schema
+     * @param value
+     * @param location
+     * @param violations
+     */
+    void validateValue(OasSchema schema, String value, String location, List<Violation> violations) {
+        if (schema == null) {
+            return;
+        }
+
+        if (OasModelHelper.isReferenceType(schema)) {
+            validateValue(resolve(schema), value, location, violations);
+            return;
+        }
+
+        if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+            BigDecimal number;
+            try {
+                number = new BigDecimal(value.trim());
+            } catch (NumberFormatException e) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+                return;
+            }
+
+            if ("integer".equals(schema.type) && !isIntegral(number)) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+            } else {
+                validateNumber(schema, number, location, violations);
+            }
+        } else if ("boolean".equals(schema.type)) {
+            if (!"true".equals(value) && !"false".equals(value)) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+            }
+        } else if ("string".equals(schema.type)) {
+            validateString(schema, value, location, violations);
+        }
+    }
+
+    private void validateString(OasSchema schema, String value, String location, List<Violation> violations) {
+        if (!CollectionUtils.isEmpty(schema.enum_)) {
+            if (!schema.enum_.contains(value)) {
+                violations.add(new Violation(location, Violation.Kind.NOT_IN_ENUM));
+            }
+            return;
+        }
+
+        if (schema.maxLength != null && value.length() > schema.maxLength.intValue()) {
+            violations.add(new Violation(location, Violation.Kind.TOO_LONG));
+        }
+        if (schema.minLength != null && value.length() < schema.minLength.intValue()) {
+            violations.add(new Violation(location, Violation.Kind.TOO_SHORT));
+        }
+        if (StringUtils.hasText(schema.pattern) && !patterns.computeIfAbsent(schema.pattern, Pattern::compile).matcher(value).find()) {
+            violations.add(new Violation(location, Violation.Kind.PATTERN_MISMATCH));
+        }
+        if (!isValidFormat(schema.format, value)) {
+            violations.add(new Violation(location, Violation.Kind.INVALID_FORMAT));
+        }
+    }
+
+    private static void validateNumber(OasSchema schema, BigDecimal value, String location, List<Violation> violations) {
+        if (schema.maximum != null) {
+            int result = value.compareTo(new BigDecimal(schema.maximum.toString()));
+            if (result > 0 || (result == 0 && Boolean.TRUE.equals(schema.exclusiveMaximum))) {
+                violations.add(new Violation(location, Violation.Kind.ABOVE_MAXIMUM));
+            }
+        }
+
+        if (schema.minimum != null) {
+            int result = value.compareTo(new BigDecimal(schema.minimum.toString()));
+            if (result < 0 || (result == 0 && Boolean.TRUE.equals(schema.exclusiveMinimum))) {
+                violations.add(new Violation(location, Violation.Kind.BELOW_MINIMUM));
+            }
+        }
+    }
+
+    private static boolean isValidFormat(String format, String value) {
+        try {
+            if ("date".equals(format)) {
+                LocalDate.parse(value);
+            } else if ("date-time".equals(format)) {
+                OffsetDateTime.parse(value);
+            } else if ("uuid".equals(format)) {
+                return UUID_PATTERN.matcher(value).matches();
+            } else if ("email".equals(format)) {
+                return EMAIL_PATTERN.matcher(value).matches();
+            }
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isIntegral(BigDecimal value) {
+        return value.signum() == 0 || value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    private OasSchema resolve(OasSchema schema) {
+        OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
+        if (resolved == null) {
+            throw new CitrusRuntimeException(String.format("Unable to resolve schema reference '%s'", schema.$ref));
+        }
+        return resolved;
+    }
+}
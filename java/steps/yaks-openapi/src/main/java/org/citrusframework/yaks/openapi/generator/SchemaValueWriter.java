@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Writes random values for Open API schemas. Values are valid according to the schema rules unless a violation targets
+ * the current location, in which case exactly this rule gets broken. Values close to the schema boundaries (min/max length,
+ * minimum/maximum) are preferred as these are the interesting cases for property based testing.
+ *
+ * All randomness comes from the given random generator so the same seed always produces the same values.
+ *
+ * @author Christoph Deppisch
+ */
+final class SchemaValueWriter {
+
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    /** Value used to break patterns, only used when it does not match the pattern */
+    private static final String PATTERN_MISMATCH = "~!#";
+
+    private static final int DEFAULT_MAX_LENGTH_RANGE = 16;
+    private static final long DEFAULT_NUMBER_RANGE = 100000L;
+    private static final int DEFAULT_MAX_ITEMS = 3;
+
+    private final Map<String, OasSchema> definitions;
+    private final Map<String, Optional<PatternStringGenerator>> patterns = new ConcurrentHashMap<>();
+
+    SchemaValueWriter(Map<String, OasSchema> definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * Collects all rules of given schema that can be broken by a generated value.
+     * @param schema
+     * @param location
+     * @param json true when the value is part of a Json body where the value type can be broken
+     * @param violations
+     */
+    void collectViolations(OasSchema schema, String location, boolean json, List<Violation> violations) {
+        collectViolations(schema, location, json, violations, new ArrayDeque<>());
+    }
+
+    private void collectViolations(OasSchema schema, String location, boolean json, List<Violation> violations, Deque<String> references) {
+        if (OasModelHelper.isReferenceType(schema)) {
+            String name = OasModelHelper.getReferenceName(schema.$ref);
+            if (!references.contains(name)) {
+                references.push(name);
+                collectViolations(resolve(schema), location, json, violations, references);
+                references.pop();
+            }
+            return;
+        }
+
+        if (OasModelHelper.isObjectType(schema)) {
+            if (schema.properties != null) {
+                for (Map.Entry<String, OasSchema> property : schema.properties.entrySet()) {
+                    String propertyLocation = location + "." + property.getKey();
+                    if (isRequired(schema, property.getKey())) {
+                        violations.add(new Violation(propertyLocation, Violation.Kind.MISSING_REQUIRED));
+                    }
+                    collectViolations(property.getValue(), propertyLocation, json, violations, references);
+                }
+            }
+        } else if (OasModelHelper.isArrayType(schema)) {
+            if (schema.maxItems != null) {
+                violations.add(new Violation(location, Violation.Kind.TOO_MANY_ITEMS));
+            }
+            if (schema.minItems != null && schema.minItems.intValue() > 0) {
+                violations.add(new Violation(location, Violation.Kind.TOO_FEW_ITEMS));
+            }
+            if (schema.items != null) {
+                collectViolations((OasSchema) schema.items, location + "[]", json, violations, references);
+            }
+        } else if ("string".equals(schema.type)) {
+            if (!CollectionUtils.isEmpty(schema.enum_)) {
+                violations.add(new Violation(location, Violation.Kind.NOT_IN_ENUM));
+            } else {
+                if (schema.maxLength != null) {
+                    violations.add(new Violation(location, Violation.Kind.TOO_LONG));
+                }
+                if (schema.minLength != null && schema.minLength.intValue() > 0) {
+                    violations.add(new Violation(location, Violation.Kind.TOO_SHORT));
+                }
+                if (StringUtils.hasText(schema.pattern) && !Pattern.compile(schema.pattern).matcher(PATTERN_MISMATCH).find()) {
+                    violations.add(new Violation(location, Violation.Kind.PATTERN_MISMATCH));
+                }
+                if (isCheckedFormat(schema.format)) {
+                    violations.add(new Violation(location, Violation.Kind.INVALID_FORMAT));
+                }
+            }
+
+            if (json) {
+                violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+            }
+        } else if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+            if (schema.maximum != null) {
+                violations.add(new Violation(location, Violation.Kind.ABOVE_MAXIMUM));
+            }
+            if (schema.minimum != null) {
+                violations.add(new Violation(location, Violation.Kind.BELOW_MINIMUM));
+            }
+            violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+        } else if ("boolean".equals(schema.type)) {
+            violations.add(new Violation(location, Violation.Kind.WRONG_TYPE));
+        }
+    }
+
+    /**
+     * Writes Json value for given schema.
+     * @param json
+     * @param schema
+     * @param location
+     * @param violation the rule to break or null for valid values
+     * @param random
+     */
+    void writeJson(StringBuilder json, OasSchema schema, String location, Violation violation, SplittableRandom random) {
+        writeJson(json, schema, location, violation, random, new ArrayDeque<>());
+    }
+
+    private void writeJson(StringBuilder json, OasSchema schema, String location, Violation violation, SplittableRandom random, Deque<String> references) {
+        if (OasModelHelper.isReferenceType(schema)) {
+            String name = OasModelHelper.getReferenceName(schema.$ref);
+            if (references.contains(name)) {
+                // recursive reference - stop expanding
+                json.append("null");
+                return;
+            }
+
+            references.push(name);
+            writeJson(json, resolve(schema), location, violation, random, references);
+            references.pop();
+            return;
+        }
+
+        Violation.Kind kind = violation != null && violation.getLocation().equals(location) ? violation.getKind() : null;
+        if (OasModelHelper.isObjectType(schema)) {
+            json.append('{');
+            if (schema.properties != null) {
+                boolean first = true;
+                for (Map.Entry<String, OasSchema> property : schema.properties.entrySet()) {
+                    String propertyLocation = location + "." + property.getKey();
+                    if (!includeProperty(schema, property, propertyLocation, violation, random, references)) {
+                        continue;
+                    }
+
+                    if (!first) {
+                        json.append(',');
+                    }
+                    first = false;
+
+                    writeString(json, property.getKey());
+                    json.append(':');
+                    writeJson(json, property.getValue(), propertyLocation, violation, random, references);
+                }
+            }
+            json.append('}');
+        } else if (OasModelHelper.isArrayType(schema)) {
+            String itemsLocation = location + "[]";
+            int count = getItemCount(schema, kind, isWithin(violation, itemsLocation), random);
+
+            json.append('[');
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                if (schema.items != null) {
+                    writeJson(json, (OasSchema) schema.items, itemsLocation, violation, random, references);
+                } else {
+                    json.append("null");
+                }
+            }
+            json.append(']');
+        } else if ("string".equals(schema.type)) {
+            if (kind == Violation.Kind.WRONG_TYPE) {
+                json.append(random.nextInt(1000));
+            } else {
+                writeString(json, stringValue(schema, kind, random));
+            }
+        } else if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+            if (kind == Violation.Kind.WRONG_TYPE) {
+                writeString(json, "x" + randomString(random, 1, 8));
+            } else {
+                json.append(numberValue(schema, kind, random));
+            }
+        } else if ("boolean".equals(schema.type)) {
+            if (kind == Violation.Kind.WRONG_TYPE) {
+                writeString(json, "yes");
+            } else {
+                json.append(random.nextBoolean());
+            }
+        } else {
+            json.append("null");
+        }
+    }
+
+    /**
+     * Creates plain value for given schema as used in path, query and header parameters. Parameters without schema
+     * (e.g. Swagger 2.0 parameters with inline type) get a random string.
+     * @param schema
+     * @param location
+     * @param violation the rule to break or null for valid values
+     * @param random
+     * @return
+     */
+    String value(OasSchema schema, String location, Violation violation, SplittableRandom random) {
+        if (schema == null) {
+            return randomString(random, 1, DEFAULT_MAX_LENGTH_RANGE);
+        }
+
+        if (OasModelHelper.isReferenceType(schema)) {
+            return value(resolve(schema), location, violation, random);
+        }
+
+        Violation.Kind kind = violation != null && violation.getLocation().equals(location) ? violation.getKind() : null;
+        if ("integer".equals(schema.type) || "number".equals(schema.type)) {
+            return kind == Violation.Kind.WRONG_TYPE ? "x" + randomString(random, 1, 8) : numberValue(schema, kind, random);
+        } else if ("boolean".equals(schema.type)) {
+            return kind == Violation.Kind.WRONG_TYPE ? "yes" : String.valueOf(random.nextBoolean());
+        } else if ("string".equals(schema.type)) {
+            return stringValue(schema, kind, random);
+        }
+
+        StringBuilder json = new StringBuilder();
+        writeJson(json, schema, location, violation, random);
+        return json.toString();
+    }
+
+    private boolean includeProperty(OasSchema schema, Map.Entry<String, OasSchema> property, String propertyLocation,
+                                    Violation violation, SplittableRandom random, Deque<String> references) {
+        if (violation != null && violation.getLocation().equals(propertyLocation)
+                && violation.getKind() == Violation.Kind.MISSING_REQUIRED) {
+            return false;
+        }
+
+        if (isRequired(schema, property.getKey())) {
+            return true;
+        }
+
+        if (isWithin(violation, propertyLocation)) {
+            // property holds the violation so it must be present
+            return true;
+        }
+
+        if (OasModelHelper.isReferenceType(property.getValue())
+                && references.contains(OasModelHelper.getReferenceName(property.getValue().$ref))) {
+            return false;
+        }
+
+        return random.nextBoolean();
+    }
+
+    private int getItemCount(OasSchema schema, Violation.Kind kind, boolean itemViolation, SplittableRandom random) {
+        int min = schema.minItems != null ? schema.minItems.intValue() : 0;
+        int max = schema.maxItems != null ? schema.maxItems.intValue() : Math.max(min, DEFAULT_MAX_ITEMS);
+
+        if (kind == Violation.Kind.TOO_MANY_ITEMS) {
+            return max + 1;
+        } else if (kind == Violation.Kind.TOO_FEW_ITEMS) {
+            return min - 1;
+        }
+
+        if (itemViolation) {
+            min = Math.max(1, min);
+        }
+
+        return min + random.nextInt(Math.max(min, max) - min + 1);
+    }
+
+    private String stringValue(OasSchema schema, Violation.Kind kind, SplittableRandom random) {
+        int minLength = schema.minLength != null ? schema.minLength.intValue() : 1;
+        int maxLength = schema.maxLength != null ? schema.maxLength.intValue() : minLength + DEFAULT_MAX_LENGTH_RANGE;
+
+        if (kind != null) {
+            switch (kind) {
+                case TOO_LONG:
+                    return randomString(random, maxLength + 1, maxLength + 4);
+                case TOO_SHORT:
+                    return randomString(random, minLength - 1, minLength - 1);
+                case NOT_IN_ENUM:
+                    return "~" + randomString(random, 4, 8);
+                case PATTERN_MISMATCH:
+                    return PATTERN_MISMATCH;
+                case INVALID_FORMAT:
+                    return "invalid-" + randomString(random, 4, 8);
+                default:
+                    break;
+            }
+        }
+
+        if (!CollectionUtils.isEmpty(schema.enum_)) {
+            return schema.enum_.get(random.nextInt(schema.enum_.size()));
+        }
+
+        if ("date".equals(schema.format)) {
+            return LocalDate.ofEpochDay(random.nextInt(50000)).toString();
+        } else if ("date-time".equals(schema.format)) {
+            return Instant.ofEpochSecond(random.nextLong(4000000000L)).toString();
+        } else if ("uuid".equals(schema.format)) {
+            return new UUID(random.nextLong(), random.nextLong()).toString();
+        } else if ("email".equals(schema.format)) {
+            return randomString(random, 1, 10) + "@example.com";
+        }
+
+        if (StringUtils.hasText(schema.pattern)) {
+            Optional<PatternStringGenerator> generator = patterns.computeIfAbsent(schema.pattern,
+                    pattern -> Optional.ofNullable(PatternStringGenerator.parse(pattern)));
+            if (generator.isPresent()) {
+                return generator.get().generate(random);
+            }
+        }
+
+        return boundaryString(random, minLength, Math.max(minLength, maxLength));
+    }
+
+    private String numberValue(OasSchema schema, Violation.Kind kind, SplittableRandom random) {
+        boolean integer = "integer".equals(schema.type);
+        BigDecimal step = integer ? BigDecimal.ONE : new BigDecimal("0.01");
+
+        BigDecimal min = schema.minimum != null ? new BigDecimal(schema.minimum.toString()) : null;
+        BigDecimal max = schema.maximum != null ? new BigDecimal(schema.maximum.toString()) : null;
+
+        if (kind == Violation.Kind.ABOVE_MAXIMUM && max != null) {
+            return format(Boolean.TRUE.equals(schema.exclusiveMaximum) ? max : max.add(step), integer);
+        } else if (kind == Violation.Kind.BELOW_MINIMUM && min != null) {
+            return format(Boolean.TRUE.equals(schema.exclusiveMinimum) ? min : min.subtract(step), integer);
+        }
+
+        if (min != null && Boolean.TRUE.equals(schema.exclusiveMinimum)) {
+            min = min.add(step);
+        }
+        if (max != null && Boolean.TRUE.equals(schema.exclusiveMaximum)) {
+            max = max.subtract(step);
+        }
+
+        if (min == null) {
+            min = max != null ? max.subtract(BigDecimal.valueOf(DEFAULT_NUMBER_RANGE)).max(BigDecimal.ZERO.min(max)) : BigDecimal.ZERO;
+        }
+        if (max == null) {
+            max = min.add(BigDecimal.valueOf(DEFAULT_NUMBER_RANGE));
+        }
+
+        if (integer) {
+            min = min.setScale(0, RoundingMode.CEILING);
+            max = max.setScale(0, RoundingMode.FLOOR);
+        }
+
+        if (max.compareTo(min) <= 0) {
+            return format(min, integer);
+        }
+
+        int choice = random.nextInt(4);
+        if (choice == 0) {
+            return format(min, integer);
+        } else if (choice == 1) {
+            return format(max, integer);
+        }
+
+        BigDecimal value = min.add(max.subtract(min).multiply(BigDecimal.valueOf(random.nextDouble())));
+        return format(integer ? value.setScale(0, RoundingMode.FLOOR) : value.setScale(2, RoundingMode.FLOOR).max(min), integer);
+    }
+
+    private static String format(BigDecimal value, boolean integer) {
+        return integer ? value.setScale(0, RoundingMode.FLOOR).toPlainString() : value.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Random string preferring the minimum and maximum length.
+     */
+    private static String boundaryString(SplittableRandom random, int minLength, int maxLength) {
+        int choice = random.nextInt(4);
+        if (choice == 0) {
+            return randomString(random, minLength, minLength);
+        } else if (choice == 1) {
+            return randomString(random, maxLength, maxLength);
+        }
+        return randomString(random, minLength, maxLength);
+    }
+
+    private static String randomString(SplittableRandom random, int minLength, int maxLength) {
+        int length = Math.max(0, minLength + random.nextInt(Math.max(0, maxLength - minLength) + 1));
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Writes Json string with escaped special characters.
+     */
+    private static void writeString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Checks if given violation targets the location itself or one of its nested fields.
+     */
+    private static boolean isWithin(Violation violation, String location) {
+        if (violation == null || !violation.getLocation().startsWith(location)) {
+            return false;
+        }
+
+        String nested = violation.getLocation().substring(location.length());
+        return nested.isEmpty() || nested.startsWith(".") || nested.startsWith("[");
+    }
+
+    private static boolean isCheckedFormat(String format) {
+        return "date".equals(format) || "date-time".equals(format) || "uuid".equals(format) || "email".equals(format);
+    }
+
+    private static boolean isRequired(OasSchema schema, String property) {
+        return schema.required != null && schema.required.contains(property);
+    }
+
+    private OasSchema resolve(OasSchema schema) {
+        OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
+        if (resolved == null) {
+            throw new CitrusRuntimeException(String.format("Unable to resolve schema reference '%s'", schema.$ref));
+        }
+        return resolved;
+    }
+}
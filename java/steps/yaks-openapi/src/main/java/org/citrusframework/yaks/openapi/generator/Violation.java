@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+/**
+ * Schema rule that a generated request breaks on purpose. The location identifies the request part: a body field as
+ * Json path (e.g. <code>$.name</code>, <code>$.tags[]</code>) or a parameter (e.g. <code>query:limit</code>).
+ *
+ * @author Christoph Deppisch
+ */
+public final class Violation {
+
+    /**
+     * Supported schema violations.
+     */
+    public enum Kind {
+        TOO_LONG,
+        TOO_SHORT,
+        NOT_IN_ENUM,
+        PATTERN_MISMATCH,
+        INVALID_FORMAT,
+        ABOVE_MAXIMUM,
+        BELOW_MINIMUM,
+        WRONG_TYPE,
+        MISSING_REQUIRED,
+        TOO_MANY_ITEMS,
+        TOO_FEW_ITEMS
+    }
+
+    private final String location;
+    private final Kind kind;
+
+    public Violation(String location, Kind kind) {
+        this.location = location;
+        this.kind = kind;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " at " + location;
+    }
+}
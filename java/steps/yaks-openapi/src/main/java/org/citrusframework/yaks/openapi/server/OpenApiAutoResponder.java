@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.message.Message;
+import org.citrusframework.yaks.http.stub.HttpStubResponder;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.citrusframework.yaks.openapi.generator.GeneratedResponse;
+import org.citrusframework.yaks.openapi.generator.OpenApiRequestValidator;
+import org.citrusframework.yaks.openapi.generator.OpenApiResponseGenerator;
+import org.citrusframework.yaks.openapi.generator.Violation;
+import org.citrusframework.yaks.openapi.model.OasModelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Http server stub responder answering all operations of an Open API specification. Incoming requests are routed to
+ * the operation via the precompiled path templates of the specification and validated against the operation parameters
+ * and request body schema. Valid requests get a generated schema valid response, invalid requests get a 400 response
+ * listing the violations. Requests with a known path but an unsupported method get a 405 response. Requests that do
+ * not match any path are passed on to the next responder or the delegate endpoint adapter. In strict mode these requests
+ * get a 404 response instead.
+ *
+ * The responder is called concurrently from the Http server threads. It records the number of requests per operation
+ * and all violations for later verification.
+ *
+ * @author Christoph Deppisch
+ */
+public class OpenApiAutoResponder implements HttpStubResponder {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiAutoResponder.class);
+
+    private final String basePath;
+    private final boolean strict;
+    private final OpenApiPathMatcher<Map<String, Route>> routes = new OpenApiPathMatcher<>();
+
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    public OpenApiAutoResponder(OpenApiSpecification specification) {
+        this(specification, false);
+    }
+
+    public OpenApiAutoResponder(OpenApiSpecification specification, boolean strict) {
+        this.strict = strict;
+
+        String path = OasModelHelper.getBasePath(specification.getDocument());
+        this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+
+        Map<String, Map<String, Route>> routesByPath = new LinkedHashMap<>();
+        for (OpenApiSpecification.OperationEntry operation : specification.getOperations()) {
+            routesByPath.computeIfAbsent(operation.getPath(), key -> new HashMap<>())
+                    .put(operation.getMethod().toUpperCase(Locale.US), new Route(specification, operation));
+            requests.put(operation.getOperation().operationId, new LongAdder());
+        }
+        routesByPath.forEach(routes::add);
+    }
+
+    @Override
+    public Message respond(String method, String path, HttpMessage request) {
+        if (!isWithinBasePath(path)) {
+            return null;
+        }
+
+        Optional<OpenApiPathMatcher.Match<Map<String, Route>>> match = routes.match(path.substring(basePath.length()));
+        if (!match.isPresent()) {
+            if (!strict) {
+                return null;
+            }
+
+            violations.add(String.format("%s %s: no matching operation", method, path));
+            return new HttpMessage("").status(HttpStatus.NOT_FOUND);
+        }
+
+        Route route = match.get().getValue().get(Optional.ofNullable(method).orElse("").toUpperCase(Locale.US));
+        if (route == null) {
+            violations.add(String.format("%s %s: method not allowed", method, path));
+            return new HttpMessage("").status(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+
+        String operationId = route.operation.getOperation().operationId;
+        requests.get(operationId).increment();
+
+        Map<String, String> pathParams = new HashMap<>();
+        match.get().getVariables().forEach((name, value) -> pathParams.put(name, UriUtils.decode(value, StandardCharsets.UTF_8)));
+
+        List<Violation> requestViolations = route.validator.validate(pathParams, getQueryParams(request),
+                getHeaders(request), request.getPayload(String.class));
+        if (!requestViolations.isEmpty()) {
+            String details = requestViolations.stream().map(Violation::toString).collect(Collectors.joining(", "));
+            requestViolations.forEach(violation -> violations.add(String.format("%s: %s", operationId, violation)));
+            LOG.debug(String.format("Invalid request for operation '%s': %s", operationId, details));
+
+            return new HttpMessage(details)
+                    .contentType(MediaType.TEXT_PLAIN_VALUE)
+                    .status(HttpStatus.BAD_REQUEST);
+        }
+
+        GeneratedResponse generated = route.responseGenerator.generate(new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+        HttpMessage response = new HttpMessage(generated.getBody() != null ? new String(generated.getBody(), StandardCharsets.UTF_8) : "")
+                .status(HttpStatus.valueOf(generated.getStatus()));
+        generated.getHeaders().forEach(response::setHeader);
+        if (generated.getContentType() != null) {
+            response.setHeader(HttpHeaders.CONTENT_TYPE, generated.getContentType());
+        }
+
+        return response;
+    }
+
+    /**
+     * Checks that given request path starts with the base path on a path segment boundary.
+     * @param path
+     * @return
+     */
+    private boolean isWithinBasePath(String path) {
+        if (path == null || !path.startsWith(basePath)) {
+            return false;
+        }
+
+        return path.length() == basePath.length() || path.charAt(basePath.length()) == '/';
+    }
+
+    private static Map<String, String> getQueryParams(HttpMessage request) {
+        Map<String, String> queryParams = new HashMap<>();
+        request.getQueryParams().forEach((name, values) -> {
+            if (values != null && !values.isEmpty()) {
+                queryParams.put(name, values.iterator().next());
+            }
+        });
+        return queryParams;
+    }
+
+    private static Map<String, String> getHeaders(HttpMessage request) {
+        Map<String, String> headers = new HashMap<>();
+        request.getHeaders().forEach((name, value) -> {
+            if (value != null) {
+                headers.put(name, value.toString());
+            }
+        });
+        return headers;
+    }
+
+    /**
+     * Gets the number of requests received for given operation.
+     * @param operationId
+     * @return
+     */
+    public long getRequestCount(String operationId) {
+        return Optional.ofNullable(requests.get(operationId)).map(LongAdder::sum).orElse(0L);
+    }
+
+    /**
+     * Gets all recorded violations in arrival order.
+     * @return
+     */
+    public List<String> getViolations() {
+        return new ArrayList<>(violations);
+    }
+
+    /**
+     * Operation route with precompiled request validator and response generator.
+     */
+    private static final class Route {
+        private final OpenApiSpecification.OperationEntry operation;
+        private final OpenApiRequestValidator validator;
+        private final OpenApiResponseGenerator responseGenerator;
+
+        Route(OpenApiSpecification specification, OpenApiSpecification.OperationEntry operation) {
+            this.operation = operation;
+            this.validator = new OpenApiRequestValidator(specification, operation);
+            this.responseGenerator = new OpenApiResponseGenerator(specification, operation);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches request paths against Open API path templates such as <code>/pet/{petId}</code>. The templates are compiled
+ * once into a tree of path segments, so a lookup walks the request path segments instead of testing every template.
+ * Literal segments take precedence over template segments, as required by the Open API specification for paths like
+ * <code>/pet/findByStatus</code> and <code>/pet/{petId}</code>.
+ *
+ * @author Christoph Deppisch
+ */
+public final class OpenApiPathMatcher<T> {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{([^}/]+)}");
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds path template with given value.
+     * @param pathTemplate
+     * @param value
+     */
+    public void add(String pathTemplate, T value) {
+        Node<T> node = root;
+        for (String segment : split(pathTemplate)) {
+            node = node.child(segment);
+        }
+        node.value = value;
+    }
+
+    /**
+     * Finds the value of the path template matching given request path.
+     * @param path
+     * @return the match holding the value and the path variables or empty if no template matches
+     */
+    public Optional<Match<T>> match(String path) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        T value = match(root, split(path), 0, variables);
+        return value != null ? Optional.of(new Match<>(value, variables)) : Optional.empty();
+    }
+
+    private static <T> T match(Node<T> node, List<String> segments, int index, Map<String, String> variables) {
+        if (index == segments.size()) {
+            return node.value;
+        }
+
+        String segment = segments.get(index);
+        Node<T> literal = node.literals.get(segment);
+        if (literal != null) {
+            T value = match(literal, segments, index + 1, variables);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        for (TemplateSegment<T> template : node.templates) {
+            Matcher matcher = template.pattern.matcher(segment);
+            if (matcher.matches()) {
+                for (int i = 0; i < template.variables.size(); i++) {
+                    variables.put(template.variables.get(i), matcher.group(i + 1));
+                }
+
+                T value = match(template.node, segments, index + 1, variables);
+                if (value != null) {
+                    return value;
+                }
+                template.variables.forEach(variables::remove);
+            }
+        }
+
+        return null;
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Path template match with value and path variables. Variable values are not decoded.
+     */
+    public static final class Match<T> {
+        private final T value;
+        private final Map<String, String> variables;
+
+        Match(T value, Map<String, String> variables) {
+            this.value = value;
+            this.variables = Collections.unmodifiableMap(variables);
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public Map<String, String> getVariables() {
+            return variables;
+        }
+    }
+
+    /**
+     * Tree node for a path segment.
+     */
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final List<TemplateSegment<T>> templates = new ArrayList<>();
+        private T value;
+
+        Node<T> child(String segment) {
+            if (!VARIABLE.matcher(segment).find()) {
+                return literals.computeIfAbsent(segment, key -> new Node<>());
+            }
+
+            for (TemplateSegment<T> template : templates) {
+                if (template.segment.equals(segment)) {
+                    return template.node;
+                }
+            }
+
+            TemplateSegment<T> template = new TemplateSegment<>(segment);
+            templates.add(template);
+            return template.node;
+        }
+    }
+
+    /**
+     * Compiled path segment holding one or more variables, e.g. <code>{petId}</code> or <code>{name}.json</code>.
+     */
+    private static final class TemplateSegment<T> {
+        private final String segment;
+        private final Pattern pattern;
+        private final List<String> variables = new ArrayList<>();
+        private final Node<T> node = new Node<>();
+
+        TemplateSegment(String segment) {
+            this.segment = segment;
+
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = VARIABLE.matcher(segment);
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(segment.substring(last, matcher.start()))).append("(.+?)");
+                variables.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(segment.substring(last)));
+
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+}
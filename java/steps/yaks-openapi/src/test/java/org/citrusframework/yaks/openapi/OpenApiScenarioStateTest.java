@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.openapi.models.OasDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class OpenApiScenarioStateTest {
+
+    private static final String SPECIFICATION = "{" +
+            "\"openapi\": \"3.0.1\"," +
+            "\"info\": {\"title\": \"Empty\", \"version\": \"1.0\"}," +
+            "\"paths\": {}" +
+        "}";
+
+    @Test
+    public void shouldKeepStatePerContext() {
+        TestContext context = TestContextFactory.newInstance().getObject();
+        TestContext otherContext = TestContextFactory.newInstance().getObject();
+
+        OpenApiScenarioState state = OpenApiScenarioState.of(context);
+        state.setSpecification(new OpenApiSpecification((OasDocument) Library.readDocumentFromJSONString(SPECIFICATION)));
+        state.setUrl("http://localhost:8080/api");
+        state.setGenerateOptionalFields(!OpenApiSettings.isGenerateOptionalFields());
+        state.getOutboundDictionary().getMappings().put("$.name", "foo");
+
+        Assertions.assertThat(OpenApiScenarioState.of(context)).isSameAs(state);
+
+        OpenApiScenarioState otherState = OpenApiScenarioState.of(otherContext);
+        Assertions.assertThat(otherState).isNotSameAs(state);
+        Assertions.assertThat(otherState.getUrl()).isNull();
+        Assertions.assertThat(otherState.isGenerateOptionalFields()).isEqualTo(OpenApiSettings.isGenerateOptionalFields());
+        Assertions.assertThat(otherState.getOutboundDictionary().getMappings()).isEmpty();
+        Assertions.assertThatThrownBy(otherState::getSpecification)
+                .isInstanceOf(CitrusRuntimeException.class)
+                .hasMessageContaining("Missing Open API specification");
+    }
+}
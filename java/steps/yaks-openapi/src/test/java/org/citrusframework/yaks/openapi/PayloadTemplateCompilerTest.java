@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi;
+
+import java.util.Map;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.openapi.models.OasDocument;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PayloadTemplateCompilerTest {
+
+    private static final String SPECIFICATION = "{" +
+            "\"openapi\": \"3.0.1\"," +
+            "\"info\": {\"title\": \"Nodes\", \"version\": \"1.0\"}," +
+            "\"paths\": {}," +
+            "\"components\": {\"schemas\": {" +
+                "\"Node\": {\"type\": \"object\", \"required\": [\"name\", \"next\"], \"properties\": {" +
+                    "\"name\": {\"type\": \"string\"}," +
+                    "\"next\": {\"$ref\": \"#/components/schemas/Node\"}" +
+                "}}" +
+            "}}" +
+        "}";
+
+    private final OpenApiSpecification specification =
+            new OpenApiSpecification((OasDocument) Library.readDocumentFromJSONString(SPECIFICATION));
+
+    @After
+    public void cleanup() {
+        PayloadTemplateCompiler.clear();
+    }
+
+    @Test
+    public void shouldCacheTemplate() {
+        Map<String, OasSchema> definitions = specification.getSchemaDefinitions();
+        OasSchema node = definitions.get("Node");
+
+        String template = OpenApiTestDataGenerator.createOutboundPayload(node, definitions);
+        Assertions.assertThat(OpenApiTestDataGenerator.createOutboundPayload(node, definitions)).isSameAs(template);
+        Assertions.assertThat(OpenApiTestDataGenerator.createInboundPayload(node, definitions)).isNotEqualTo(template);
+    }
+
+    @Test
+    public void shouldStopAtRecursiveReference() {
+        Map<String, OasSchema> definitions = specification.getSchemaDefinitions();
+        OasSchema node = definitions.get("Node");
+
+        Assertions.assertThat(OpenApiTestDataGenerator.createOutboundPayload(node, definitions))
+                .isEqualTo("{\"name\": \"citrus:randomString(10)\",\"next\": {\"name\": \"citrus:randomString(10)\",\"next\": null}}");
+        Assertions.assertThat(OpenApiTestDataGenerator.createInboundPayload(node, definitions))
+                .isEqualTo("{\"name\": \"@notEmpty()@\",\"next\": {\"name\": \"@notEmpty()@\",\"next\": \"@ignore@\"}}");
+    }
+}
@@ -54,6 +54,14 @@ public class PetstoreConfiguration {
                               .build();
     }
 
+    @Bean
+    public HttpServer petstoreAutoServer() {
+        return new HttpServerBuilder()
+                              .port(8089)
+                              .autoStart(false)
+                              .build();
+    }
+
     @Bean
     public HttpServer petstoreServer(TestContextFactory contextFactory) {
         return new HttpServerBuilder()
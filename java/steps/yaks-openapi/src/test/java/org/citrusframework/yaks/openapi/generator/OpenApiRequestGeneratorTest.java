@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.citrusframework.yaks.openapi.OpenApiResourceLoader;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class OpenApiRequestGeneratorTest {
+
+    private final OpenApiSpecification specification =
+            new OpenApiSpecification(OpenApiResourceLoader.fromFile("classpath:org/citrusframework/yaks/openapi/petstore-v3.json"));
+
+    @Test
+    public void shouldGenerateSameRequestsForSameSeed() {
+        OpenApiRequestGenerator generator = generator("addPet");
+
+        List<GeneratedRequest> requests = generator.generate(42L, 50, OpenApiRequestGenerator.Mode.MIXED);
+        List<GeneratedRequest> repeated = generator.generate(42L, 50, OpenApiRequestGenerator.Mode.MIXED);
+
+        Assertions.assertThat(requests).hasSize(50);
+        for (int i = 0; i < requests.size(); i++) {
+            Assertions.assertThat(repeated.get(i).getBody()).isEqualTo(requests.get(i).getBody());
+            Assertions.assertThat(String.valueOf(repeated.get(i).getViolation()))
+                    .isEqualTo(String.valueOf(requests.get(i).getViolation()));
+        }
+
+        Assertions.assertThat(generator.generateRequest(42L, 17, OpenApiRequestGenerator.Mode.MIXED).getBody())
+                .isEqualTo(requests.get(17).getBody());
+    }
+
+    @Test
+    public void shouldGenerateValidRequests() {
+        List<GeneratedRequest> requests = generator("addPet").generate(1L, 100, OpenApiRequestGenerator.Mode.VALID);
+
+        Assertions.assertThat(requests).allMatch(GeneratedRequest::isValid);
+        Assertions.assertThat(requests).allSatisfy(request -> {
+            Assertions.assertThat(request.getMethod()).isEqualTo("post");
+            Assertions.assertThat(request.getPath()).isEqualTo("/pet");
+            Assertions.assertThat(request.getContentType()).isEqualTo("application/json");
+            Assertions.assertThat(new String(request.getBody(), StandardCharsets.UTF_8))
+                    .startsWith("{")
+                    .containsPattern("\"status\":\"(available|pending|sold)\"");
+        });
+    }
+
+    @Test
+    public void shouldGenerateInvalidRequests() {
+        OpenApiRequestGenerator generator = generator("addPet");
+        List<GeneratedRequest> requests = generator.generate(1L, 100, OpenApiRequestGenerator.Mode.INVALID);
+
+        Assertions.assertThat(requests).noneMatch(GeneratedRequest::isValid);
+        Assertions.assertThat(requests.stream().map(request -> request.getViolation().toString()).distinct().count())
+                .isEqualTo(generator.getViolations().size());
+        Assertions.assertThat(generator.getViolations().stream().map(Violation::toString).collect(Collectors.toList()))
+                .contains("NOT_IN_ENUM at $.status", "MISSING_REQUIRED at $.name", "WRONG_TYPE at $.tags[].id");
+
+        requests.stream()
+                .filter(request -> request.getViolation().getKind() == Violation.Kind.NOT_IN_ENUM)
+                .forEach(request -> Assertions.assertThat(new String(request.getBody(), StandardCharsets.UTF_8))
+                        .doesNotContainPattern("\"status\":\"(available|pending|sold)\""));
+    }
+
+    @Test
+    public void shouldUseFixedParameterValues() {
+        OpenApiRequestGenerator generator = new OpenApiRequestGenerator(specification,
+                specification.getOperation("getPetById").orElseThrow(IllegalArgumentException::new),
+                Collections.singletonMap("petId", "1001"));
+
+        Assertions.assertThat(generator.generate(1L, 20, OpenApiRequestGenerator.Mode.MIXED))
+                .allSatisfy(request -> Assertions.assertThat(request.getPath()).isEqualTo("/pet/1001"));
+        Assertions.assertThat(generator.getViolations())
+                .noneMatch(violation -> violation.getLocation().equals("path:petId"));
+    }
+
+    private OpenApiRequestGenerator generator(String operationId) {
+        return new OpenApiRequestGenerator(specification,
+                specification.getOperation(operationId).orElseThrow(IllegalArgumentException::new), Collections.emptyMap());
+    }
+}
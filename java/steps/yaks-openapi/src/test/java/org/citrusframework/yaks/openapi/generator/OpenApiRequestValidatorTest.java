@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.citrusframework.yaks.openapi.OpenApiResourceLoader;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class OpenApiRequestValidatorTest {
+
+    private final OpenApiSpecification specification =
+            new OpenApiSpecification(OpenApiResourceLoader.fromFile("classpath:org/citrusframework/yaks/openapi/petstore-v3.json"));
+
+    private final OpenApiSpecification.OperationEntry addPet =
+            specification.getOperation("addPet").orElseThrow(IllegalArgumentException::new);
+
+    @Test
+    public void shouldDetectGeneratedViolations() {
+        OpenApiRequestValidator validator = new OpenApiRequestValidator(specification, addPet);
+        List<GeneratedRequest> requests = new OpenApiRequestGenerator(specification, addPet, Collections.emptyMap())
+                .generate(7L, 200, OpenApiRequestGenerator.Mode.MIXED);
+
+        for (GeneratedRequest request : requests) {
+            List<Violation> violations = validator.validate(Collections.emptyMap(), request.getQueryParams(),
+                    request.getHeaders(), new String(request.getBody(), StandardCharsets.UTF_8));
+
+            if (request.isValid()) {
+                Assertions.assertThat(violations).as(request.toString()).isEmpty();
+            } else {
+                Assertions.assertThat(violations).as(request.toString())
+                        .anyMatch(violation -> violation.toString().equals(request.getViolation().toString()));
+            }
+        }
+    }
+
+    @Test
+    public void shouldValidateParameters() {
+        OpenApiRequestValidator validator = new OpenApiRequestValidator(specification,
+                specification.getOperation("getPetById").orElseThrow(IllegalArgumentException::new));
+
+        Assertions.assertThat(validator.validate(Collections.singletonMap("petId", "1000"),
+                Collections.singletonMap("verbose", "true"), Collections.emptyMap(), null)).isEmpty();
+        Assertions.assertThat(validator.validate(Collections.singletonMap("petId", "no-number"),
+                Collections.singletonMap("verbose", "yes"), Collections.emptyMap(), null))
+                .extracting(Violation::toString)
+                .containsExactly("WRONG_TYPE at path:petId", "WRONG_TYPE at query:verbose");
+        Assertions.assertThat(validator.validate(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), null))
+                .extracting(Violation::toString)
+                .containsExactly("MISSING_REQUIRED at path:petId");
+    }
+}
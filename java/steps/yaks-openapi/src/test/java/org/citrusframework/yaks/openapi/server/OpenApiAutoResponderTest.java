@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.server;
+
+import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.message.Message;
+import org.assertj.core.api.Assertions;
+import org.citrusframework.yaks.openapi.OpenApiResourceLoader;
+import org.citrusframework.yaks.openapi.OpenApiSpecification;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class OpenApiAutoResponderTest {
+
+    private final OpenApiSpecification specification =
+            new OpenApiSpecification(OpenApiResourceLoader.fromFile("classpath:org/citrusframework/yaks/openapi/petstore-v3.json"));
+
+    @Test
+    public void shouldMatchBasePathOnSegmentBoundary() {
+        OpenApiAutoResponder responder = new OpenApiAutoResponder(specification, true);
+
+        Assertions.assertThat(responder.respond("GET", "/petstore/v3foo/pet/1000", new HttpMessage())).isNull();
+        Assertions.assertThat(responder.respond("GET", "/petstore/v/pet/1000", new HttpMessage())).isNull();
+        Assertions.assertThat(responder.getViolations()).isEmpty();
+    }
+
+    @Test
+    public void shouldPassUnknownPathsToDelegate() {
+        OpenApiAutoResponder responder = new OpenApiAutoResponder(specification);
+
+        Assertions.assertThat(responder.respond("GET", "/petstore/v3/store/inventory", new HttpMessage())).isNull();
+        Assertions.assertThat(responder.getViolations()).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectUnknownPathsInStrictMode() {
+        OpenApiAutoResponder responder = new OpenApiAutoResponder(specification, true);
+
+        Message response = responder.respond("GET", "/petstore/v3/store/inventory", new HttpMessage());
+        Assertions.assertThat(response).isInstanceOf(HttpMessage.class);
+        Assertions.assertThat(((HttpMessage) response).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        Assertions.assertThat(responder.getViolations()).hasSize(1);
+    }
+
+    @Test
+    public void shouldRejectUnsupportedMethod() {
+        OpenApiAutoResponder responder = new OpenApiAutoResponder(specification);
+
+        Message response = responder.respond("PATCH", "/petstore/v3/pet/1000", new HttpMessage());
+        Assertions.assertThat(response).isInstanceOf(HttpMessage.class);
+        Assertions.assertThat(((HttpMessage) response).getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        Assertions.assertThat(responder.getRequestCount("getPetById")).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.openapi.server;
+
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class OpenApiPathMatcherTest {
+
+    @Test
+    public void shouldMatchPathTemplates() {
+        OpenApiPathMatcher<String> matcher = new OpenApiPathMatcher<>();
+        matcher.add("/pet", "pet");
+        matcher.add("/pet/{petId}", "petById");
+        matcher.add("/pet/findByStatus", "findByStatus");
+        matcher.add("/pet/{petId}/uploadImage", "uploadImage");
+        matcher.add("/report/{name}.{format}", "report");
+
+        Assertions.assertThat(matcher.match("/pet").map(OpenApiPathMatcher.Match::getValue)).hasValue("pet");
+        Assertions.assertThat(matcher.match("/pet/findByStatus").map(OpenApiPathMatcher.Match::getValue)).hasValue("findByStatus");
+        Assertions.assertThat(matcher.match("/pet/1000/").map(OpenApiPathMatcher.Match::getValue)).hasValue("petById");
+
+        Optional<OpenApiPathMatcher.Match<String>> match = matcher.match("/pet/1000/uploadImage");
+        Assertions.assertThat(match).isPresent();
+        Assertions.assertThat(match.get().getValue()).isEqualTo("uploadImage");
+        Assertions.assertThat(match.get().getVariables()).containsEntry("petId", "1000");
+
+        match = matcher.match("/report/sales.csv");
+        Assertions.assertThat(match).isPresent();
+        Assertions.assertThat(match.get().getVariables()).containsEntry("name", "sales").containsEntry("format", "csv");
+
+        Assertions.assertThat(matcher.match("/store/inventory")).isEmpty();
+        Assertions.assertThat(matcher.match("/pet/1000/unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+Feature: OpenAPI auto responder
+
+  Background:
+    Given OpenAPI specification: org/citrusframework/yaks/openapi/petstore-v3.json
+    Given URL: http://localhost:8089/petstore/v3
+
+  Scenario: auto respond operations
+    Given start OpenAPI auto responder on HTTP server "petstoreAutoServer"
+    When send GET /pet/1000
+    Then verify HTTP response header Content-Type="application/json"
+    And receive HTTP 200 OK
+    Given HTTP request header Content-Type="application/json"
+    Given HTTP request body
+    """
+    {
+      "name": "hasso",
+      "category":{
+        "id": 1,
+        "name":"dog"
+      },
+      "status": "available"
+    }
+    """
+    When send POST /pet
+    Then receive HTTP 201 CREATED
+    And verify OpenAPI auto responder received 1 request for operation getPetById
+    And verify OpenAPI auto responder received 1 request for operation addPet
+    And verify OpenAPI auto responder reported no violations
+
+  Scenario: report violations
+    Given start strict OpenAPI auto responder on HTTP server "petstoreAutoServer"
+    Given HTTP request header Content-Type="application/json"
+    Given HTTP request body
+    """
+    {
+      "category":{
+        "id": 1,
+        "name":"dog"
+      },
+      "status": "unknown"
+    }
+    """
+    When send POST /pet
+    Then verify HTTP response header Content-Type="text/plain"
+    And receive HTTP 400 BAD_REQUEST
+    When send GET /pet/no-number
+    Then receive HTTP 400 BAD_REQUEST
+    When send GET /store/inventory
+    Then receive HTTP 404 NOT_FOUND
+    And verify OpenAPI auto responder reported 4 violations
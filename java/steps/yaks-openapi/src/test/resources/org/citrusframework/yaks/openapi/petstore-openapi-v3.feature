@@ -35,3 +35,17 @@ Feature: Petstore API V3
   Scenario: deletePet
     When invoke operation: deletePet
     Then verify operation result: 204 NO_CONTENT
+
+  Scenario: operation load mix
+    Given OpenAPI load operation mix
+      | getPetById | 70% |
+      | addPet     | 20% |
+      | deletePet  | 10% |
+    When run OpenAPI load with 50 requests
+    Then OpenAPI load error rate should be below 1 %
+    And OpenAPI load operation getPetById p99 latency should be below 5000 ms
+
+  Scenario: generated requests
+    Given OpenAPI generator seed is 42
+    Given generate 20 valid requests for operation addPet
+    When send generated requests with concurrency 2
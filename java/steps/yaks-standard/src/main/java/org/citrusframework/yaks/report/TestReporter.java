@@ -31,6 +31,7 @@ import com.consol.citrus.cucumber.CitrusReporter;
 import io.cucumber.java.PendingException;
 import io.cucumber.plugin.event.EventPublisher;
 import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
 import io.cucumber.plugin.event.Status;
 import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestCaseStarted;
@@ -56,6 +57,10 @@ public class TestReporter extends CitrusReporter {
     private static final String TERMINATION_LOG_PROPERTY = "yaks.termination.log";
     private static final String TERMINATION_LOG_ENV = "YAKS_TERMINATION_LOG";
 
+    private static final String SLOWEST_STEPS_DEFAULT = "5";
+    private static final String SLOWEST_STEPS_PROPERTY = "yaks.report.slowest.steps";
+    private static final String SLOWEST_STEPS_ENV = "YAKS_REPORT_SLOWEST_STEPS";
+
     private final Pattern featureNamePattern = Pattern.compile("^Feature:(.+)$", Pattern.MULTILINE);
 
     private final TestResults testResults = new TestResults();
@@ -65,9 +70,12 @@ public class TestReporter extends CitrusReporter {
         publisher.registerHandlerFor(TestCaseFinished.class, this::saveTestResult);
         publisher.registerHandlerFor(TestCaseStarted.class, this::addTestDetail);
         publisher.registerHandlerFor(TestStepFinished.class, this::checkStepErrors);
+        publisher.registerHandlerFor(TestStepFinished.class, this::saveStepDuration);
         publisher.registerHandlerFor(TestSourceRead.class, this::setSuiteName);
         publisher.registerHandlerFor(TestRunFinished.class, this::printReports);
         super.setEventPublisher(publisher);
+
+        testResults.setSlowestStepsLimit(getSlowestStepsLimit());
     }
 
     private void addTestDetail(TestCaseStarted event) {
@@ -108,6 +116,22 @@ public class TestReporter extends CitrusReporter {
         }
     }
 
+    /**
+     * Adds step duration to test results. Uses the duration measured by Cucumber, because events may get delivered
+     * after the fact (e.g. when scenarios run in parallel).
+     * @param event
+     */
+    private void saveStepDuration(TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+
+        PickleStepTestStep testStep = (PickleStepTestStep) event.getTestStep();
+        testResults.addStepResult(new TestStepResult(testStep.getStep().getText(),
+                CucumberUtils.extractFeatureFileName(testStep.getUri().toString()) + ":" + testStep.getStep().getLine(),
+                event.getTestCase().getName(), event.getResult().getDuration().toMillis()));
+    }
+
     /**
      * Sets the suite name either from feature name extracted from source or from source file path.
      * @param event
@@ -139,6 +163,11 @@ public class TestReporter extends CitrusReporter {
      * @param event
      */
     private void saveTestResult(TestCaseFinished event) {
+        testResults.getTests().stream()
+                .filter(detail -> detail.getId().equals(event.getTestCase().getId()))
+                .findFirst()
+                .ifPresent(detail -> detail.setDuration(event.getResult().getDuration().toMillis()));
+
         switch (event.getResult().getStatus()) {
             case FAILED:
                 testResults.getSummary().failed++;
@@ -159,6 +188,23 @@ public class TestReporter extends CitrusReporter {
         }
     }
 
+    /**
+     * Number of slowest steps listed in the termination log. Zero disables the list. Falls back to the default
+     * when the configured value is not a number.
+     * @return
+     */
+    public static int getSlowestStepsLimit() {
+        String limit = System.getProperty(SLOWEST_STEPS_PROPERTY,
+                System.getenv(SLOWEST_STEPS_ENV) != null ? System.getenv(SLOWEST_STEPS_ENV) : SLOWEST_STEPS_DEFAULT);
+
+        try {
+            return Integer.parseInt(limit.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn(String.format("Invalid number of slowest steps '%s' - using default %s", limit, SLOWEST_STEPS_DEFAULT));
+            return Integer.parseInt(SLOWEST_STEPS_DEFAULT);
+        }
+    }
+
     public static Path getTerminationLog() {
         return Paths.get(System.getProperty(TERMINATION_LOG_PROPERTY,
                 System.getenv(TERMINATION_LOG_ENV) != null ? System.getenv(TERMINATION_LOG_ENV) : TERMINATION_LOG_DEFAULT));
@@ -31,6 +31,7 @@ class TestResult {
     private final String name;
     private final String classname;
     private Throwable cause;
+    private long duration;
 
     public TestResult(UUID id, String name, String classname) {
         this.id = id;
@@ -76,6 +77,18 @@ class TestResult {
         return cause.getMessage();
     }
 
+    /**
+     * Test duration in milliseconds including hooks.
+     * @return
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public void setDuration(long duration) {
+        this.duration = duration;
+    }
+
     public void setCause(Throwable cause) {
         this.cause = cause;
     }
@@ -18,7 +18,9 @@
 package org.citrusframework.yaks.report;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -35,12 +37,18 @@ class TestResults {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    private static final Comparator<TestStepResult> BY_DURATION = Comparator.comparingLong(TestStepResult::getDuration);
+
     private String suiteName = "yaks-test-suite";
 
     private final TestSummary summary = new TestSummary();
 
     private final List<TestResult> tests = new ArrayList<>();
 
+    /** Slowest steps with the fastest one on top so it gets evicted first */
+    private final PriorityQueue<TestStepResult> slowestSteps = new PriorityQueue<>(BY_DURATION);
+    private int slowestStepsLimit;
+
     public void setSuiteName(String suiteName) {
         this.suiteName = suiteName;
     }
@@ -57,11 +65,42 @@ class TestResults {
         return summary;
     }
 
+    /**
+     * Slowest steps of all tests ordered by duration starting with the slowest step.
+     * @return
+     */
+    public List<TestStepResult> getSlowestSteps() {
+        List<TestStepResult> steps = new ArrayList<>(slowestSteps);
+        steps.sort(BY_DURATION.reversed());
+        return steps;
+    }
+
+    @JsonIgnore
+    public void setSlowestStepsLimit(int slowestStepsLimit) {
+        this.slowestStepsLimit = slowestStepsLimit;
+    }
+
     @JsonIgnore
     public void addTestResult(TestResult result) {
         this.tests.add(result);
     }
 
+    /**
+     * Adds step duration. Only the slowest steps up to the configured limit are kept.
+     * @param result
+     */
+    @JsonIgnore
+    public void addStepResult(TestStepResult result) {
+        if (slowestStepsLimit <= 0) {
+            return;
+        }
+
+        slowestSteps.offer(result);
+        if (slowestSteps.size() > slowestStepsLimit) {
+            slowestSteps.poll();
+        }
+    }
+
     @JsonIgnore
     public String toJson() {
         try {
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.report;
+
+/**
+ * Duration of a single step execution.
+ */
+class TestStepResult {
+
+    private final String name;
+    private final String classname;
+    private final String test;
+    private final long duration;
+
+    public TestStepResult(String name, String classname, String test, long duration) {
+        this.name = name;
+        this.classname = classname;
+        this.test = test;
+        this.duration = duration;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getClassname() {
+        return classname;
+    }
+
+    public String getTest() {
+        return test;
+    }
+
+    /**
+     * Step duration in milliseconds.
+     * @return
+     */
+    public long getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.util;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helper methods shared by load and bulk messaging actions to compute and format latency and throughput statistics.
+ * Latencies are measured in nanoseconds and reported in milliseconds.
+ *
+ * @author Christoph Deppisch
+ */
+public final class StatisticsUtils {
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private StatisticsUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Nearest rank percentile of given sorted nanosecond values in milliseconds.
+     * @param sorted
+     * @param percentile
+     * @return
+     */
+    public static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0D;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100.0D * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Number of items per second for given count and elapsed nanoseconds.
+     * @param count
+     * @param elapsed
+     * @return
+     */
+    public static double throughput(long count, long elapsed) {
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds > 0 ? count / seconds : 0.0D;
+    }
+
+    /**
+     * Formats given value with two decimal places.
+     * @param value
+     * @return
+     */
+    public static String format(double value) {
+        return String.format(Locale.US, "%.2f", value);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.util;
+
+/**
+ * Helper methods shared by bulk messaging actions to inspect message templates.
+ *
+ * @author Christoph Deppisch
+ */
+public final class TemplateUtils {
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private TemplateUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Checks if given template uses test variables or functions that need to be resolved per message.
+     * @param template
+     * @return
+     */
+    public static boolean isDynamic(String template) {
+        return template != null && (template.contains("${") || template.contains("citrus:"));
+    }
+}
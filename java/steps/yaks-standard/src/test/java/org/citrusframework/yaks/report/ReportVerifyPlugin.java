@@ -21,6 +21,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.cucumber.plugin.EventListener;
 import io.cucumber.plugin.SummaryPrinter;
 import io.cucumber.plugin.event.EventPublisher;
@@ -44,14 +47,28 @@ public class ReportVerifyPlugin implements SummaryPrinter, EventListener {
                 Assert.assertTrue("Verify termination log exists", Files.exists(TestReporter.getTerminationLog()));
                 List<String> lines = Files.readAllLines(TestReporter.getTerminationLog());
                 Assert.assertEquals(1L, lines.size());
+
+                // durations vary from run to run so verify those separately and remove them before comparing the report
+                JsonNode report = new ObjectMapper().readTree(lines.get(0));
+                JsonNode test = report.get("tests").get(0);
+                Assert.assertTrue("Verify test duration", test.get("duration").asLong(-1L) >= 0L);
+                ((ObjectNode) test).remove("duration");
+
+                JsonNode step = report.get("slowestSteps").get(0);
+                Assert.assertTrue("Verify step duration", step.get("duration").asLong(-1L) >= 0L);
+                ((ObjectNode) step).remove("duration");
+
                 Assert.assertEquals("{" +
                             "\"suiteName\":\"Test reporter\"," +
                             "\"summary\":" +
                                 "{\"passed\":1,\"failed\":0,\"errors\":0,\"skipped\":0,\"pending\":0,\"undefined\":0,\"total\":1}," +
                             "\"tests\":[" +
                                 "{\"name\":\"Success test\",\"classname\":\"report.feature:3\"}" +
+                            "]," +
+                            "\"slowestSteps\":[" +
+                                "{\"name\":\"log 'YAKS rocks!'\",\"classname\":\"report.feature:4\",\"test\":\"Success test\"}" +
                             "]" +
-                        "}", lines.get(0));
+                        "}", report.toString());
             } catch (IOException e) {
                 LOG.warn("Failed to verify termination logs", e);
                 Assert.fail(e.getMessage());
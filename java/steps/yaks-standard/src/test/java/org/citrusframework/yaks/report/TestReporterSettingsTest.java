@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.report;
+
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestReporterSettingsTest {
+
+    @After
+    public void cleanup() {
+        System.clearProperty("yaks.report.slowest.steps");
+    }
+
+    @Test
+    public void shouldReadSlowestStepsLimit() {
+        System.setProperty("yaks.report.slowest.steps", "10");
+        Assertions.assertThat(TestReporter.getSlowestStepsLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldFallbackToDefaultOnInvalidSlowestStepsLimit() {
+        System.setProperty("yaks.report.slowest.steps", "ten");
+        Assertions.assertThat(TestReporter.getSlowestStepsLimit()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class StatisticsUtilsTest {
+
+    @Test
+    public void percentile() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = TimeUnit.MILLISECONDS.toNanos(i + 1);
+        }
+
+        Assert.assertEquals(0.0D, StatisticsUtils.percentile(new long[0], 50), 0.0D);
+        Assert.assertEquals(50.0D, StatisticsUtils.percentile(sorted, 50), 0.0D);
+        Assert.assertEquals(95.0D, StatisticsUtils.percentile(sorted, 95), 0.0D);
+        Assert.assertEquals(100.0D, StatisticsUtils.percentile(sorted, 100), 0.0D);
+        Assert.assertEquals(1.0D, StatisticsUtils.percentile(sorted, 0), 0.0D);
+    }
+
+    @Test
+    public void throughput() {
+        Assert.assertEquals(0.0D, StatisticsUtils.throughput(10, 0L), 0.0D);
+        Assert.assertEquals(20.0D, StatisticsUtils.throughput(10, TimeUnit.MILLISECONDS.toNanos(500)), 0.0D);
+    }
+
+    @Test
+    public void format() {
+        Assert.assertEquals("0.00", StatisticsUtils.format(0.0D));
+        Assert.assertEquals("1234.57", StatisticsUtils.format(1234.5678D));
+    }
+}
@@ -68,7 +68,7 @@ public class MongoDBSteps {
 
         setConnectionSettings(mongoDBContainer, context);
 
-        if (TestContainersSteps.autoRemoveResources) {
+        if (TestContainersSteps.isAutoRemoveResources(context)) {
             runner.run(doFinally()
                     .actions(context -> mongoDBContainer.stop()));
         }
@@ -112,7 +112,7 @@ public class PostgreSQLSteps {
 
         setConnectionSettings(postgreSQLContainer, context);
 
-        if (TestContainersSteps.autoRemoveResources) {
+        if (TestContainersSteps.isAutoRemoveResources(context)) {
             runner.run(doFinally()
                     .actions(context -> postgreSQLContainer.stop()));
         }
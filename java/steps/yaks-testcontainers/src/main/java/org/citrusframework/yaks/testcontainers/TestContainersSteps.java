@@ -21,11 +21,15 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import io.cucumber.java.en.Given;
 
+import static com.consol.citrus.actions.CreateVariablesAction.Builder.createVariable;
+
 public class TestContainersSteps {
 
     protected static final String TESTCONTAINERS_VARIABLE_PREFIX = "YAKS_TESTCONTAINERS_";
+    protected static final String AUTO_REMOVE_RESOURCES_VARIABLE = TESTCONTAINERS_VARIABLE_PREFIX + "AUTO_REMOVE_RESOURCES";
 
     @CitrusResource
     private TestCaseRunner runner;
@@ -33,10 +37,22 @@ public class TestContainersSteps {
     @CitrusFramework
     private Citrus citrus;
 
-    protected static boolean autoRemoveResources = TestContainersSettings.isAutoRemoveResources();
-
     @Given("^Disable auto removal of Testcontainers resources$")
     public void disableAutoRemove() {
-        autoRemoveResources = false;
+        runner.run(createVariable(AUTO_REMOVE_RESOURCES_VARIABLE, "false"));
+    }
+
+    /**
+     * Checks if containers started in the current scenario should be stopped automatically after the test.
+     * Scenario setting is kept as test variable and falls back to the global setting.
+     * @param context
+     * @return
+     */
+    static boolean isAutoRemoveResources(TestContext context) {
+        if (context.getVariables().containsKey(AUTO_REMOVE_RESOURCES_VARIABLE)) {
+            return Boolean.parseBoolean(context.getVariable(AUTO_REMOVE_RESOURCES_VARIABLE));
+        }
+
+        return TestContainersSettings.isAutoRemoveResources();
     }
 }